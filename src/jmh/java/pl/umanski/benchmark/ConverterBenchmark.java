@@ -0,0 +1,128 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.converter.BatchConversionResult;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.ConversionOptions;
+import pl.umanski.converter.DictionarySpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.converter.StyledSpokenTimeConverter;
+import pl.umanski.converter.Utf8SpokenTimeEncoder;
+import pl.umanski.model.Time;
+import pl.umanski.model.TimeRange;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SpokenTimeConverter#convert(Time)} of the available converters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+
+    private static final int DAY_SLOT_MINUTES = 5;
+    private static final int DAY_SLOTS = Time.MINUTES_PER_DAY / DAY_SLOT_MINUTES;
+
+    @Param({"UNIFORM", "SKEWED"})
+    private Distribution distribution;
+
+    private final SpokenTimeConverter british = new BritishSpokenTimeConverter();
+    private final SpokenTimeConverter precomputed = new PrecomputedSpokenTimeConverter();
+    private final SpokenTimeConverter dictionary = new DictionarySpokenTimeConverter();
+    private final StyledSpokenTimeConverter styled = new StyledSpokenTimeConverter();
+    private final ConversionOptions colloquial = ConversionOptions.defaults()
+            .withStyle(ConversionOptions.Style.COLLOQUIAL);
+    private final Utf8SpokenTimeEncoder encoder = Utf8SpokenTimeEncoder.lines(precomputed);
+    private final ByteBuffer output = ByteBuffer.allocate(TimeInputs.SIZE * encoder.maxEncodedLength());
+
+    private Time[] times;
+    private int[] minutesOfDay;
+    private final String[] target = new String[TimeInputs.SIZE];
+    private final TimeRange daySlots = Time.range(Time.of(0, 0), Time.of(0, 0), DAY_SLOT_MINUTES);
+    private final StringBuilder buffer = new StringBuilder(64);
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        times = TimeInputs.times(distribution);
+        minutesOfDay = TimeInputs.minutesOfDay(distribution);
+    }
+
+    @Benchmark
+    public String british() {
+        return british.convert(times[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public String precomputed() {
+        return precomputed.convert(times[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public String dictionary() {
+        return dictionary.convert(times[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public String styled() {
+        return styled.convert(times[cursor++ & TimeInputs.MASK], colloquial);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TimeInputs.SIZE)
+    public BatchConversionResult britishBatch() {
+        return british.convertAll(minutesOfDay, target);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TimeInputs.SIZE)
+    public BatchConversionResult precomputedBatch() {
+        return precomputed.convertAll(minutesOfDay, target);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DAY_SLOTS)
+    public void precomputedRange(Blackhole blackhole) {
+        precomputed.convertRange(daySlots, buffer, (time, spoken) -> blackhole.consume(spoken.length()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DAY_SLOTS)
+    public void precomputedRangeWithPlusMinutes(Blackhole blackhole) {
+        Time time = Time.of(0, 0);
+        for (int i = 0; i < DAY_SLOTS; i++) {
+            blackhole.consume(precomputed.convert(time));
+            time = time.plusMinutes(DAY_SLOT_MINUTES);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TimeInputs.SIZE)
+    public ByteBuffer precomputedLinesAsBytes() {
+        output.clear();
+        for (int minuteOfDay : minutesOfDay) {
+            output.put(("Spoken time: " + precomputed.convert(minuteOfDay) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TimeInputs.SIZE)
+    public ByteBuffer encodedLines() {
+        output.clear();
+        for (int minuteOfDay : minutesOfDay) {
+            encoder.encode(minuteOfDay, output);
+        }
+        return output;
+    }
+
+}
@@ -0,0 +1,53 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.Main;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the command line path of {@link Main}: trimming, parsing, converting and printing each argument.
+ * Output is discarded so that only the work of the application itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndToEndBenchmark {
+
+    private static final int BATCH_SIZE = 256;
+
+    @Param({"UNIFORM", "SKEWED"})
+    private Distribution distribution;
+
+    @Param({"0", "8"})
+    private int invalidPercent;
+
+    private String[] args;
+    private PrintStream systemOut;
+
+    @Setup
+    public void setUp() {
+        args = Arrays.copyOf(TimeInputs.timeStrings(distribution, invalidPercent), BATCH_SIZE);
+        systemOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(systemOut);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void commandLineArguments() {
+        Main.main(args);
+    }
+
+}
@@ -0,0 +1,110 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.converter.EpochSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EpochSpokenTimeConverter} against the naive {@code java.time} path of a {@link ZonedDateTime}
+ * and a {@link Time} per value, on a column of epoch milliseconds spread over a week and sorted as they would be
+ * in a log or a time series, either in one zone or each in one of five zones. Zones per row either share
+ * {@link ZoneId} instances or are parsed from their ids row by row, as when reading a text column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EpochConverterBenchmark {
+
+    private static final int SIZE = 4096;
+    private static final long START = Instant.parse("2024-03-28T00:00:00Z").toEpochMilli();
+    private static final long WEEK_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private static final ZoneId[] ZONES = {
+            ZoneId.of("Europe/London"), ZoneId.of("America/New_York"), ZoneId.of("Asia/Tokyo"),
+            ZoneId.of("Australia/Sydney"), ZoneId.of("UTC")
+    };
+
+    private final SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+    private final EpochSpokenTimeConverter epochConverter = new EpochSpokenTimeConverter(converter);
+
+    private final long[] epochMillis = new long[SIZE];
+    private final ZoneId[] zones = new ZoneId[SIZE];
+    private final ZoneId[] parsedZones = new ZoneId[SIZE];
+    private final String[] target = new String[SIZE];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            epochMillis[i] = START + random.nextLong(WEEK_MILLIS);
+            zones[i] = ZONES[random.nextInt(ZONES.length)];
+            parsedZones[i] = ZoneId.of(zones[i].getId());
+        }
+        Arrays.sort(epochMillis);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] naiveSingleZone() {
+        ZoneId zone = ZONES[0];
+        for (int i = 0; i < SIZE; i++) {
+            ZonedDateTime dateTime = Instant.ofEpochMilli(epochMillis[i]).atZone(zone);
+            target[i] = converter.convert(new Time(dateTime.getHour(), dateTime.getMinute()));
+        }
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] bulkSingleZone() {
+        epochConverter.convertAll(epochMillis, ZONES[0], target);
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] naiveZonePerRow() {
+        for (int i = 0; i < SIZE; i++) {
+            ZonedDateTime dateTime = Instant.ofEpochMilli(epochMillis[i]).atZone(zones[i]);
+            target[i] = converter.convert(new Time(dateTime.getHour(), dateTime.getMinute()));
+        }
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] bulkZonePerRow() {
+        epochConverter.convertAll(epochMillis, zones, target);
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] naiveParsedZonePerRow() {
+        for (int i = 0; i < SIZE; i++) {
+            ZonedDateTime dateTime = Instant.ofEpochMilli(epochMillis[i]).atZone(parsedZones[i]);
+            target[i] = converter.convert(new Time(dateTime.getHour(), dateTime.getMinute()));
+        }
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] bulkParsedZonePerRow() {
+        epochConverter.convertAll(epochMillis, parsedZones, target);
+        return target;
+    }
+
+}
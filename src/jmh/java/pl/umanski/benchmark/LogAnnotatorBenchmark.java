@@ -0,0 +1,61 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.batch.LogAnnotator;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LogAnnotator} over 1 MiB of typical log lines, each with a timestamp that is left alone and
+ * some with a time that is annotated. The score is the time per MiB, so 1,000,000 divided by it gives MiB/s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LogAnnotatorBenchmark {
+
+    private static final int TEXT_SIZE = 1 << 20;
+
+    private static final String[] MESSAGES = {
+            "c.e.scheduler.JobRunner - Job nightly-export scheduled at %d:%02d finished in 1532 ms",
+            "c.e.http.AccessLog - GET /api/v1/orders?from=2024-03-01 status=200 bytes=5123 took=12ms",
+            "c.e.cache.Evictor - Evicted 312 entries, next run at %d:%02d",
+            "c.e.db.Pool - Connection pool stats: active=4 idle=12 waiting=0 max=32",
+    };
+
+    @Param({"ANNOTATE", "REPLACE"})
+    private LogAnnotator.Mode mode;
+
+    private byte[] text;
+    private LogAnnotator annotator;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder log = new StringBuilder(TEXT_SIZE + 256);
+        while (log.length() < TEXT_SIZE) {
+            log.append(String.format("2024-03-01 %02d:%02d:%02d.%03d INFO [worker-%d] ", random.nextInt(24),
+                    random.nextInt(60), random.nextInt(60), random.nextInt(1000), random.nextInt(16)));
+            String message = MESSAGES[random.nextInt(MESSAGES.length)];
+            log.append(String.format(message, random.nextInt(24), random.nextInt(60))).append('\n');
+        }
+        log.setLength(TEXT_SIZE);
+        text = log.toString().getBytes(StandardCharsets.US_ASCII);
+        annotator = new LogAnnotator(new PrecomputedSpokenTimeConverter(), mode);
+    }
+
+    @Benchmark
+    public long annotate() throws IOException {
+        return annotator.annotate(new ByteArrayInputStream(text), OutputStream.nullOutputStream());
+    }
+
+}
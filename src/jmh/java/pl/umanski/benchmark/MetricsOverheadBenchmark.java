@@ -0,0 +1,65 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.metrics.ConversionMetrics;
+import pl.umanski.parser.TimeParser;
+import pl.umanski.strategy.StrategyRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ConversionMetrics} on the parse and convert path of the command line mode,
+ * with valid input only so that no exception is thrown: switched off, switched on with the default latency
+ * sampling, on with every operation timed, and on with the default sampling under contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        final SpokenTimeConverter plain = new BritishSpokenTimeConverter();
+        final ConversionMetrics metrics = new ConversionMetrics();
+        final SpokenTimeConverter instrumented = metrics.instrument(plain);
+        final ConversionMetrics timedMetrics = new ConversionMetrics(StrategyRegistry.defaultRegistry(), 1);
+        final SpokenTimeConverter timed = timedMetrics.instrument(plain);
+        final String[] inputs = TimeInputs.timeStrings(Distribution.SKEWED, 0);
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+    }
+
+    @Benchmark
+    public String disabled(Shared shared, Cursor cursor) {
+        return shared.plain.convert(TimeParser.parse(shared.inputs[cursor.next++ & TimeInputs.MASK]));
+    }
+
+    @Benchmark
+    public String enabled(Shared shared, Cursor cursor) {
+        return shared.instrumented.convert(shared.metrics.parse(shared.inputs[cursor.next++ & TimeInputs.MASK]));
+    }
+
+    @Benchmark
+    public String enabledTimingEveryOperation(Shared shared, Cursor cursor) {
+        return shared.timed.convert(shared.timedMetrics.parse(shared.inputs[cursor.next++ & TimeInputs.MASK]));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String enabledContended(Shared shared, Cursor cursor) {
+        return shared.instrumented.convert(shared.metrics.parse(shared.inputs[cursor.next++ & TimeInputs.MASK]));
+    }
+
+}
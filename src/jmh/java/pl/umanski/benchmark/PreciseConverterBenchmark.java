@@ -0,0 +1,76 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.converter.BritishPreciseSpokenTimeConverter;
+import pl.umanski.converter.CompactPreciseSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.PreciseSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.PreciseTime;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of times with seconds against the minute-only table of {@link PrecomputedSpokenTimeConverter}.
+ * {@code fullTable} looks phrases up in a table of all 86,400 phrases of a day, the layout that
+ * {@link CompactPreciseSpokenTimeConverter} avoids; run with {@code -prof gc} to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreciseConverterBenchmark {
+
+    @Param({"UNIFORM", "SKEWED"})
+    private Distribution distribution;
+
+    private final SpokenTimeConverter minutes = new PrecomputedSpokenTimeConverter();
+    private final PreciseSpokenTimeConverter british = new BritishPreciseSpokenTimeConverter();
+    private final PreciseSpokenTimeConverter compact = new CompactPreciseSpokenTimeConverter();
+
+    private final StringBuilder target = new StringBuilder(64);
+    private String[] fullTable;
+    private int[] minutesOfDay;
+    private int[] secondsOfDay;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        minutesOfDay = TimeInputs.minutesOfDay(distribution);
+        secondsOfDay = TimeInputs.secondsOfDay(distribution);
+        fullTable = new String[PreciseTime.SECONDS_PER_DAY];
+        for (int secondOfDay = 0; secondOfDay < PreciseTime.SECONDS_PER_DAY; secondOfDay++) {
+            fullTable[secondOfDay] = british.convert(secondOfDay);
+        }
+    }
+
+    @Benchmark
+    public String minuteTable() {
+        return minutes.convert(minutesOfDay[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public String british() {
+        return british.convert(secondsOfDay[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public String compact() {
+        return compact.convert(secondsOfDay[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public StringBuilder compactTo() {
+        target.setLength(0);
+        return compact.convertTo(PreciseTime.ofSecondOfDay(secondsOfDay[cursor++ & TimeInputs.MASK]), target);
+    }
+
+    @Benchmark
+    public String fullTable() {
+        return fullTable[secondsOfDay[cursor++ & TimeInputs.MASK]];
+    }
+
+}
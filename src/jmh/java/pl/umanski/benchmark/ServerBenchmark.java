@@ -0,0 +1,87 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.server.ServerConfig;
+import pl.umanski.server.SpokenTimeServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures request throughput of {@link SpokenTimeServer} over keep-alive connections on the loopback interface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        SpokenTimeServer server;
+        String base;
+
+        @Setup
+        public void setUp() throws IOException {
+            server = SpokenTimeServer.start(new PrecomputedSpokenTimeConverter(),
+                    new ServerConfig("127.0.0.1", 0, ServerConfig.DEFAULT_MAX_REQUEST_BYTES, 30));
+            base = "http://127.0.0.1:" + server.address().getPort();
+        }
+
+        @TearDown
+        public void tearDown() {
+            server.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest[] singleRequests;
+        HttpRequest batchRequest;
+        int cursor;
+
+        @Setup
+        public void setUp(Server server) {
+            String[] times = TimeInputs.timeStrings(Distribution.SKEWED, 0);
+            singleRequests = new HttpRequest[TimeInputs.SIZE];
+            for (int i = 0; i < TimeInputs.SIZE; i++) {
+                singleRequests[i] = HttpRequest.newBuilder(URI.create(server.base + "/convert?time=" + times[i])).build();
+            }
+            batchRequest = HttpRequest.newBuilder(URI.create(server.base + "/convert/batch"))
+                    .POST(HttpRequest.BodyPublishers.ofString(String.join("\n", times)))
+                    .build();
+        }
+
+        @TearDown
+        public void tearDown() {
+            client.close();
+        }
+
+    }
+
+    @Benchmark
+    @Threads(4)
+    public HttpResponse<byte[]> single(Client client) throws Exception {
+        HttpRequest request = client.singleRequests[client.cursor++ & TimeInputs.MASK];
+        return client.client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(TimeInputs.SIZE)
+    public HttpResponse<byte[]> batch(Client client) throws Exception {
+        return client.client.send(client.batchRequest, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+}
@@ -0,0 +1,55 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.parser.SpokenTimeParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SpokenTimeParser} over British phrases, exactly as produced by the converter
+ * and in upper case, as found in transcripts. Run with {@code -prof gc} to confirm that parsing does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpokenTimeParserBenchmark {
+
+    @Param({"UNIFORM", "SKEWED"})
+    private Distribution distribution;
+
+    private SpokenTimeParser parser;
+    private String[] phrases;
+    private String[] upperCasePhrases;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SpokenTimeConverter converter = new BritishSpokenTimeConverter();
+        parser = new SpokenTimeParser(converter);
+
+        int[] minutesOfDay = TimeInputs.minutesOfDay(distribution);
+        phrases = new String[minutesOfDay.length];
+        upperCasePhrases = new String[minutesOfDay.length];
+        for (int i = 0; i < minutesOfDay.length; i++) {
+            phrases[i] = converter.convert(minutesOfDay[i]);
+            upperCasePhrases[i] = phrases[i].toUpperCase();
+        }
+    }
+
+    @Benchmark
+    public int parse() {
+        return parser.parseMinuteOfDay(phrases[cursor++ & TimeInputs.MASK]);
+    }
+
+    @Benchmark
+    public int parseUpperCase() {
+        return parser.parseMinuteOfDay(upperCasePhrases[cursor++ & TimeInputs.MASK]);
+    }
+
+}
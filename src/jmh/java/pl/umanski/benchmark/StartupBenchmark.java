@@ -0,0 +1,116 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching {@code java -jar} until the first spoken time is printed,
+ * for a time given as an argument, typed at the interactive prompt and piped into pipe mode, with and without
+ * the AppCDS archive created by the {@code appcds} build profile.
+ *
+ * <p>Build the application first with {@code mvn -Pappcds package}. The jar, the archive and the
+ * launcher default to the build output and the running JDK and can be changed with the system
+ * properties {@code startup.jar}, {@code startup.archive} and {@code startup.java}, for example
+ * {@code -jvmArgs -Dstartup.java=target/runtime/bin/java} to measure the image of the {@code jlink} profile.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Thread)
+public class StartupBenchmark {
+
+    private static final String TIME = "7:30";
+    private static final String RESULT_PREFIX = "Spoken time:";
+
+    public enum Input {
+        ARGS,
+        INTERACTIVE,
+        PIPE
+    }
+
+    public enum Sharing {
+        DEFAULT,
+        APPCDS
+    }
+
+    @Param({"ARGS", "INTERACTIVE", "PIPE"})
+    private Input input;
+
+    @Param({"DEFAULT", "APPCDS"})
+    private Sharing sharing;
+
+    private List<String> command;
+    private Process process;
+
+    @Setup
+    public void setUp() {
+        Path jar = Path.of(System.getProperty("startup.jar", "target/british-spoken-time-1.0-SNAPSHOT.jar"));
+        Path archive = Path.of(System.getProperty("startup.archive", "target/british-spoken-time-1.0-SNAPSHOT.jsa"));
+        String java = System.getProperty("startup.java",
+                Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Jar not found: " + jar + ", build it with mvn package");
+        }
+        if (sharing == Sharing.APPCDS && !Files.isRegularFile(archive)) {
+            throw new IllegalStateException("Archive not found: " + archive + ", build it with mvn -Pappcds package");
+        }
+
+        command = new ArrayList<>();
+        command.add(java);
+        if (sharing == Sharing.APPCDS) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.add("-jar");
+        command.add(jar.toString());
+        if (input == Input.ARGS) {
+            command.add(TIME);
+        } else if (input == Input.PIPE) {
+            command.add("--pipe");
+        }
+    }
+
+    @Benchmark
+    public String firstOutput() throws IOException {
+        process = new ProcessBuilder(command).start();
+        if (input != Input.ARGS) {
+            try (OutputStream stdin = process.getOutputStream()) {
+                String lines = input == Input.INTERACTIVE ? TIME + "\nquit\n" : TIME + "\n";
+                stdin.write(lines.getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+
+        BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        for (String line = output.readLine(); line != null; line = output.readLine()) {
+            if (line.contains(RESULT_PREFIX)) {
+                return line;
+            }
+        }
+        throw new IllegalStateException("No spoken time printed by " + command);
+    }
+
+    /**
+     * Waits for the application to exit outside of the measured time.
+     */
+    @TearDown(Level.Invocation)
+    public void awaitExit() throws IOException, InterruptedException {
+        if (process != null) {
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            process.waitFor();
+            process = null;
+        }
+    }
+
+}
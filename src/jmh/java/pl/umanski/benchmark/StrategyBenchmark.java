@@ -0,0 +1,94 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TimeFormatStrategy#format(Time)} of every strategy over the times it handles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StrategyBenchmark {
+
+    private final TimeFormatStrategy exactHour = new ExactHourStrategy();
+    private final TimeFormatStrategy past = new PastTimeStrategy();
+    private final TimeFormatStrategy digital = new DigitalTimeStrategy();
+    private final TimeFormatStrategy to = new ToTimeStrategy();
+
+    private Time[] exactHourTimes;
+    private Time[] pastTimes;
+    private Time[] digitalTimes;
+    private Time[] toTimes;
+    private final StringBuilder target = new StringBuilder(64);
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Time[] times = TimeInputs.times(TimeInputs.Distribution.UNIFORM);
+        exactHourTimes = handledBy(exactHour, times);
+        pastTimes = handledBy(past, times);
+        digitalTimes = handledBy(digital, times);
+        toTimes = handledBy(to, times);
+    }
+
+    @Benchmark
+    public String exactHour() {
+        return exactHour.format(next(exactHourTimes));
+    }
+
+    @Benchmark
+    public String past() {
+        return past.format(next(pastTimes));
+    }
+
+    @Benchmark
+    public String digital() {
+        return digital.format(next(digitalTimes));
+    }
+
+    @Benchmark
+    public String to() {
+        return to.format(next(toTimes));
+    }
+
+    @Benchmark
+    public StringBuilder pastTo() {
+        target.setLength(0);
+        return past.formatTo(next(pastTimes), target);
+    }
+
+    @Benchmark
+    public StringBuilder toTo() {
+        target.setLength(0);
+        return to.formatTo(next(toTimes), target);
+    }
+
+    private Time next(Time[] times) {
+        int index = cursor++;
+        if (index >= times.length) {
+            index = 0;
+            cursor = 1;
+        }
+        return times[index];
+    }
+
+    private static Time[] handledBy(TimeFormatStrategy strategy, Time[] times) {
+        Time[] handled = Arrays.stream(times).filter(strategy::canHandle).toArray(Time[]::new);
+        if (handled.length > 0) {
+            return handled;
+        }
+        // Exact hours are rare in a uniform sample, so fall back to every hour of the day
+        Time[] everyHour = new Time[24];
+        Arrays.setAll(everyHour, hour -> new Time(hour, 0));
+        return everyHour;
+    }
+
+}
@@ -0,0 +1,110 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.parser.TimeParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parse-and-convert throughput of shared converters with an increasing number of threads.
+ * Every thread works on its own copy of the inputs, so any loss of scaling comes from the converters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThreadScalingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Converters {
+
+        final SpokenTimeConverter british = new BritishSpokenTimeConverter();
+        final SpokenTimeConverter precomputed = new PrecomputedSpokenTimeConverter();
+
+    }
+
+    @State(Scope.Thread)
+    public static class Inputs {
+
+        @Param({"SKEWED"})
+        Distribution distribution;
+
+        @Param({"8"})
+        int invalidPercent;
+
+        String[] inputs;
+        int cursor;
+
+        @Setup
+        public void setUp() {
+            inputs = TimeInputs.timeStrings(distribution, invalidPercent);
+        }
+
+        String next() {
+            return inputs[cursor++ & TimeInputs.MASK];
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String british1(Converters converters, Inputs inputs) {
+        return convert(converters.british, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String british2(Converters converters, Inputs inputs) {
+        return convert(converters.british, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String british4(Converters converters, Inputs inputs) {
+        return convert(converters.british, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String britishMax(Converters converters, Inputs inputs) {
+        return convert(converters.british, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String precomputed1(Converters converters, Inputs inputs) {
+        return convert(converters.precomputed, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String precomputed2(Converters converters, Inputs inputs) {
+        return convert(converters.precomputed, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String precomputed4(Converters converters, Inputs inputs) {
+        return convert(converters.precomputed, inputs.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String precomputedMax(Converters converters, Inputs inputs) {
+        return convert(converters.precomputed, inputs.next());
+    }
+
+    private static String convert(SpokenTimeConverter converter, String input) {
+        try {
+            return converter.convert(TimeParser.parse(input));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+}
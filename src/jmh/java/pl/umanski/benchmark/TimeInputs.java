@@ -0,0 +1,127 @@
+package pl.umanski.benchmark;
+
+import pl.umanski.model.Time;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible benchmark inputs with realistic distributions of times.
+ */
+public final class TimeInputs {
+
+    /**
+     * Number of inputs generated for a benchmark state; a power of two so the cursor can wrap with a mask.
+     */
+    public static final int SIZE = 4096;
+
+    /**
+     * Mask used to wrap an input cursor.
+     */
+    public static final int MASK = SIZE - 1;
+
+    /**
+     * Malformed or out-of-range inputs mixed into the valid ones.
+     */
+    private static final String[] INVALID = {
+            "25:00", "7:60", "24:30", "abc", "12-30", "1:5", "123:45", "noon", "", "  "
+    };
+
+    private static final long SEED = 0x5EED_2024L;
+
+    /**
+     * Distribution of the minutes of the day among the generated inputs.
+     */
+    public enum Distribution {
+        /**
+         * Every minute of the day is equally likely.
+         */
+        UNIFORM,
+        /**
+         * Production-like mix: mostly daytime hours, with round quarter hours strongly preferred.
+         */
+        SKEWED
+    }
+
+    private TimeInputs() {
+    }
+
+    /**
+     * Generates minutes of the day (0-1439).
+     *
+     * @param distribution the distribution of the minutes
+     * @return {@link #SIZE} minutes of the day
+     */
+    public static int[] minutesOfDay(Distribution distribution) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] minutes = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            minutes[i] = nextMinuteOfDay(random, distribution);
+        }
+        return minutes;
+    }
+
+    /**
+     * Generates times.
+     *
+     * @param distribution the distribution of the times
+     * @return {@link #SIZE} times
+     */
+    public static Time[] times(Distribution distribution) {
+        int[] minutes = minutesOfDay(distribution);
+        Time[] times = new Time[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            times[i] = Time.ofMinuteOfDay(minutes[i]);
+        }
+        return times;
+    }
+
+    /**
+     * Generates seconds of the day (0-86399): minutes of the given distribution with uniformly distributed seconds.
+     *
+     * @param distribution the distribution of the minutes
+     * @return {@link #SIZE} seconds of the day
+     */
+    public static int[] secondsOfDay(Distribution distribution) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] seconds = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            seconds[i] = nextMinuteOfDay(random, distribution) * 60 + random.nextInt(60);
+        }
+        return seconds;
+    }
+
+    /**
+     * Generates time strings in {@code H:MM} or {@code HH:MM} format, a share of which is invalid.
+     *
+     * @param distribution   the distribution of the valid times
+     * @param invalidPercent percentage (0-100) of invalid strings
+     * @return {@link #SIZE} time strings
+     */
+    public static String[] timeStrings(Distribution distribution, int invalidPercent) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            if (random.nextInt(100) < invalidPercent) {
+                inputs[i] = INVALID[random.nextInt(INVALID.length)];
+                continue;
+            }
+            int minuteOfDay = nextMinuteOfDay(random, distribution);
+            int hour = minuteOfDay / 60;
+            int minute = minuteOfDay % 60;
+            String hourText = hour < 10 && random.nextBoolean() ? "0" + hour : String.valueOf(hour);
+            inputs[i] = hourText + ":" + (minute < 10 ? "0" : "") + minute;
+        }
+        return inputs;
+    }
+
+    private static int nextMinuteOfDay(SplittableRandom random, Distribution distribution) {
+        if (distribution == Distribution.UNIFORM) {
+            return random.nextInt(24 * 60);
+        }
+
+        int hour = random.nextInt(100) < 80 ? 7 + random.nextInt(12) : random.nextInt(24);
+        int minute = random.nextInt(100) < 60 ? 15 * random.nextInt(4) : random.nextInt(60);
+        return hour * 60 + minute;
+    }
+
+}
@@ -0,0 +1,52 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import pl.umanski.benchmark.TimeInputs.Distribution;
+import pl.umanski.parser.TimeParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TimeParser#parse(String)} and {@link TimeParser#tryParseMinuteOfDay(CharSequence)}
+ * over a mix of valid and invalid time strings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeParserBenchmark {
+
+    @Param({"UNIFORM", "SKEWED"})
+    private Distribution distribution;
+
+    @Param({"0", "8"})
+    private int invalidPercent;
+
+    private String[] inputs;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        inputs = TimeInputs.timeStrings(distribution, invalidPercent);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        String input = inputs[cursor++ & TimeInputs.MASK];
+        try {
+            blackhole.consume(TimeParser.parse(input));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void tryParse(Blackhole blackhole) {
+        int result = TimeParser.tryParseMinuteOfDay(inputs[cursor++ & TimeInputs.MASK]);
+        blackhole.consume(TimeParser.isError(result) ? TimeParser.errorReason(result) : result);
+    }
+
+}
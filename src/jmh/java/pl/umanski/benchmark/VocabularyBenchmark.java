@@ -0,0 +1,51 @@
+package pl.umanski.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.umanski.vocabulary.BritishTimeVocabulary;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link BritishTimeVocabulary} lookups used by every strategy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VocabularyBenchmark {
+
+    private static final int[] MINUTES = {
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20,
+            21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 36, 37, 38, 39
+    };
+
+    private int cursor;
+
+    @Benchmark
+    public String twelveHourFormatWord() {
+        int hour = next(24);
+        return BritishTimeVocabulary.getTwelveHourFormatWord(hour % 12 == 0 ? 1 : hour);
+    }
+
+    @Benchmark
+    public String minuteWord() {
+        return BritishTimeVocabulary.getMinuteWord(MINUTES[next(MINUTES.length)]);
+    }
+
+    @Benchmark
+    public String period() {
+        return BritishTimeVocabulary.getPeriod(next(24));
+    }
+
+    private int next(int bound) {
+        int index = cursor++;
+        if (index >= bound) {
+            index = 0;
+            cursor = 1;
+        }
+        return index;
+    }
+
+}
@@ -1,31 +1,316 @@
 package pl.umanski;
 
+import pl.umanski.batch.BatchSummary;
+import pl.umanski.batch.LogAnnotator;
+import pl.umanski.batch.MappedFileConverter;
+import pl.umanski.batch.ParallelFileConverter;
+import pl.umanski.batch.StreamConverter;
 import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
 import pl.umanski.converter.SpokenTimeConverter;
-import pl.umanski.model.Time;
+import pl.umanski.metrics.ConversionMetrics;
 import pl.umanski.parser.TimeParser;
+import pl.umanski.server.ServerConfig;
+import pl.umanski.server.SpokenTimeServer;
 
-import java.util.Scanner;
+import javax.management.JMException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.function.ToIntFunction;
 
 /**
  * Main class for the British Spoken Time Converter application.
- * Supports both interactive CLI mode and command line argument processing.
+ * Supports interactive CLI mode, command line argument processing, conversion of standard input fed
+ * through a pipe, annotation of times inside free text, batch conversion of files and an HTTP conversion service.
+ * With {@code -Dspokentime.metrics=true} parsing and conversion are measured by {@link ConversionMetrics},
+ * registered as a JMX MBean and, in server mode, served in the Prometheus text format.
  */
 public class Main {
 
+    private static final String INPUT_OPTION = "--input";
+    private static final String OUTPUT_OPTION = "--output";
+    private static final String THREADS_OPTION = "--threads";
+    private static final String SERVER_OPTION = "--server";
+    private static final String HOST_OPTION = "--host";
+    private static final String PORT_OPTION = "--port";
+    private static final String MAX_REQUEST_BYTES_OPTION = "--max-request-bytes";
+    private static final String KEEP_ALIVE_OPTION = "--keep-alive";
+    private static final String PIPE_OPTION = "--pipe";
+    private static final String FLUSH_LINES_OPTION = "--flush-lines";
+    private static final String ANNOTATE_OPTION = "--annotate";
+    private static final String REPLACE_OPTION = "--replace";
+
+    /**
+     * System property enabling metrics. Read once, so that disabled metrics leave the hot path untouched.
+     */
+    static final String METRICS_PROPERTY = "spokentime.metrics";
+    private static final boolean METRICS_ENABLED = Boolean.getBoolean(METRICS_PROPERTY);
+
+    /**
+     * System property starting pipe mode when no arguments are given, if set to {@code true}. Pipe mode is opt-in,
+     * as the console of the JVM cannot tell a redirected standard input from a redirected standard output.
+     */
+    static final String PIPE_PROPERTY = "spokentime.pipe";
+
+    private static final String BATCH_USAGE = INPUT_OPTION + " <file> " + OUTPUT_OPTION + " <file> ["
+            + THREADS_OPTION + " <count>]";
+    private static final String SERVER_USAGE = SERVER_OPTION + " [" + HOST_OPTION + " <address>] ["
+            + PORT_OPTION + " <port>] [" + MAX_REQUEST_BYTES_OPTION + " <bytes>] [" + KEEP_ALIVE_OPTION + " <seconds>]";
+    private static final String PIPE_USAGE = PIPE_OPTION + " [" + FLUSH_LINES_OPTION + " <count>]";
+    private static final String ANNOTATE_USAGE = ANNOTATE_OPTION + " [" + REPLACE_OPTION + "]";
+
     /**
      * Main entry point of the application.
      *
-     * @param args Command line arguments containing time strings to convert.
-     *             If no arguments provided, starts interactive mode.
+     * @param args Command line arguments containing time strings to convert,
+     *             or {@code --input <file> --output <file> [--threads <count>]} to convert a file
+     *             with one time per line,
+     *             or {@code --server [--host <address>] [--port <port>] [--max-request-bytes <bytes>]
+     *             [--keep-alive <seconds>]} to serve conversions over HTTP,
+     *             or {@code --pipe [--flush-lines <count>]} to convert standard input without prompts,
+     *             or {@code --annotate [--replace]} to add spoken times to the times inside standard input.
+     *             If no arguments provided, starts pipe mode when {@link #PIPE_PROPERTY} is {@code true}
+     *             and interactive mode otherwise.
      */
     public static void main(String[] args) {
-        SpokenTimeConverter converter = new BritishSpokenTimeConverter();
+        if (args.length > 0 && SERVER_OPTION.equals(args[0])) {
+            runServerMode(args);
+            return;
+        }
+        if (args.length > 0 && ANNOTATE_OPTION.equals(args[0])) {
+            runAnnotateMode(args);
+            return;
+        }
+        boolean pipe = args.length > 0 ? PIPE_OPTION.equals(args[0]) : isPipeModeEnabled();
+        if (!pipe && args.length > 0 && args[0].startsWith("--")) {
+            runBatchMode(args);
+            return;
+        }
 
-        if (args.length > 0) {
-            processCommandLineArguments(args, converter);
+        SpokenTimeConverter converter = pipe ? new PrecomputedSpokenTimeConverter() : new BritishSpokenTimeConverter();
+        ToIntFunction<String> parser = TimeParser::tryParseMinuteOfDay;
+        if (METRICS_ENABLED) {
+            ConversionMetrics metrics = registerMetrics();
+            converter = metrics.instrument(converter);
+            parser = metrics::tryParseMinuteOfDay;
+        }
+
+        if (pipe) {
+            runPipeMode(args, parser, converter);
+        } else if (args.length > 0) {
+            processCommandLineArguments(args, parser, converter);
         } else {
-            runInteractiveMode(converter);
+            runInteractiveMode(parser, converter);
+        }
+    }
+
+    /**
+     * Determines if the application without arguments should run in pipe mode, as chosen by {@link #PIPE_PROPERTY}.
+     */
+    private static boolean isPipeModeEnabled() {
+        return Boolean.getBoolean(PIPE_PROPERTY);
+    }
+
+    /**
+     * Creates the metrics of the application and registers them as a JMX MBean.
+     * Prints an error message if the registration fails, the metrics are collected nonetheless.
+     *
+     * @return the metrics
+     */
+    private static ConversionMetrics registerMetrics() {
+        ConversionMetrics metrics = new ConversionMetrics();
+        try {
+            metrics.registerMBean();
+        } catch (JMException e) {
+            System.out.println("Error: Cannot register metrics: " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    /**
+     * Converts the file given by {@code --input} into the file given by {@code --output},
+     * using {@code --threads} threads when more than one is requested.
+     * Prints a summary when done, or an error message if the options or files are invalid.
+     *
+     * @param args Command line options
+     */
+    private static void runBatchMode(String[] args) {
+        Path input = null;
+        Path output = null;
+        int threads = 1;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (!INPUT_OPTION.equals(option) && !OUTPUT_OPTION.equals(option) && !THREADS_OPTION.equals(option)) {
+                printUsageError("Unknown option: " + option, BATCH_USAGE);
+                return;
+            }
+            if (i + 1 == args.length) {
+                printUsageError("Missing value for option: " + option, BATCH_USAGE);
+                return;
+            }
+            String value = args[++i];
+            switch (option) {
+                case INPUT_OPTION -> input = Path.of(value);
+                case OUTPUT_OPTION -> output = Path.of(value);
+                default -> threads = parseNumber(value);
+            }
+            if (threads < 1) {
+                printUsageError("Invalid value for option " + THREADS_OPTION + ": " + value, BATCH_USAGE);
+                return;
+            }
+        }
+
+        if (input == null || output == null) {
+            printUsageError("Both " + INPUT_OPTION + " and " + OUTPUT_OPTION + " are required", BATCH_USAGE);
+            return;
+        }
+
+        try {
+            SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+            BatchSummary summary = threads == 1
+                    ? new MappedFileConverter(converter).convert(input, output)
+                    : new ParallelFileConverter(converter, threads).convert(input, output);
+            System.out.println("Processed " + summary.lines() + " lines, " + summary.errors() + " errors");
+        } catch (IOException e) {
+            System.out.println("Error: Cannot convert file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the HTTP conversion service with the settings given by the options, falling back to the defaults
+     * of {@link ServerConfig}. The service keeps running after this method returns, until the JVM is shut down.
+     * Prints the address it listens on, or an error message if the options are invalid or the port is taken.
+     *
+     * @param args Command line options, starting with {@code --server}
+     */
+    private static void runServerMode(String[] args) {
+        ServerConfig defaults = ServerConfig.defaults();
+        String host = defaults.host();
+        int port = defaults.port();
+        int maxRequestBytes = defaults.maxRequestBytes();
+        int keepAliveSeconds = defaults.keepAliveSeconds();
+
+        for (int i = 1; i < args.length; i++) {
+            String option = args[i];
+            if (!HOST_OPTION.equals(option) && !PORT_OPTION.equals(option)
+                    && !MAX_REQUEST_BYTES_OPTION.equals(option) && !KEEP_ALIVE_OPTION.equals(option)) {
+                printUsageError("Unknown option: " + option, SERVER_USAGE);
+                return;
+            }
+            if (i + 1 == args.length) {
+                printUsageError("Missing value for option: " + option, SERVER_USAGE);
+                return;
+            }
+            String value = args[++i];
+            int number = HOST_OPTION.equals(option) ? 0 : parseNumber(value);
+            if (number < 0) {
+                printUsageError("Invalid value for option " + option + ": " + value, SERVER_USAGE);
+                return;
+            }
+            switch (option) {
+                case HOST_OPTION -> host = value;
+                case PORT_OPTION -> port = number;
+                case MAX_REQUEST_BYTES_OPTION -> maxRequestBytes = number;
+                default -> keepAliveSeconds = number;
+            }
+        }
+
+        ServerConfig config;
+        try {
+            config = new ServerConfig(host, port, maxRequestBytes, keepAliveSeconds);
+        } catch (IllegalArgumentException e) {
+            printUsageError(e.getMessage(), SERVER_USAGE);
+            return;
+        }
+
+        try {
+            SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+            SpokenTimeServer server = METRICS_ENABLED
+                    ? SpokenTimeServer.start(converter, config, registerMetrics())
+                    : SpokenTimeServer.start(converter, config);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            System.out.println("Listening on http://" + server.address().getHostString() + ":"
+                    + server.address().getPort());
+        } catch (IOException e) {
+            System.out.println("Error: Cannot start server: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts standard input into standard output without banners or prompts, flushing the output
+     * every {@code --flush-lines} lines when given, and only when its buffer is full and at the end otherwise.
+     * Errors, progress and the summary are printed to standard error, so that standard output holds results only.
+     *
+     * @param args      Command line options, starting with {@code --pipe}, or none when pipe mode was enabled
+     * @param parser    The time parser to use
+     * @param converter The time converter to use
+     */
+    private static void runPipeMode(String[] args, ToIntFunction<String> parser, SpokenTimeConverter converter) {
+        int flushLines = 0;
+
+        for (int i = 1; i < args.length; i++) {
+            String option = args[i];
+            if (!FLUSH_LINES_OPTION.equals(option)) {
+                printPipeUsageError("Unknown option: " + option);
+                return;
+            }
+            if (i + 1 == args.length) {
+                printPipeUsageError("Missing value for option: " + option);
+                return;
+            }
+            String value = args[++i];
+            flushLines = parseNumber(value);
+            if (flushLines < 0) {
+                printPipeUsageError("Invalid value for option " + option + ": " + value);
+                return;
+            }
+        }
+
+        try {
+            new StreamConverter(parser, converter, flushLines).convert(System.in, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Error: Cannot convert standard input: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies standard input to standard output with the spoken form added after every time found in the text,
+     * or in place of the time with {@code --replace}. Errors are printed to standard error.
+     *
+     * @param args Command line options, starting with {@code --annotate}
+     */
+    private static void runAnnotateMode(String[] args) {
+        LogAnnotator.Mode mode = LogAnnotator.Mode.ANNOTATE;
+
+        for (int i = 1; i < args.length; i++) {
+            if (!REPLACE_OPTION.equals(args[i])) {
+                printStandardErrorUsage("Unknown option: " + args[i], ANNOTATE_USAGE);
+                return;
+            }
+            mode = LogAnnotator.Mode.REPLACE;
+        }
+
+        try {
+            new LogAnnotator(new PrecomputedSpokenTimeConverter(), mode).annotate(System.in, System.out);
+        } catch (IOException e) {
+            System.err.println("Error: Cannot annotate standard input: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a non-negative number given as an option value.
+     *
+     * @param value The option value
+     * @return the number, or -1 if the value is not a non-negative number
+     */
+    private static int parseNumber(String value) {
+        try {
+            return Math.max(-1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return -1;
         }
     }
 
@@ -34,11 +319,13 @@ public class Main {
      * Each argument is processed independently and results are printed immediately.
      *
      * @param args      Array of time strings to process
+     * @param parser    The time parser to use
      * @param converter The time converter to use
      */
-    private static void processCommandLineArguments(String[] args, SpokenTimeConverter converter) {
+    private static void processCommandLineArguments(String[] args, ToIntFunction<String> parser,
+                                                    SpokenTimeConverter converter) {
         for (String timeInput : args) {
-            processTime(timeInput.trim(), converter);
+            processTime(timeInput.trim(), parser, converter);
         }
     }
 
@@ -46,28 +333,30 @@ public class Main {
      * Runs the interactive CLI mode where users can input times interactively.
      * Continues until user enters 'quit' or input stream becomes unavailable.
      *
+     * @param parser    The time parser to use
      * @param converter The time converter to use
      */
-    private static void runInteractiveMode(SpokenTimeConverter converter) {
-        try (Scanner scanner = new Scanner(System.in)) {
+    private static void runInteractiveMode(ToIntFunction<String> parser, SpokenTimeConverter converter) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in))) {
             printWelcomeMessage();
 
             while (true) {
                 System.out.print("> ");
 
-                if (!scanner.hasNextLine()) {
+                String line = reader.readLine();
+                if (line == null) {
                     System.out.println("No input available, exiting...");
                     break;
                 }
 
-                String input = scanner.nextLine().trim();
+                String input = line.trim();
 
                 if (isQuitCommand(input)) {
                     System.out.println("Goodbye!");
                     break;
                 }
 
-                processTime(input, converter);
+                processTime(input, parser, converter);
             }
         } catch (Exception e) {
             System.out.println("Unexpected error occurred, exiting...");
@@ -94,43 +383,67 @@ public class Main {
 
     /**
      * Processes a single time string and outputs the result or error message.
+     * Invalid input is reported through the error code of the parser, so no exception is thrown for it.
      *
      * @param input     The time string to process
+     * @param parser    The time parser returning the minute of the day or an error code
      * @param converter The time converter to use
      */
-    private static void processTime(String input, SpokenTimeConverter converter) {
-        try {
-            validateInput(input);
-
-            Time parsedTime = TimeParser.parse(input);
-            String spokenTime = converter.convert(parsedTime);
-            System.out.println("Spoken time: " + spokenTime);
+    private static void processTime(String input, ToIntFunction<String> parser, SpokenTimeConverter converter) {
+        if (input.isEmpty()) {
+            printErrorMessage("Input cannot be empty");
+            return;
+        }
 
-        } catch (IllegalArgumentException e) {
-            printErrorMessage(e.getMessage());
+        int minuteOfDay = parser.applyAsInt(input);
+        if (TimeParser.isError(minuteOfDay)) {
+            printErrorMessage(TimeParser.errorMessage(minuteOfDay));
+            return;
         }
+        System.out.println("Spoken time: " + converter.convert(minuteOfDay));
     }
 
     /**
-     * Validates that input is not null or empty.
+     * Prints a formatted error message with usage instructions.
      *
-     * @param input The input to validate
-     * @throws IllegalArgumentException if input is null or empty
+     * @param errorMessage The specific error message to display
      */
-    private static void validateInput(String input) {
-        if (input.isEmpty()) {
-            throw new IllegalArgumentException("Input cannot be empty");
-        }
+    private static void printErrorMessage(String errorMessage) {
+        System.out.println("Error: " + errorMessage);
+        System.out.println("Please enter time in HH:MM or H:MM format (e.g., 7:30)");
     }
 
     /**
-     * Prints a formatted error message with usage instructions.
+     * Prints a formatted error message with usage of the options of pipe mode to standard error,
+     * keeping standard output for results.
      *
      * @param errorMessage The specific error message to display
      */
-    private static void printErrorMessage(String errorMessage) {
+    private static void printPipeUsageError(String errorMessage) {
+        printStandardErrorUsage(errorMessage, PIPE_USAGE);
+    }
+
+    /**
+     * Prints a formatted error message with usage of the options of a mode to standard error,
+     * keeping standard output for results.
+     *
+     * @param errorMessage The specific error message to display
+     * @param usage        The options of the mode
+     */
+    private static void printStandardErrorUsage(String errorMessage, String usage) {
+        System.err.println("Error: " + errorMessage);
+        System.err.println("Usage: " + usage);
+    }
+
+    /**
+     * Prints a formatted error message with usage of the options of a mode.
+     *
+     * @param errorMessage The specific error message to display
+     * @param usage        The options of the mode
+     */
+    private static void printUsageError(String errorMessage, String usage) {
         System.out.println("Error: " + errorMessage);
-        System.out.println("Please enter time in HH:MM or H:MM format (e.g., 7:30)");
+        System.out.println("Usage: " + usage);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package pl.umanski.batch;
+
+/**
+ * Summary of a batch conversion of a file.
+ *
+ * @param lines  the number of processed input lines
+ * @param errors the number of lines that could not be converted
+ */
+public record BatchSummary(long lines, long errors) {
+}
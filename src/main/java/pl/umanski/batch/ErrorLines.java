@@ -0,0 +1,42 @@
+package pl.umanski.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the {@code Error: line N: } prefix of error lines without creating intermediate strings.
+ */
+final class ErrorLines {
+
+    private static final byte[] ERROR_PREFIX = "Error: line ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ": ".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Maximum number of bytes written by {@link #putPrefix(ByteBuffer, long)}.
+     */
+    static final int MAX_PREFIX_LENGTH = ERROR_PREFIX.length + 19 + SEPARATOR.length;
+
+    private ErrorLines() {
+    }
+
+    /**
+     * Writes the prefix of the error line for the given line number.
+     *
+     * @param target     the buffer with at least {@link #MAX_PREFIX_LENGTH} bytes remaining
+     * @param lineNumber the positive number of the input line
+     */
+    static void putPrefix(ByteBuffer target, long lineNumber) {
+        target.put(ERROR_PREFIX);
+
+        long divisor = 1;
+        while (divisor <= lineNumber / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            target.put((byte) ('0' + lineNumber / divisor % 10));
+        }
+
+        target.put(SEPARATOR);
+    }
+
+}
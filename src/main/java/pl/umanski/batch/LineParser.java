@@ -0,0 +1,46 @@
+package pl.umanski.batch;
+
+import pl.umanski.parser.TimeParser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses a single line of input bytes into the minute of the day.
+ * Instances hold a scratch buffer and are not thread-safe.
+ */
+final class LineParser {
+
+    /**
+     * Message reported for lines that cannot hold a time.
+     */
+    static final String INVALID_FORMAT = "Invalid time format";
+
+    /**
+     * Longest trimmed line that can still be a valid time.
+     */
+    private static final int MAX_TIME_LENGTH = 5;
+
+    /**
+     * Copy of the trimmed line, one byte longer than a time so that longer lines are still rejected as such.
+     */
+    private final byte[] line = new byte[MAX_TIME_LENGTH + 1];
+
+    /**
+     * Parses the line between start (inclusive) and end (exclusive) of the buffer without throwing.
+     *
+     * @return the minute of the day (0-1439), or an error code described by {@link TimeParser#errorMessage(int)}
+     */
+    int parse(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+
+        int length = Math.min(end - start, line.length);
+        buffer.get(start, line, 0, length);
+        return TimeParser.tryParseMinuteOfDay(line, 0, length);
+    }
+
+}
@@ -0,0 +1,321 @@
+package pl.umanski.batch;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.converter.Utf8SpokenTimeEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Finds times inside free text, such as application logs, and adds their spoken form next to them
+ * or puts it in their place. Unlike {@link pl.umanski.parser.TimeParser}, which accepts a whole string only
+ * if it is a time, the annotator scans arbitrary UTF-8 text for {@code H:MM} and {@code HH:MM} tokens
+ * of valid times, so {@code "started at 7:30 after 2 retries"} becomes
+ * {@code "started at 7:30 (half past seven AM) after 2 retries"}.
+ *
+ * <p>A token is a time only if it stands on its own: it may not be preceded by a letter, digit, underscore,
+ * colon or dot, nor followed by a letter, digit, underscore or colon, nor by a dot and a digit. Longer
+ * colon-separated values, such as {@code 12:34:56} or {@code 1:2:30}, version numbers and identifiers are
+ * therefore left alone, while {@code at 10:30.} or {@code (9:05)} are annotated.
+ *
+ * <p>The text is scanned as bytes without decoding it: the bytes of every non-ASCII UTF-8 character are
+ * above 127, so they never look like digits or colons and count as letters for the rules above.
+ * Unchanged text is copied between large buffers in bulk, and phrases come from a table of encoded bytes,
+ * so the annotator runs at memory-copy speed on typical log lines. Instances are not thread-safe.
+ */
+public class LogAnnotator {
+
+    /**
+     * Way of adding the spoken form of a found time.
+     */
+    public enum Mode {
+
+        /**
+         * Keeps the time and adds its spoken form in parentheses after it, like {@code 7:30 (half past seven AM)}.
+         */
+        ANNOTATE,
+
+        /**
+         * Replaces the time with its spoken form, like {@code half past seven AM}.
+         */
+        REPLACE
+
+    }
+
+    /**
+     * Size in bytes of the buffers of the input and of the output.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Bytes kept before the scanned position when the input buffer is refilled: the hour digits and the
+     * byte before them.
+     */
+    private static final int LOOKBEHIND = 3;
+
+    /**
+     * Bytes needed after a colon to decide on a time: the minute digits, the byte after them and
+     * a possible digit after a dot.
+     */
+    private static final int LOOKAHEAD = 4;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long COLONS = 0x3A3A3A3A3A3A3A3AL;
+
+    private final Mode mode;
+    private final Utf8SpokenTimeEncoder encoder;
+
+    private final byte[] input = new byte[BUFFER_SIZE];
+    private final byte[] output;
+    private int outputLength;
+    private long annotated;
+
+    /**
+     * Creates a new annotator adding spoken times in parentheses after the times.
+     *
+     * @param converter the time converter to use
+     * @throws IllegalArgumentException if converter is null
+     */
+    public LogAnnotator(SpokenTimeConverter converter) {
+        this(converter, Mode.ANNOTATE);
+    }
+
+    /**
+     * Creates a new annotator.
+     *
+     * @param converter the time converter to use, called once for every minute of the day on creation
+     * @param mode      whether spoken times are added after the times or replace them
+     * @throws IllegalArgumentException if converter or mode is null
+     */
+    public LogAnnotator(SpokenTimeConverter converter, Mode mode) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Mode cannot be null");
+        }
+        this.mode = mode;
+        this.encoder = mode == Mode.ANNOTATE
+                ? new Utf8SpokenTimeEncoder(converter, " (", ")")
+                : new Utf8SpokenTimeEncoder(converter);
+        this.output = new byte[BUFFER_SIZE + encoder.maxEncodedLength()];
+    }
+
+    /**
+     * Returns the way spoken forms are added.
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Copies the input to the output with the spoken form added for every time found in it.
+     * Neither stream is closed; the output is flushed at the end.
+     *
+     * @param in  the UTF-8 text to scan
+     * @param out the stream receiving the annotated text
+     * @return the number of times found
+     * @throws IllegalArgumentException if in or out is null
+     * @throws IOException              if reading the input or writing the output fails
+     */
+    public long annotate(InputStream in, OutputStream out) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Output cannot be null");
+        }
+
+        outputLength = 0;
+        annotated = 0;
+        int limit = 0;
+        int position = 0;
+        int emitted = 0;
+        boolean end = false;
+
+        while (!end) {
+            int read = in.read(input, limit, input.length - limit);
+            if (read < 0) {
+                end = true;
+            } else {
+                limit += read;
+            }
+
+            int scanLimit = end ? limit : limit - LOOKAHEAD;
+            while (position < scanLimit) {
+                int colon = indexOfColon(position, scanLimit);
+                if (colon < 0) {
+                    position = scanLimit;
+                    break;
+                }
+                emitted = annotateAt(colon, limit, emitted, out);
+                position = Math.max(colon + 1, emitted);
+            }
+
+            // Keep the unscanned tail and the possible hour digits before it, so tokens across reads are still found
+            int keep = Math.max(0, position - LOOKBEHIND);
+            if (emitted < keep) {
+                write(input, emitted, keep - emitted, out);
+                emitted = keep;
+            }
+            System.arraycopy(input, keep, input, 0, limit - keep);
+            limit -= keep;
+            position -= keep;
+            emitted -= keep;
+        }
+
+        write(input, emitted, limit - emitted, out);
+        out.write(output, 0, outputLength);
+        out.flush();
+        outputLength = 0;
+        return annotated;
+    }
+
+    /**
+     * Returns the text with the spoken form added for every time found in it.
+     *
+     * @param text the text to scan, such as a single log line
+     * @return the annotated text
+     * @throws IllegalArgumentException if text is null
+     */
+    public String annotate(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        ByteArrayOutputStream annotatedText = new ByteArrayOutputStream(text.length() + 32);
+        try {
+            annotate(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), annotatedText);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return annotatedText.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the index of the first colon between the given indexes, or -1 if there is none. Compares eight
+     * bytes at a time: a byte of {@code word ^ COLONS} is zero exactly where the input holds a colon, and
+     * the lowest such byte sets the highest bit of its byte in the result of the zero-byte test.
+     */
+    private int indexOfColon(int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONGS.get(input, i) ^ COLONS;
+            long zeros = (word - 0x0101010101010101L) & ~word & 0x8080808080808080L;
+            if (zeros != 0) {
+                return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (input[i] == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the spoken form if the colon is part of a time, copying the input before it to the output.
+     *
+     * @return the index of the first input byte not yet written to the output
+     */
+    private int annotateAt(int colon, int limit, int emitted, OutputStream out) throws IOException {
+        int minuteOfDay = timeAt(colon, limit);
+        if (minuteOfDay < 0) {
+            return emitted;
+        }
+
+        annotated++;
+        int tokenEnd = colon + 3;
+        if (mode == Mode.ANNOTATE) {
+            write(input, emitted, tokenEnd - emitted, out);
+        } else {
+            write(input, emitted, hourStart(colon) - emitted, out);
+        }
+        if (outputLength + encoder.maxEncodedLength() > output.length) {
+            out.write(output, 0, outputLength);
+            outputLength = 0;
+        }
+        outputLength += encoder.encode(minuteOfDay, output, outputLength);
+        return tokenEnd;
+    }
+
+    /**
+     * Returns the index of the first hour digit of the time whose colon is at the given index.
+     */
+    private int hourStart(int colon) {
+        return colon >= 2 && isDigit(input[colon - 2]) ? colon - 2 : colon - 1;
+    }
+
+    /**
+     * Reads the time whose colon is at the given index.
+     *
+     * @return the minute of the day, or -1 if the colon is not part of a time standing on its own
+     */
+    private int timeAt(int colon, int limit) {
+        if (colon < 1 || colon + 2 >= limit || !isDigit(input[colon - 1]) || !isDigit(input[colon + 1])
+                || !isDigit(input[colon + 2])) {
+            return -1;
+        }
+
+        int start = hourStart(colon);
+        int hour = start < colon - 1 ? 10 * (input[start] - '0') + input[colon - 1] - '0' : input[start] - '0';
+        int minute = 10 * (input[colon + 1] - '0') + input[colon + 2] - '0';
+        if (hour > 23 || minute > 59) {
+            return -1;
+        }
+
+        if (start > 0) {
+            byte before = input[start - 1];
+            if (isWordByte(before) || before == ':' || before == '.') {
+                return -1;
+            }
+        }
+        int after = colon + 3;
+        if (after < limit) {
+            byte next = input[after];
+            if (isWordByte(next) || next == ':'
+                    || next == '.' && after + 1 < limit && isDigit(input[after + 1])) {
+                return -1;
+            }
+        }
+        return hour * 60 + minute;
+    }
+
+    private void write(byte[] bytes, int offset, int length, OutputStream out) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        if (outputLength + length > output.length) {
+            out.write(output, 0, outputLength);
+            outputLength = 0;
+            if (length > output.length) {
+                out.write(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, output, outputLength, length);
+        outputLength += length;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Checks if the byte belongs to a word: an ASCII letter, digit or underscore, or any byte of a non-ASCII
+     * UTF-8 character.
+     */
+    private static boolean isWordByte(byte b) {
+        return b < 0 || isDigit(b) || b == '_' || (b | 0x20) >= 'a' && (b | 0x20) <= 'z';
+    }
+
+}
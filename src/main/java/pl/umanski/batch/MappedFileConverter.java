@@ -0,0 +1,190 @@
+package pl.umanski.batch;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.converter.Utf8SpokenTimeEncoder;
+import pl.umanski.jfr.BatchEvent;
+import pl.umanski.jfr.FlightRecording;
+import pl.umanski.parser.TimeParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Converts a file with one time per line into a file with one result per line.
+ * The input is memory-mapped and parsed straight from the mapped bytes, and the output is collected
+ * in a large buffer that is written to the output channel only when full and once at the end.
+ * Every output line of a valid time is a single copy of bytes pre-encoded by {@link Utf8SpokenTimeEncoder}.
+ * Every conversion emits a {@link BatchEvent} when the event is enabled.
+ * Instances are not thread-safe.
+ *
+ * @see ParallelFileConverter
+ */
+public class MappedFileConverter {
+
+    /**
+     * Size of the buffer collecting output before it is written to the output file.
+     */
+    static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Maximum number of input bytes mapped at once.
+     */
+    static final long DEFAULT_WINDOW_SIZE = 1L << 28;
+
+    private final LineParser lineParser = new LineParser();
+    private final Utf8SpokenTimeEncoder encoder;
+    private final long windowSize;
+
+    private ByteBuffer output;
+    private FileChannel outputChannel;
+
+    /**
+     * Creates a new file converter.
+     *
+     * @param converter the time converter to use
+     * @throws IllegalArgumentException if converter is null
+     */
+    public MappedFileConverter(SpokenTimeConverter converter) {
+        this(converter, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileConverter(SpokenTimeConverter converter, long windowSize) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        this.encoder = Utf8SpokenTimeEncoder.lines(converter);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Converts every line of the input file and writes the results to the output file.
+     * Each input line produces exactly one output line: {@code Spoken time: ...} or {@code Error: line N: ...}.
+     *
+     * @param input  the file with one time per line
+     * @param output the file to create or overwrite with the results
+     * @return the number of processed lines and of lines that could not be converted
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public BatchSummary convert(Path input, Path output) throws IOException {
+        BatchEvent event = FlightRecording.beginBatch();
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            this.outputChannel = out;
+            this.output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+
+            BatchSummary summary = convertLines(in);
+            flush();
+            if (event != null) {
+                event.complete(BatchEvent.FILE, summary.lines(), summary.errors(), in.size(), null);
+            }
+            return summary;
+        } catch (IOException | RuntimeException e) {
+            if (event != null) {
+                event.complete(BatchEvent.FILE, 0, 0, 0, e);
+            }
+            throw e;
+        } finally {
+            this.outputChannel = null;
+            this.output = null;
+        }
+    }
+
+    /**
+     * Maps the input window by window, keeping lines that cross a window boundary for the next window.
+     */
+    private BatchSummary convertLines(FileChannel in) throws IOException {
+        long size = in.size();
+        long position = 0;
+        long lines = 0;
+        long errors = 0;
+        boolean skipToNextLine = false;
+
+        while (position < size) {
+            int length = (int) Math.min(windowSize, size - position);
+            boolean lastWindow = position + length == size;
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+            int lineStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) != '\n') {
+                    continue;
+                }
+                if (skipToNextLine) {
+                    skipToNextLine = false;
+                } else {
+                    lines++;
+                    errors += convertLine(window, lineStart, i, lines) ? 0 : 1;
+                }
+                lineStart = i + 1;
+            }
+
+            if (lastWindow) {
+                if (lineStart < length && !skipToNextLine) {
+                    lines++;
+                    errors += convertLine(window, lineStart, length, lines) ? 0 : 1;
+                }
+                position = size;
+            } else if (lineStart == 0) {
+                // A single line longer than the whole window can never be a valid time
+                if (!skipToNextLine) {
+                    lines++;
+                    errors++;
+                    writeError(lines, LineParser.INVALID_FORMAT);
+                    skipToNextLine = true;
+                }
+                position += length;
+            } else {
+                position += lineStart;
+            }
+        }
+        return new BatchSummary(lines, errors);
+    }
+
+    /**
+     * Converts the line between start (inclusive) and end (exclusive) of the window.
+     *
+     * @return true if the line was converted, false if an error was written instead
+     */
+    private boolean convertLine(ByteBuffer window, int start, int end, long lineNumber) throws IOException {
+        int minuteOfDay = lineParser.parse(window, start, end);
+        if (TimeParser.isError(minuteOfDay)) {
+            writeError(lineNumber, TimeParser.errorMessage(minuteOfDay));
+            return false;
+        }
+        ensureCapacity(encoder.maxEncodedLength());
+        encoder.encode(minuteOfDay, output);
+        return true;
+    }
+
+    private void writeError(long lineNumber, String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(ErrorLines.MAX_PREFIX_LENGTH + bytes.length + 1);
+        ErrorLines.putPrefix(output, lineNumber);
+        output.put(bytes).put((byte) '\n');
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (output.remaining() >= length) {
+            return;
+        }
+        flush();
+        if (output.capacity() < length) {
+            output = ByteBuffer.allocateDirect(length);
+        }
+    }
+
+    private void flush() throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            outputChannel.write(output);
+        }
+        output.clear();
+    }
+
+}
@@ -0,0 +1,325 @@
+package pl.umanski.batch;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.converter.Utf8SpokenTimeEncoder;
+import pl.umanski.jfr.BatchEvent;
+import pl.umanski.jfr.FlightRecording;
+import pl.umanski.parser.TimeParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Converts a file with one time per line into a file with one result per line using several threads.
+ * The input is split into chunks of roughly equal size; each chunk owns the lines that start inside it
+ * and is memory-mapped and converted on a fork/join pool. Converted chunks are written in input order,
+ * so the output is identical to the one produced by {@link MappedFileConverter}. That includes lines padded past
+ * the end of their chunk, which are read from a mapping of their own, and lines longer than the window of that
+ * converter, 256 MiB, which both reject as invalid.
+ * Every conversion emits a {@link BatchEvent} when the event is enabled.
+ *
+ * <p>Line numbers of errors are only known once all preceding chunks are converted, so a chunk keeps
+ * its error lines aside and the writer prefixes them with the absolute line number.
+ */
+public class ParallelFileConverter {
+
+    /**
+     * Number of input bytes whose lines are converted by a single task.
+     */
+    static final long DEFAULT_CHUNK_SIZE = 1L << 19;
+
+    /**
+     * Number of bytes mapped past the end of a chunk to finish its last line. A line that does not end
+     * within this limit is read from a mapping of its own, as long as the window of {@link MappedFileConverter}.
+     */
+    static final int MAX_LINE_SPILL = 1 << 16;
+
+    private final Utf8SpokenTimeEncoder encoder;
+    private final int threads;
+    private final long chunkSize;
+
+    /**
+     * Creates a new parallel file converter.
+     *
+     * @param converter the time converter shared by all threads
+     * @param threads   the number of threads converting chunks
+     * @throws IllegalArgumentException if converter is null or threads is not positive
+     */
+    public ParallelFileConverter(SpokenTimeConverter converter, int threads) {
+        this(converter, threads, DEFAULT_CHUNK_SIZE);
+    }
+
+    ParallelFileConverter(SpokenTimeConverter converter, int threads, long chunkSize) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive, got: " + threads);
+        }
+        this.encoder = Utf8SpokenTimeEncoder.lines(converter);
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts every line of the input file and writes the results to the output file in input order.
+     * Each input line produces exactly one output line: {@code Spoken time: ...} or {@code Error: line N: ...}.
+     *
+     * @param input  the file with one time per line
+     * @param output the file to create or overwrite with the results
+     * @return the number of processed lines and of lines that could not be converted
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public BatchSummary convert(Path input, Path output) throws IOException {
+        BatchEvent event = FlightRecording.beginBatch();
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, WRITE);
+             ForkJoinPool pool = new ForkJoinPool(threads)) {
+            ChunkWriter writer = new ChunkWriter(out);
+            long size = in.size();
+            int maxInFlight = threads * 2;
+            Deque<Future<ConvertedChunk>> inFlight = new ArrayDeque<>(maxInFlight);
+
+            long nextChunk = 0;
+            while (nextChunk < size || !inFlight.isEmpty()) {
+                while (nextChunk < size && inFlight.size() < maxInFlight) {
+                    long start = nextChunk;
+                    long end = Math.min(size, start + chunkSize);
+                    inFlight.add(pool.submit(() -> convertChunk(in, size, start, end)));
+                    nextChunk = end;
+                }
+                writer.write(await(inFlight.poll()));
+            }
+
+            writer.flush();
+            if (event != null) {
+                event.complete(BatchEvent.PARALLEL_FILE, writer.lines, writer.errors, size, null);
+            }
+            return new BatchSummary(writer.lines, writer.errors);
+        } catch (IOException | RuntimeException e) {
+            if (event != null) {
+                event.complete(BatchEvent.PARALLEL_FILE, 0, 0, 0, e);
+            }
+            throw e;
+        }
+    }
+
+    private static ConvertedChunk await(Future<ConvertedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while converting file", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IOException("Cannot convert chunk", e.getCause());
+        }
+    }
+
+    /**
+     * Converts the lines starting between start (inclusive) and end (exclusive) of the file.
+     */
+    private ConvertedChunk convertChunk(FileChannel in, long size, long start, long end) {
+        // Mapping one byte before the chunk tells whether the chunk starts at the beginning of a line
+        long mapStart = start == 0 ? 0 : start - 1;
+        long mapEnd = Math.min(size, end + MAX_LINE_SPILL);
+        MappedByteBuffer region;
+        try {
+            region = in.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int limit = region.limit();
+        int ownedEnd = (int) (end - mapStart);
+        int position = (int) (start - mapStart);
+        if (start > 0 && region.get(0) != '\n') {
+            position = indexOfNewLine(region, position, limit) + 1;
+            if (position == 0) {
+                return ConvertedChunk.EMPTY;
+            }
+        }
+
+        LineParser lineParser = new LineParser();
+        ConvertedChunk chunk = new ConvertedChunk(encoder, (int) Math.min(Integer.MAX_VALUE - 8, (end - start) * 6));
+        while (position < ownedEnd) {
+            int lineEnd = indexOfNewLine(region, position, limit);
+            if (lineEnd < 0 && mapEnd < size) {
+                // The last line of the chunk runs past the spill, which only padding can make it do
+                addLongLine(chunk, in, size, mapStart + position, lineParser);
+                break;
+            }
+            if (lineEnd < 0) {
+                lineEnd = limit;
+            }
+
+            addLine(chunk, lineParser.parse(region, position, lineEnd));
+            position = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    private static void addLine(ConvertedChunk chunk, int minuteOfDay) {
+        if (TimeParser.isError(minuteOfDay)) {
+            chunk.addError(TimeParser.errorMessage(minuteOfDay));
+        } else {
+            chunk.addSpokenTime(minuteOfDay);
+        }
+    }
+
+    /**
+     * Converts the line starting at the given position of the file from a mapping as long as the window of
+     * {@link MappedFileConverter}, so that a line is rejected as too long exactly when that converter rejects it.
+     */
+    private static void addLongLine(ConvertedChunk chunk, FileChannel in, long size, long lineStart,
+                                    LineParser lineParser) {
+        long mapEnd = Math.min(size, lineStart + MappedFileConverter.DEFAULT_WINDOW_SIZE);
+        MappedByteBuffer line;
+        try {
+            line = in.map(FileChannel.MapMode.READ_ONLY, lineStart, mapEnd - lineStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int lineEnd = indexOfNewLine(line, 0, line.limit());
+        if (lineEnd < 0 && mapEnd < size) {
+            chunk.addError(LineParser.INVALID_FORMAT);
+            return;
+        }
+        addLine(chunk, lineParser.parse(line, 0, lineEnd < 0 ? line.limit() : lineEnd));
+    }
+
+    private static int indexOfNewLine(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Output of a converted chunk. Spoken time lines are collected in one byte array,
+     * error lines are kept aside together with their offset in that array and their line number in the chunk.
+     */
+    private static final class ConvertedChunk {
+
+        static final ConvertedChunk EMPTY = new ConvertedChunk(null, 0);
+
+        final Utf8SpokenTimeEncoder encoder;
+        byte[] output;
+        int length;
+        int lines;
+        int errorCount;
+        int[] errorOffsets = new int[0];
+        int[] errorLines = new int[0];
+        byte[][] errorMessages = new byte[0][];
+
+        ConvertedChunk(Utf8SpokenTimeEncoder encoder, int capacity) {
+            this.encoder = encoder;
+            this.output = new byte[capacity];
+        }
+
+        void addSpokenTime(int minuteOfDay) {
+            ensureCapacity(encoder.maxEncodedLength());
+            length += encoder.encode(minuteOfDay, output, length);
+            lines++;
+        }
+
+        void addError(String message) {
+            if (errorCount == errorOffsets.length) {
+                int capacity = Math.max(16, errorCount * 2);
+                errorOffsets = Arrays.copyOf(errorOffsets, capacity);
+                errorLines = Arrays.copyOf(errorLines, capacity);
+                errorMessages = Arrays.copyOf(errorMessages, capacity);
+            }
+            lines++;
+            errorOffsets[errorCount] = length;
+            errorLines[errorCount] = lines;
+            errorMessages[errorCount] = message.getBytes(StandardCharsets.UTF_8);
+            errorCount++;
+        }
+
+        private void ensureCapacity(int required) {
+            if (output.length - length < required) {
+                output = Arrays.copyOf(output, Math.max(output.length * 2, length + required));
+            }
+        }
+
+    }
+
+    /**
+     * Writes converted chunks in order through a single large buffer, numbering error lines on the way.
+     */
+    private static final class ChunkWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(MappedFileConverter.OUTPUT_BUFFER_SIZE);
+        private long lines;
+        private long errors;
+
+        ChunkWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(ConvertedChunk chunk) throws IOException {
+            int position = 0;
+            for (int i = 0; i < chunk.errorCount; i++) {
+                put(chunk.output, position, chunk.errorOffsets[i] - position);
+                position = chunk.errorOffsets[i];
+
+                byte[] message = chunk.errorMessages[i];
+                ensureRemaining(ErrorLines.MAX_PREFIX_LENGTH + message.length + 1);
+                ErrorLines.putPrefix(buffer, lines + chunk.errorLines[i]);
+                buffer.put(message).put((byte) '\n');
+            }
+            put(chunk.output, position, chunk.length - position);
+
+            lines += chunk.lines;
+            errors += chunk.errorCount;
+        }
+
+        private void put(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int count = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        private void ensureRemaining(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package pl.umanski.batch;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.parser.TimeParser;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.ToIntFunction;
+
+/**
+ * Converts a stream with one time per line, such as standard input fed through a pipe, into a stream
+ * with one result per line. Input is read and output is written through large buffers, and the output
+ * is flushed only when its buffer is full, every given number of lines and once at the end.
+ * Errors and progress are reported on a separate stream, so that the output holds results only. They go through
+ * a buffer of their own, flushed together with the output, so that mostly invalid input does not flush
+ * the error stream, such as an autoflushing standard error, on every line. Instances are not thread-safe.
+ *
+ * @see MappedFileConverter
+ */
+public class StreamConverter {
+
+    /**
+     * Size in characters of the buffers of the input and of the output.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Number of lines between progress reports.
+     */
+    static final long PROGRESS_INTERVAL = 1_000_000;
+
+    private static final String RESULT_PREFIX = "Spoken time: ";
+    private static final String QUIT_COMMAND = "quit";
+
+    private final ToIntFunction<String> parser;
+    private final SpokenTimeConverter converter;
+    private final long flushInterval;
+
+    /**
+     * Creates a new stream converter flushing the output only when its buffer is full and at the end.
+     *
+     * @param parser    the time parser returning the minute of the day or an error code
+     * @param converter the time converter to use
+     * @throws IllegalArgumentException if parser or converter is null
+     */
+    public StreamConverter(ToIntFunction<String> parser, SpokenTimeConverter converter) {
+        this(parser, converter, 0);
+    }
+
+    /**
+     * Creates a new stream converter.
+     *
+     * @param parser        the time parser returning the minute of the day or an error code
+     * @param converter     the time converter to use
+     * @param flushInterval the number of lines after which the output is flushed, or 0 to flush only
+     *                      when the buffer is full and at the end
+     * @throws IllegalArgumentException if parser or converter is null, or if flushInterval is negative
+     */
+    public StreamConverter(ToIntFunction<String> parser, SpokenTimeConverter converter, long flushInterval) {
+        if (parser == null) {
+            throw new IllegalArgumentException("Parser cannot be null");
+        }
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (flushInterval < 0) {
+            throw new IllegalArgumentException("Flush interval cannot be negative, got: " + flushInterval);
+        }
+        this.parser = parser;
+        this.converter = converter;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Converts every line of the input until its end or a {@code quit} line and writes the results to the output.
+     * Each valid time produces one {@code Spoken time: ...} output line. Each invalid line produces
+     * an {@code Error: line N: ...} line on the error stream instead, which also receives a progress line
+     * every {@value #PROGRESS_INTERVAL} lines and the summary at the end. Errors are written in the charset of
+     * the error stream and flushed whenever the output is flushed, after each progress line and at the end.
+     * Neither stream is closed.
+     *
+     * @param input  the stream with one UTF-8 time per line
+     * @param output the stream receiving the UTF-8 results
+     * @param errors the stream receiving errors, progress and the summary
+     * @return the number of processed lines and of lines that could not be converted
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public BatchSummary convert(InputStream input, OutputStream output, PrintStream errors) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        // Buffered below the encoder as well, as an autoflushing stream flushes on every chunk of encoded bytes
+        Writer errorWriter = new BufferedWriter(new OutputStreamWriter(
+                new BufferedOutputStream(errors, BUFFER_SIZE), errors.charset()), BUFFER_SIZE);
+        long lines = 0;
+        long errorCount = 0;
+
+        try {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String time = line.trim();
+                if (QUIT_COMMAND.equalsIgnoreCase(time)) {
+                    break;
+                }
+                lines++;
+
+                int minuteOfDay = parser.applyAsInt(time);
+                if (TimeParser.isError(minuteOfDay)) {
+                    errorCount++;
+                    errorWriter.write("Error: line ");
+                    errorWriter.write(Long.toString(lines));
+                    errorWriter.write(": ");
+                    errorWriter.write(TimeParser.errorMessage(minuteOfDay));
+                    errorWriter.write(System.lineSeparator());
+                } else {
+                    writer.write(RESULT_PREFIX);
+                    writer.write(converter.convert(minuteOfDay));
+                    writer.write('\n');
+                }
+
+                if (flushInterval > 0 && lines % flushInterval == 0) {
+                    writer.flush();
+                    errorWriter.flush();
+                }
+                if (lines % PROGRESS_INTERVAL == 0) {
+                    printProgress(errorWriter, lines, errorCount, " errors so far");
+                }
+            }
+
+            writer.flush();
+            printProgress(errorWriter, lines, errorCount, " errors");
+        } finally {
+            // Reports the errors found so far even if reading the input or writing the output failed
+            errorWriter.flush();
+        }
+        return new BatchSummary(lines, errorCount);
+    }
+
+    /**
+     * Prints the numbers of lines and errors piece by piece and flushes them. The first string concatenation
+     * of a JVM spins up method handles, which would take longer than converting a short pipe.
+     */
+    private static void printProgress(Writer errors, long lines, long errorCount, String suffix) throws IOException {
+        errors.write("Processed ");
+        errors.write(Long.toString(lines));
+        errors.write(" lines, ");
+        errors.write(Long.toString(errorCount));
+        errors.write(suffix);
+        errors.write(System.lineSeparator());
+        errors.flush();
+    }
+
+}
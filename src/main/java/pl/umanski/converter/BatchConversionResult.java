@@ -0,0 +1,127 @@
+package pl.umanski.converter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Outcome of converting a batch of minute-of-day values.
+ * The positions are copied in and out, so results are immutable values compared by their content.
+ *
+ * @param converted        the number of values converted
+ * @param invalidPositions ascending indexes, in the source array, of values outside 0-1439
+ */
+public record BatchConversionResult(int converted, int[] invalidPositions) {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    /**
+     * Constructor that validates the provided result and copies the positions.
+     *
+     * @throws IllegalArgumentException if invalidPositions is null
+     */
+    public BatchConversionResult {
+        if (invalidPositions == null) {
+            throw new IllegalArgumentException("Invalid positions cannot be null");
+        }
+        invalidPositions = invalidPositions.length == 0 ? NO_POSITIONS : invalidPositions.clone();
+    }
+
+    /**
+     * Returns a copy of the ascending indexes, in the source array, of values outside 0-1439.
+     */
+    @Override
+    public int[] invalidPositions() {
+        return invalidPositions.length == 0 ? NO_POSITIONS : invalidPositions.clone();
+    }
+
+    /**
+     * Returns the number of values not converted, without copying their positions.
+     */
+    public int invalidCount() {
+        return invalidPositions.length;
+    }
+
+    /**
+     * Checks if every value of the batch was converted.
+     */
+    public boolean isSuccessful() {
+        return invalidPositions.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof BatchConversionResult other
+                && converted == other.converted
+                && Arrays.equals(invalidPositions, other.invalidPositions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(converted) + Arrays.hashCode(invalidPositions);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchConversionResult[converted=" + converted
+                + ", invalidPositions=" + Arrays.toString(invalidPositions) + "]";
+    }
+
+    /**
+     * Validates a batch of minute-of-day values in a single pass.
+     * Positions of invalid values are only collected when the batch contains any.
+     *
+     * @param minutesOfDay the values to validate
+     * @param offset       the index of the first value of the batch
+     * @param length       the number of values in the batch
+     * @return the result the conversion of the batch will have
+     */
+    static BatchConversionResult validate(int[] minutesOfDay, int offset, int length) {
+        int end = offset + length;
+        int invalidCount = 0;
+        for (int i = offset; i < end; i++) {
+            if (!isValid(minutesOfDay[i])) {
+                invalidCount++;
+            }
+        }
+        if (invalidCount == 0) {
+            return new BatchConversionResult(length, NO_POSITIONS);
+        }
+
+        int[] positions = new int[invalidCount];
+        int next = 0;
+        for (int i = offset; i < end; i++) {
+            if (!isValid(minutesOfDay[i])) {
+                positions[next++] = i;
+            }
+        }
+        return new BatchConversionResult(length - invalidCount, positions);
+    }
+
+    /**
+     * Validates the arguments of a batch conversion.
+     *
+     * @throws IllegalArgumentException  if minutesOfDay or target is null
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    static void checkArguments(int[] minutesOfDay, int offset, int length, String[] target, int targetOffset) {
+        if (minutesOfDay == null) {
+            throw new IllegalArgumentException("Minutes of day cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, minutesOfDay.length);
+        Objects.checkFromIndexSize(targetOffset, length, target.length);
+    }
+
+    /**
+     * Checks if the value is a minute of the day (0-1439).
+     */
+    static boolean isValid(int minuteOfDay) {
+        return Integer.compareUnsigned(minuteOfDay, PrecomputedSpokenTimeConverter.MINUTES_PER_DAY) < 0;
+    }
+
+}
@@ -0,0 +1,80 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.PreciseTime;
+import pl.umanski.strategy.*;
+
+import java.util.List;
+
+/**
+ * Converts {@link PreciseTime} objects into their British spoken representation,
+ * like "seven minutes and twenty seconds past four PM", by probing strategies in order.
+ * Times without seconds are spoken exactly as by {@link BritishSpokenTimeConverter}.
+ */
+public class BritishPreciseSpokenTimeConverter implements PreciseSpokenTimeConverter {
+
+    private final PreciseTimeFormatStrategy[] strategies;
+
+    /**
+     * Creates a new converter with the default strategies.
+     */
+    public BritishPreciseSpokenTimeConverter() {
+        this(defaultStrategies());
+    }
+
+    /**
+     * Creates a new converter probing the given strategies in order.
+     *
+     * @param strategies the strategies, the first one that can handle a time formats it
+     * @throws IllegalArgumentException if strategies is null or empty, or contains null
+     */
+    public BritishPreciseSpokenTimeConverter(List<PreciseTimeFormatStrategy> strategies) {
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("Strategies cannot be null or empty");
+        }
+        this.strategies = strategies.toArray(PreciseTimeFormatStrategy[]::new);
+        for (PreciseTimeFormatStrategy strategy : this.strategies) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Strategy cannot be null");
+            }
+        }
+    }
+
+    /**
+     * Returns the default British strategies in the order they are probed.
+     *
+     * @return immutable list of the default strategies
+     */
+    public static List<PreciseTimeFormatStrategy> defaultStrategies() {
+        return List.of(
+                new WholeMinuteStrategy(),
+                new SecondsPastStrategy(),
+                new SecondsToStrategy()
+        );
+    }
+
+    /**
+     * Appends the British spoken form of a given {@link PreciseTime} instance to the target.
+     *
+     * @param time   the {@link PreciseTime} to convert
+     * @param target the builder receiving the British spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null, or if no strategy handles the time
+     */
+    @Override
+    public StringBuilder convertTo(PreciseTime time, StringBuilder target) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+
+        for (PreciseTimeFormatStrategy strategy : strategies) {
+            if (strategy.canHandle(time)) {
+                return strategy.formatTo(time, target);
+            }
+        }
+        throw new IllegalArgumentException("No strategy handles time " + time);
+    }
+
+}
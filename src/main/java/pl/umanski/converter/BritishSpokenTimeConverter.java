@@ -1,5 +1,7 @@
 package pl.umanski.converter;
 
+import pl.umanski.jfr.ConvertEvent;
+import pl.umanski.jfr.FlightRecording;
 import pl.umanski.model.Time;
 import pl.umanski.strategy.*;
 
@@ -7,16 +9,39 @@ import java.util.List;
 
 /**
  * Converts {@link Time} objects into their British spoken representation.
+ * Every conversion emits a {@link ConvertEvent} naming the chosen strategy when the event is enabled.
  */
 public class BritishSpokenTimeConverter implements SpokenTimeConverter {
 
-    private final List<TimeFormatStrategy> strategies;
+    private final StrategyRegistry registry;
 
     /**
-     * Creates a new converter with default strategies in order.
+     * Creates a new converter with the default strategies.
      */
     public BritishSpokenTimeConverter() {
-        this.strategies = List.of(
+        this(StrategyRegistry.defaultRegistry());
+    }
+
+    /**
+     * Creates a new converter dispatching to the strategies of the given registry.
+     *
+     * @param registry the registry assigning a strategy to every minute
+     * @throws IllegalArgumentException if registry is null
+     */
+    public BritishSpokenTimeConverter(StrategyRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the default British strategies in the order they are probed.
+     *
+     * @return immutable list of the default strategies
+     */
+    public static List<TimeFormatStrategy> defaultStrategies() {
+        return List.of(
                 new ExactHourStrategy(),
                 new PastTimeStrategy(),
                 new DigitalTimeStrategy(),
@@ -31,16 +56,45 @@ public class BritishSpokenTimeConverter implements SpokenTimeConverter {
      * @return the British spoken time representation
      * @throws IllegalArgumentException if time is null
      */
+    @Override
     public String convert(Time time) {
         if (time == null) {
             throw new IllegalArgumentException("Time cannot be null");
         }
 
-        return strategies.stream()
-                .filter(strategy -> strategy.canHandle(time))
-                .findFirst()
-                .map(strategy -> strategy.format(time))
-                .orElseThrow(() -> new IllegalStateException("No formatter found for time: " + time));
+        ConvertEvent event = FlightRecording.beginConvert();
+        TimeFormatStrategy strategy = registry.strategyFor(time);
+        String spoken = strategy.format(time);
+        if (event != null) {
+            event.complete(time.minuteOfDay(), strategy.getClass(), false);
+        }
+        return spoken;
+    }
+
+    /**
+     * Appends the British spoken form of a given {@link Time} instance to the target.
+     *
+     * @param time   the {@link Time} to convert
+     * @param target the builder receiving the British spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    @Override
+    public StringBuilder convertTo(Time time, StringBuilder target) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+
+        ConvertEvent event = FlightRecording.beginConvert();
+        TimeFormatStrategy strategy = registry.strategyFor(time);
+        strategy.formatTo(time, target);
+        if (event != null) {
+            event.complete(time.minuteOfDay(), strategy.getClass(), false);
+        }
+        return target;
     }
 
 }
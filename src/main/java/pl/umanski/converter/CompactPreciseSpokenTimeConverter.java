@@ -0,0 +1,189 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.PreciseTime;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.StrategyRegistry;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Converts {@link PreciseTime} objects by composing phrases from small tables instead of holding
+ * one phrase per second of the day. Whole minutes are looked up in a table of the 1,440 minute phrases.
+ * Other times are joined from the distance to the nearest full hour and the hour itself, like
+ * {@code "seven minutes and twenty seconds past "} and {@code "four PM"}, each found with one array lookup:
+ * 1,799 distances in each direction and 25 hours replace 86,400 full phrases.
+ *
+ * <p>Produces the same phrases as {@link BritishPreciseSpokenTimeConverter} with the same vocabulary.
+ * Instances are immutable and thread-safe.
+ */
+public class CompactPreciseSpokenTimeConverter implements PreciseSpokenTimeConverter {
+
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_HALF_HOUR = SECONDS_PER_HOUR / 2;
+
+    /**
+     * Phrase of every minute of the day, used for times without seconds.
+     */
+    private final String[] minutePhrases;
+
+    /**
+     * Distance past the hour with the preposition, indexed by seconds past the hour (1-1799).
+     */
+    private final String[] pastPhrases;
+
+    /**
+     * Distance to the next hour with the preposition, indexed by seconds to the hour (1-1799).
+     */
+    private final String[] toPhrases;
+
+    /**
+     * Spoken hour, indexed by hour of the day (0-24), with 24 for the midnight ending the day.
+     */
+    private final String[] hourPhrases;
+
+    /**
+     * Creates a new converter with the British vocabulary.
+     */
+    public CompactPreciseSpokenTimeConverter() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new converter taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public CompactPreciseSpokenTimeConverter(TimeVocabulary vocabulary) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+
+        SpokenTimeConverter minutes = new BritishSpokenTimeConverter(StrategyRegistry.defaultRegistry(vocabulary));
+        this.minutePhrases = new String[Time.MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            minutePhrases[minuteOfDay] = minutes.convert(minuteOfDay);
+        }
+
+        this.pastPhrases = new String[SECONDS_PER_HALF_HOUR];
+        this.toPhrases = new String[SECONDS_PER_HALF_HOUR];
+        for (int seconds = 1; seconds < SECONDS_PER_HALF_HOUR; seconds++) {
+            String distance = distance(vocabulary, seconds / 60, seconds % 60);
+            if (distance != null) {
+                pastPhrases[seconds] = distance + ' ' + vocabulary.pastPreposition() + ' ';
+                toPhrases[seconds] = distance + ' ' + vocabulary.toPreposition() + ' ';
+            }
+        }
+
+        this.hourPhrases = new String[25];
+        for (int hour = 0; hour <= 24; hour++) {
+            if (hour == 0 || hour == 24) {
+                hourPhrases[hour] = vocabulary.midnight();
+            } else if (hour == 12) {
+                hourPhrases[hour] = vocabulary.noon();
+            } else {
+                hourPhrases[hour] = vocabulary.hourWord(hour) + ' ' + vocabulary.period(hour);
+            }
+        }
+    }
+
+    /**
+     * Converts a given {@link PreciseTime} instance to its spoken form.
+     *
+     * @param time the {@link PreciseTime} to convert
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if time is null
+     */
+    @Override
+    public String convert(PreciseTime time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        return compose(time.secondOfDay());
+    }
+
+    /**
+     * Converts a given second of the day with at most one string concatenation.
+     *
+     * @param secondOfDay the second of the day (0-86399)
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if secondOfDay is not between 0 and 86399
+     */
+    @Override
+    public String convert(int secondOfDay) {
+        PreciseTime.validateSecondOfDay(secondOfDay);
+        return compose(secondOfDay);
+    }
+
+    /**
+     * Appends the spoken form of a given {@link PreciseTime} instance, copied from the tables, to the target.
+     *
+     * @param time   the {@link PreciseTime} to convert
+     * @param target the builder receiving the spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    @Override
+    public StringBuilder convertTo(PreciseTime time, StringBuilder target) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+
+        int secondOfDay = time.secondOfDay();
+        if (time.isWholeMinute()) {
+            return target.append(minutePhrases[secondOfDay / 60]);
+        }
+        int hour = secondOfDay / SECONDS_PER_HOUR;
+        int secondsPast = secondOfDay % SECONDS_PER_HOUR;
+        if (secondsPast < SECONDS_PER_HALF_HOUR) {
+            return target.append(pastPhrases[secondsPast]).append(hourPhrases[hour]);
+        }
+        return target.append(toPhrases[SECONDS_PER_HOUR - secondsPast]).append(hourPhrases[hour + 1]);
+    }
+
+    /**
+     * Returns the number of strings held in the tables, a measure of the memory footprint of the converter.
+     */
+    int phraseCount() {
+        int count = minutePhrases.length + hourPhrases.length;
+        for (int seconds = 1; seconds < SECONDS_PER_HALF_HOUR; seconds++) {
+            if (pastPhrases[seconds] != null) {
+                count += 2;
+            }
+        }
+        return count;
+    }
+
+    private String compose(int secondOfDay) {
+        if (secondOfDay % 60 == 0) {
+            return minutePhrases[secondOfDay / 60];
+        }
+        int hour = secondOfDay / SECONDS_PER_HOUR;
+        int secondsPast = secondOfDay % SECONDS_PER_HOUR;
+        if (secondsPast < SECONDS_PER_HALF_HOUR) {
+            return pastPhrases[secondsPast].concat(hourPhrases[hour]);
+        }
+        return toPhrases[SECONDS_PER_HOUR - secondsPast].concat(hourPhrases[hour + 1]);
+    }
+
+    /**
+     * Builds a distance such as "seven minutes and twenty seconds", with the rules of the strategies with seconds.
+     *
+     * @return the distance, or null for whole minutes, which are never spoken as a distance
+     */
+    private static String distance(TimeVocabulary vocabulary, int minutes, int seconds) {
+        if (seconds == 0) {
+            return null;
+        }
+        String secondsPart = vocabulary.numberWord(seconds) + ' ' + vocabulary.secondUnit(seconds);
+        if (minutes == 0) {
+            return secondsPart;
+        }
+        return vocabulary.numberWord(minutes) + ' ' + vocabulary.minuteUnit(minutes) + ' '
+                + vocabulary.unitConjunction() + ' ' + secondsPart;
+    }
+
+}
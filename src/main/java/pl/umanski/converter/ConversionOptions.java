@@ -0,0 +1,112 @@
+package pl.umanski.converter;
+
+import java.util.Locale;
+
+/**
+ * Style of the spoken times produced by {@link StyledSpokenTimeConverter}.
+ * Options are values, so equal options share one phrase table of the converter.
+ *
+ * @param style  the way hours and minutes are spoken
+ * @param period whether regular hours are followed by the period, such as AM or PM; kept but ignored by
+ *               {@link Style#TWENTY_FOUR_HOUR}, which never speaks a period
+ * @param locale the locale of the vocabulary, such as {@link Locale#UK} or {@link Locale#US}
+ */
+public record ConversionOptions(Style style, boolean period, Locale locale) {
+
+    private static final ConversionOptions DEFAULTS = new ConversionOptions(Style.STANDARD, true, Locale.UK);
+
+    /**
+     * Way of speaking hours and minutes.
+     */
+    public enum Style {
+
+        /**
+         * Phrases of {@link BritishSpokenTimeConverter}, like "quarter to five" or "half past seven".
+         */
+        STANDARD,
+
+        /**
+         * Standard phrases with half hours spoken colloquially, like "half seven" for half past seven.
+         */
+        COLLOQUIAL,
+
+        /**
+         * Hour and minutes as numbers, like "four forty five" or "twelve oh five", exact hours with "o'clock".
+         */
+        DIGITAL,
+
+        /**
+         * Hour and minutes as 24-hour numbers, like "sixteen forty five", "oh seven thirty" or "sixteen hundred".
+         */
+        TWENTY_FOUR_HOUR
+
+    }
+
+    /**
+     * Constructor that validates the provided options.
+     *
+     * @throws IllegalArgumentException if style or locale is null
+     */
+    public ConversionOptions {
+        if (style == null) {
+            throw new IllegalArgumentException("Style cannot be null");
+        }
+        if (locale == null) {
+            throw new IllegalArgumentException("Locale cannot be null");
+        }
+    }
+
+    /**
+     * Returns the options of {@link BritishSpokenTimeConverter}: standard British phrases with AM/PM.
+     */
+    public static ConversionOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Checks if regular hours are spoken with the period, which is never the case for 24-hour times.
+     */
+    public boolean speaksPeriod() {
+        return period && style != Style.TWENTY_FOUR_HOUR;
+    }
+
+    /**
+     * Returns options equal for every pair of options speaking the same phrases, used to share phrase tables.
+     */
+    ConversionOptions tableKey() {
+        return period == speaksPeriod() ? this : new ConversionOptions(style, false, locale);
+    }
+
+    /**
+     * Returns a copy of these options with the given style.
+     *
+     * @param style the style
+     * @return the options
+     * @throws IllegalArgumentException if style is null
+     */
+    public ConversionOptions withStyle(Style style) {
+        return new ConversionOptions(style, period, locale);
+    }
+
+    /**
+     * Returns a copy of these options with or without the period suffix.
+     *
+     * @param period whether regular hours are followed by the period
+     * @return the options
+     */
+    public ConversionOptions withPeriod(boolean period) {
+        return new ConversionOptions(style, period, locale);
+    }
+
+    /**
+     * Returns a copy of these options with the vocabulary of the given locale.
+     *
+     * @param locale the locale
+     * @return the options
+     * @throws IllegalArgumentException if locale is null
+     */
+    public ConversionOptions withLocale(Locale locale) {
+        return new ConversionOptions(style, period, locale);
+    }
+
+}
@@ -0,0 +1,179 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.Time;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts {@link Time} objects using a compressed table of all spoken phrases of a day.
+ * Every phrase is stored as a short sequence of word indexes into a {@link PhraseDictionary},
+ * which may be shared with converters of other vocabularies and styles, instead of as a full {@link String}.
+ * A conversion copies the Latin-1 bytes of the words into a new string sized exactly for the phrase.
+ *
+ * <p>Produces exactly the phrases of the converter it is built from. Instances are immutable and thread-safe.
+ */
+public class DictionarySpokenTimeConverter implements SpokenTimeConverter {
+
+    private final PhraseDictionary dictionary;
+
+    /**
+     * Word indexes of all phrases, one phrase after another.
+     */
+    private final char[] words;
+
+    /**
+     * Start of the words of every minute in {@link #words}, followed by the end of the last phrase.
+     */
+    private final int[] offsets;
+
+    /**
+     * Length in characters of the phrase of every minute.
+     */
+    private final char[] lengths;
+
+    /**
+     * Creates a new converter of the phrases of {@link BritishSpokenTimeConverter} with its own dictionary.
+     */
+    public DictionarySpokenTimeConverter() {
+        this(new BritishSpokenTimeConverter());
+    }
+
+    /**
+     * Creates a new converter of the phrases of the given converter with its own dictionary.
+     *
+     * @param source the converter whose phrases are stored
+     * @throws IllegalArgumentException if source is null or produces a phrase that is not Latin-1
+     */
+    public DictionarySpokenTimeConverter(SpokenTimeConverter source) {
+        this(source, PhraseDictionary.of(source));
+    }
+
+    /**
+     * Creates a new converter of the phrases of the given converter encoded against a shared dictionary.
+     *
+     * @param source     the converter whose phrases are stored
+     * @param dictionary the dictionary holding every word of the phrases
+     * @throws IllegalArgumentException if source or dictionary is null, or if a word of a phrase
+     *                                  is missing from the dictionary
+     */
+    public DictionarySpokenTimeConverter(SpokenTimeConverter source, PhraseDictionary dictionary) {
+        if (source == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+
+        String[][] phrases = new String[Time.MINUTES_PER_DAY][];
+        int total = 0;
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            phrases[minuteOfDay] = PhraseDictionary.split(source.convert(minuteOfDay));
+            total += phrases[minuteOfDay].length;
+        }
+
+        this.dictionary = dictionary;
+        this.words = new char[total];
+        this.offsets = new int[Time.MINUTES_PER_DAY + 1];
+        this.lengths = new char[Time.MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            int offset = offsets[minuteOfDay];
+            int length = phrases[minuteOfDay].length - 1;
+            for (String word : phrases[minuteOfDay]) {
+                int index = dictionary.indexOf(word);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Word '" + word + "' of time " + Time.ofMinuteOfDay(minuteOfDay)
+                            + " is missing from the dictionary");
+                }
+                words[offset++] = (char) index;
+                length += word.length();
+            }
+            offsets[minuteOfDay + 1] = offset;
+            lengths[minuteOfDay] = (char) length;
+        }
+    }
+
+    /**
+     * Converts a given {@link Time} instance to its spoken form by materializing it from the dictionary.
+     *
+     * @param time the {@link Time} to convert
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if time is null
+     */
+    @Override
+    public String convert(Time time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        return materialize(time.minuteOfDay());
+    }
+
+    /**
+     * Converts a given minute of the day by materializing its phrase from the dictionary.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439
+     */
+    @Override
+    public String convert(int minuteOfDay) {
+        Time.validateMinuteOfDay(minuteOfDay);
+        return materialize(minuteOfDay);
+    }
+
+    /**
+     * Appends the spoken form of a given {@link Time} instance to the target, word by word from the dictionary.
+     *
+     * @param time   the {@link Time} to convert
+     * @param target the builder receiving the spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    @Override
+    public StringBuilder convertTo(Time time, StringBuilder target) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+
+        int minuteOfDay = time.minuteOfDay();
+        int start = offsets[minuteOfDay];
+        target.ensureCapacity(target.length() + lengths[minuteOfDay]);
+        for (int word = start, end = offsets[minuteOfDay + 1]; word < end; word++) {
+            if (word > start) {
+                target.append(' ');
+            }
+            dictionary.appendWord(words[word], target);
+        }
+        return target;
+    }
+
+    /**
+     * Returns the dictionary the phrases are encoded against.
+     */
+    public PhraseDictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the number of word indexes stored for all phrases of the day.
+     */
+    int wordCount() {
+        return words.length;
+    }
+
+    private String materialize(int minuteOfDay) {
+        byte[] phrase = new byte[lengths[minuteOfDay]];
+        int start = offsets[minuteOfDay];
+        int position = 0;
+        for (int word = start, end = offsets[minuteOfDay + 1]; word < end; word++) {
+            if (word > start) {
+                phrase[position++] = ' ';
+            }
+            position = dictionary.copyWord(words[word], phrase, position);
+        }
+        return new String(phrase, StandardCharsets.ISO_8859_1);
+    }
+
+}
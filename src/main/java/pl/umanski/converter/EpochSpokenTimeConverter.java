@@ -0,0 +1,261 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.Time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts instants given as epoch milliseconds into the spoken local time of a time zone, in bulk.
+ * Instead of building a {@link java.time.ZonedDateTime} and a {@link Time} per value, the offset of the zone
+ * is looked up once per offset period, that is once between two transitions such as daylight saving changes,
+ * and every value inside the period is resolved to its minute of the day with plain arithmetic.
+ * A fixed-offset zone, such as UTC, needs a single lookup for any number of values.
+ *
+ * <p>Offset periods are cached per call, so instances hold no mutable state and are thread-safe
+ * if the wrapped converter is.
+ */
+public class EpochSpokenTimeConverter {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    /**
+     * Number of zones whose periods are found by comparing references before looking them up in a map.
+     */
+    private static final int RECENT_ZONES = 8;
+
+    private final SpokenTimeConverter converter;
+
+    /**
+     * Creates a new converter speaking times with the precomputed British phrase table.
+     */
+    public EpochSpokenTimeConverter() {
+        this(new PrecomputedSpokenTimeConverter());
+    }
+
+    /**
+     * Creates a new converter speaking times with the given converter.
+     *
+     * @param converter the time converter to use
+     * @throws IllegalArgumentException if converter is null
+     */
+    public EpochSpokenTimeConverter(SpokenTimeConverter converter) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        this.converter = converter;
+    }
+
+    /**
+     * Converts an instant to the spoken local time of a zone.
+     *
+     * @param epochMilli the instant as milliseconds since 1970-01-01T00:00Z
+     * @param zone       the time zone
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if zone is null
+     */
+    public String convert(long epochMilli, ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        return converter.convert(new OffsetPeriod(zone).minuteOfDay(epochMilli));
+    }
+
+    /**
+     * Converts instants of a single zone into the same positions of the target array.
+     *
+     * @param epochMillis the instants as milliseconds since 1970-01-01T00:00Z
+     * @param zone        the time zone of all instants
+     * @param target      the array receiving the spoken forms, at least as long as epochMillis
+     * @throws IllegalArgumentException  if epochMillis, zone or target is null
+     * @throws IndexOutOfBoundsException if target is shorter than epochMillis
+     */
+    public void convertAll(long[] epochMillis, ZoneId zone, String[] target) {
+        if (epochMillis == null) {
+            throw new IllegalArgumentException("Epoch millis cannot be null");
+        }
+        convertAll(epochMillis, 0, epochMillis.length, zone, target, 0);
+    }
+
+    /**
+     * Converts a range of instants of a single zone.
+     *
+     * @param epochMillis  the instants as milliseconds since 1970-01-01T00:00Z
+     * @param offset       the index of the first instant to convert
+     * @param length       the number of instants to convert
+     * @param zone         the time zone of all instants
+     * @param target       the array receiving the spoken forms
+     * @param targetOffset the index in target receiving the spoken form of the first instant
+     * @throws IllegalArgumentException  if epochMillis, zone or target is null
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    public void convertAll(long[] epochMillis, int offset, int length, ZoneId zone,
+                           String[] target, int targetOffset) {
+        checkArguments(epochMillis, offset, length, target, targetOffset);
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+
+        OffsetPeriod period = new OffsetPeriod(zone);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = converter.convert(period.minuteOfDay(epochMillis[offset + i]));
+        }
+    }
+
+    /**
+     * Converts instants, each with its own zone, into the same positions of the target array.
+     * The offset period of each distinct zone is cached, so rows of a few zones interleaved in any order
+     * still resolve with plain arithmetic, whether the rows share {@link ZoneId} instances or hold equal ones.
+     *
+     * @param epochMillis the instants as milliseconds since 1970-01-01T00:00Z
+     * @param zones       the time zone of every instant
+     * @param target      the array receiving the spoken forms, at least as long as epochMillis
+     * @throws IllegalArgumentException  if epochMillis, zones, any zone or target is null
+     * @throws IndexOutOfBoundsException if zones or target is shorter than epochMillis
+     */
+    public void convertAll(long[] epochMillis, ZoneId[] zones, String[] target) {
+        if (epochMillis == null) {
+            throw new IllegalArgumentException("Epoch millis cannot be null");
+        }
+        if (zones == null) {
+            throw new IllegalArgumentException("Zones cannot be null");
+        }
+        checkArguments(epochMillis, 0, epochMillis.length, target, 0);
+        Objects.checkFromIndexSize(0, epochMillis.length, zones.length);
+
+        // Periods of the first few zones are found by identity or equality, without hashing, and any others
+        // through the map
+        OffsetPeriod[] recent = new OffsetPeriod[RECENT_ZONES];
+        Map<ZoneId, OffsetPeriod> periods = new HashMap<>();
+        for (int i = 0; i < epochMillis.length; i++) {
+            ZoneId zone = zones[i];
+            OffsetPeriod period = findRecent(recent, zone);
+            if (period == null) {
+                if (zone == null) {
+                    throw new IllegalArgumentException("Zone cannot be null, at index: " + i);
+                }
+                period = periods.computeIfAbsent(zone, OffsetPeriod::new);
+                remember(recent, period);
+            }
+            target[i] = converter.convert(period.minuteOfDay(epochMillis[i]));
+        }
+    }
+
+    /**
+     * Returns the recent period of the zone, or null if there is none. Zones are compared by identity first,
+     * so that rows sharing instances skip equals, and then by equality, as {@link ZoneId#of(String)} returns
+     * a new instance on every call.
+     */
+    private static OffsetPeriod findRecent(OffsetPeriod[] recent, ZoneId zone) {
+        int count = 0;
+        while (count < recent.length && recent[count] != null) {
+            if (recent[count].zone == zone) {
+                return recent[count];
+            }
+            count++;
+        }
+        if (zone != null) {
+            for (int j = 0; j < count; j++) {
+                if (recent[j].zone.equals(zone)) {
+                    return recent[j];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts the period into the first free slot of the recent periods, unless it is already there or they are full.
+     */
+    private static void remember(OffsetPeriod[] recent, OffsetPeriod period) {
+        for (int j = 0; j < recent.length; j++) {
+            if (recent[j] == null) {
+                recent[j] = period;
+                return;
+            }
+            if (recent[j] == period) {
+                return;
+            }
+        }
+    }
+
+    private static void checkArguments(long[] epochMillis, int offset, int length, String[] target,
+                                       int targetOffset) {
+        if (epochMillis == null) {
+            throw new IllegalArgumentException("Epoch millis cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, epochMillis.length);
+        Objects.checkFromIndexSize(targetOffset, length, target.length);
+    }
+
+    /**
+     * Offset of a zone during the period between two of its transitions, refreshed whenever an instant
+     * outside the period is resolved.
+     */
+    static final class OffsetPeriod {
+
+        private final ZoneId zone;
+        private final ZoneRules rules;
+
+        /*
+         * Epoch seconds where the cached offset starts (inclusive) and ends (exclusive). The empty initial
+         * period makes the first instant load the offset.
+         */
+        private long start = Long.MAX_VALUE;
+        private long end = Long.MIN_VALUE;
+        private int offsetSeconds;
+        private int lookups;
+
+        OffsetPeriod(ZoneId zone) {
+            this.zone = zone;
+            this.rules = zone.getRules();
+        }
+
+        /**
+         * Returns the local minute of the day of an instant.
+         */
+        int minuteOfDay(long epochMilli) {
+            long epochSecond = Math.floorDiv(epochMilli, MILLIS_PER_SECOND);
+            if (epochSecond < start || epochSecond >= end) {
+                load(epochSecond);
+            }
+            long localMinute = Math.floorDiv(epochSecond + offsetSeconds, SECONDS_PER_MINUTE);
+            return (int) Math.floorMod(localMinute, (long) Time.MINUTES_PER_DAY);
+        }
+
+        /**
+         * Returns the number of times the offset was looked up in the zone rules.
+         */
+        int lookups() {
+            return lookups;
+        }
+
+        private void load(long epochSecond) {
+            lookups++;
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                start = Long.MIN_VALUE;
+                end = Long.MAX_VALUE;
+                return;
+            }
+
+            // The previous transition of the next second is the last one at or before this second
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            start = previous != null ? previous.toEpochSecond() : Long.MIN_VALUE;
+            end = next != null ? next.toEpochSecond() : Long.MAX_VALUE;
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.Time;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable dictionary of the words of spoken phrases, such as "quarter", "past" and "PM", stored as Latin-1 bytes
+ * one after another. Phrases of many converters, for example of several vocabularies or styles, can be encoded
+ * against one shared dictionary by {@link DictionarySpokenTimeConverter}, so that every word is stored once
+ * per virtual machine. Words are found by an open-addressing table of their indexes, which compares the stored bytes
+ * instead of keeping the words as strings. Words are the parts of a phrase between single spaces.
+ */
+public final class PhraseDictionary {
+
+    /**
+     * Maximum number of words, so that an index fits in a {@code char}.
+     */
+    static final int MAX_WORDS = Character.MAX_VALUE + 1;
+
+    /**
+     * Latin-1 bytes of all words, one after another.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Start of every word in {@link #bytes}, followed by the end of the last word.
+     */
+    private final int[] offsets;
+
+    /**
+     * Index of the word in every slot of a power-of-two table probed linearly from the hash of the word,
+     * or -1 for an empty slot. At most half of the slots are used.
+     */
+    private final int[] slots;
+
+    private PhraseDictionary(Map<String, Integer> indexes) {
+        String[] words = new String[indexes.size()];
+        indexes.forEach((word, index) -> words[index] = word);
+
+        this.offsets = new int[words.length + 1];
+        for (int index = 0; index < words.length; index++) {
+            offsets[index + 1] = offsets[index] + words[index].length();
+        }
+        this.bytes = new byte[offsets[words.length]];
+        for (int index = 0; index < words.length; index++) {
+            byte[] word = words[index].getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(word, 0, bytes, offsets[index], word.length);
+        }
+
+        this.slots = new int[Math.max(2, Integer.highestOneBit(words.length) << 2)];
+        Arrays.fill(slots, -1);
+        int mask = slots.length - 1;
+        for (int index = 0; index < words.length; index++) {
+            int slot = words[index].hashCode() & mask;
+            while (slots[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index;
+        }
+    }
+
+    /**
+     * Creates a dictionary of the words of every phrase of the given converter.
+     *
+     * @param converter the converter providing the phrases
+     * @return the dictionary
+     * @throws IllegalArgumentException if converter is null or produces a phrase that is not Latin-1
+     */
+    public static PhraseDictionary of(SpokenTimeConverter converter) {
+        return builder().addPhrases(converter).build();
+    }
+
+    /**
+     * Creates a new builder of a dictionary shared by several converters.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of distinct words.
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the word of the given index.
+     *
+     * @param index the index of the word
+     * @return the word
+     * @throws IndexOutOfBoundsException if index is not between 0 and size - 1
+     */
+    public String word(int index) {
+        return new String(bytes, offsets[index], wordLength(index), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the index of the given word.
+     *
+     * @param word the word
+     * @return the index of the word, or -1 if the dictionary does not hold it
+     */
+    public int indexOf(String word) {
+        if (word == null) {
+            return -1;
+        }
+        int mask = slots.length - 1;
+        for (int slot = word.hashCode() & mask; slots[slot] >= 0; slot = (slot + 1) & mask) {
+            if (matches(slots[slot], word)) {
+                return slots[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the word of the given index consists of the characters of the given word.
+     */
+    private boolean matches(int index, String word) {
+        int offset = offsets[index];
+        if (offsets[index + 1] - offset != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if ((bytes[offset + i] & 0xFF) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int wordLength(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Copies the Latin-1 bytes of a word to the target.
+     *
+     * @return the position in the target after the copied word
+     */
+    int copyWord(int index, byte[] target, int position) {
+        int offset = offsets[index];
+        int length = offsets[index + 1] - offset;
+        System.arraycopy(bytes, offset, target, position, length);
+        return position + length;
+    }
+
+    /**
+     * Appends a word to the target.
+     */
+    void appendWord(int index, StringBuilder target) {
+        for (int i = offsets[index], end = offsets[index + 1]; i < end; i++) {
+            target.append((char) (bytes[i] & 0xFF));
+        }
+    }
+
+    /**
+     * Builder collecting the words of the phrases of one or more converters.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the words of every phrase of the given converter.
+         *
+         * @param converter the converter providing the phrases
+         * @return this builder
+         * @throws IllegalArgumentException if converter is null or produces a phrase that is not Latin-1
+         */
+        public Builder addPhrases(SpokenTimeConverter converter) {
+            if (converter == null) {
+                throw new IllegalArgumentException("Converter cannot be null");
+            }
+            for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                addPhrase(converter.convert(minuteOfDay));
+            }
+            return this;
+        }
+
+        /**
+         * Adds the words of a phrase.
+         *
+         * @param phrase the phrase
+         * @return this builder
+         * @throws IllegalArgumentException if phrase is null or not Latin-1, or if the dictionary is full
+         */
+        public Builder addPhrase(String phrase) {
+            for (String word : split(phrase)) {
+                if (!indexes.containsKey(word)) {
+                    if (indexes.size() == MAX_WORDS) {
+                        throw new IllegalArgumentException("Dictionary cannot hold more than " + MAX_WORDS + " words");
+                    }
+                    indexes.put(word, indexes.size());
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Builds the dictionary.
+         *
+         * @return the immutable dictionary
+         */
+        public PhraseDictionary build() {
+            return new PhraseDictionary(indexes);
+        }
+
+    }
+
+    /**
+     * Splits a phrase into words at every single space, keeping empty words, so that joining them restores it.
+     *
+     * @throws IllegalArgumentException if phrase is null or not Latin-1
+     */
+    static String[] split(String phrase) {
+        if (phrase == null) {
+            throw new IllegalArgumentException("Phrase cannot be null");
+        }
+        for (int i = 0; i < phrase.length(); i++) {
+            if (phrase.charAt(i) > 0xFF) {
+                throw new IllegalArgumentException("Phrase '" + phrase + "' is not Latin-1");
+            }
+        }
+        return phrase.split(" ", -1);
+    }
+
+}
@@ -0,0 +1,43 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.PreciseTime;
+
+/**
+ * Interface for converting {@link PreciseTime} objects into their spoken representation.
+ */
+public interface PreciseSpokenTimeConverter {
+
+    /**
+     * Converts a given {@link PreciseTime} instance to its spoken form.
+     * The default implementation collects the output of {@link #convertTo(PreciseTime, StringBuilder)}.
+     *
+     * @param time the {@link PreciseTime} to convert
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if time is null
+     */
+    default String convert(PreciseTime time) {
+        return convertTo(time, new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends the spoken form of a given {@link PreciseTime} instance to the target.
+     *
+     * @param time   the {@link PreciseTime} to convert
+     * @param target the builder receiving the spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    StringBuilder convertTo(PreciseTime time, StringBuilder target);
+
+    /**
+     * Converts a given second of the day ({@code hour * 3600 + minute * 60 + second}) to its spoken form.
+     *
+     * @param secondOfDay the second of the day (0-86399)
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if secondOfDay is not between 0 and 86399
+     */
+    default String convert(int secondOfDay) {
+        return convert(PreciseTime.ofSecondOfDay(secondOfDay));
+    }
+
+}
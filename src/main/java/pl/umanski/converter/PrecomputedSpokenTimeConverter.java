@@ -0,0 +1,232 @@
+package pl.umanski.converter;
+
+import pl.umanski.jfr.BatchEvent;
+import pl.umanski.jfr.ConvertEvent;
+import pl.umanski.jfr.FlightRecording;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.StrategyRegistry;
+import pl.umanski.strategy.TimeFormatStrategy;
+
+import java.util.List;
+
+/**
+ * Converts {@link Time} objects using a table of all spoken phrases of a day.
+ * The table holds one phrase per minute of the day and is built once from the given strategies,
+ * so every conversion is a single array lookup. Conversions emit a {@link ConvertEvent}
+ * and batches a {@link BatchEvent} when the events are enabled.
+ */
+public class PrecomputedSpokenTimeConverter implements SpokenTimeConverter {
+
+    /**
+     * Number of distinct minutes in a day.
+     */
+    public static final int MINUTES_PER_DAY = Time.MINUTES_PER_DAY;
+
+    /**
+     * Defines when the phrase table is built.
+     */
+    public enum Initialization {
+        /**
+         * The table is built in the constructor.
+         */
+        EAGER,
+        /**
+         * The table is built on the first conversion.
+         */
+        LAZY
+    }
+
+    private final TimeFormatStrategy[] strategyPerMinute;
+    private volatile String[] table;
+
+    /**
+     * Creates a new eagerly initialized converter with the default British strategies.
+     */
+    public PrecomputedSpokenTimeConverter() {
+        this(BritishSpokenTimeConverter.defaultStrategies(), Initialization.EAGER);
+    }
+
+    /**
+     * Creates a new converter from the given strategies.
+     *
+     * @param strategies     the strategies covering every minute of the day
+     * @param initialization when the phrase table should be built
+     * @throws IllegalArgumentException if strategies or initialization is null, or if any minute of the day
+     *                                  is handled by none or by more than one strategy
+     */
+    public PrecomputedSpokenTimeConverter(List<TimeFormatStrategy> strategies, Initialization initialization) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("Strategies cannot be null");
+        }
+        if (initialization == null) {
+            throw new IllegalArgumentException("Initialization cannot be null");
+        }
+
+        this.strategyPerMinute = assignStrategies(strategies);
+        if (initialization == Initialization.EAGER) {
+            this.table = buildTable(strategyPerMinute);
+        }
+    }
+
+    /**
+     * Creates a new converter from the strategies of the given registry.
+     *
+     * @param registry       the registry assigning a strategy to every minute
+     * @param initialization when the phrase table should be built
+     * @throws IllegalArgumentException if registry or initialization is null
+     */
+    public PrecomputedSpokenTimeConverter(StrategyRegistry registry, Initialization initialization) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        if (initialization == null) {
+            throw new IllegalArgumentException("Initialization cannot be null");
+        }
+
+        this.strategyPerMinute = new TimeFormatStrategy[MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            strategyPerMinute[minuteOfDay] = registry.strategyFor(minuteOfDay % StrategyRegistry.MINUTES_PER_HOUR);
+        }
+        if (initialization == Initialization.EAGER) {
+            this.table = buildTable(strategyPerMinute);
+        }
+    }
+
+    /**
+     * Converts a given {@link Time} instance to its spoken form by looking it up in the phrase table.
+     *
+     * @param time the {@link Time} to convert
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if time is null
+     */
+    @Override
+    public String convert(Time time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+
+        return lookup(time.minuteOfDay());
+    }
+
+    /**
+     * Appends the spoken form of a given {@link Time} instance, copied from the phrase table, to the target.
+     *
+     * @param time   the {@link Time} to convert
+     * @param target the builder receiving the spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    @Override
+    public StringBuilder convertTo(Time time, StringBuilder target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        return target.append(convert(time));
+    }
+
+    /**
+     * Converts a given minute of the day by looking it up in the phrase table.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439
+     */
+    @Override
+    public String convert(int minuteOfDay) {
+        Time.validateMinuteOfDay(minuteOfDay);
+        return lookup(minuteOfDay);
+    }
+
+    private String lookup(int minuteOfDay) {
+        ConvertEvent event = FlightRecording.beginConvert();
+        String spoken = table()[minuteOfDay];
+        if (event != null) {
+            event.complete(minuteOfDay, strategyPerMinute[minuteOfDay].getClass(), true);
+        }
+        return spoken;
+    }
+
+    /**
+     * Converts a batch of minute-of-day values by copying their phrases from the table.
+     *
+     * @see SpokenTimeConverter#convertAll(int[], int, int, String[], int)
+     */
+    @Override
+    public BatchConversionResult convertAll(int[] minutesOfDay, int offset, int length,
+                                            String[] target, int targetOffset) {
+        BatchConversionResult.checkArguments(minutesOfDay, offset, length, target, targetOffset);
+
+        BatchEvent event = FlightRecording.beginBatch();
+        BatchConversionResult result = BatchConversionResult.validate(minutesOfDay, offset, length);
+        String[] phrases = table();
+        if (result.isSuccessful()) {
+            for (int i = 0; i < length; i++) {
+                target[targetOffset + i] = phrases[minutesOfDay[offset + i]];
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                int minuteOfDay = minutesOfDay[offset + i];
+                target[targetOffset + i] = BatchConversionResult.isValid(minuteOfDay) ? phrases[minuteOfDay] : null;
+            }
+        }
+        if (event != null) {
+            event.complete(BatchEvent.ARRAY, length, result.invalidCount(), 0, null);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the phrase table, building it on first use for lazily initialized converters.
+     */
+    private String[] table() {
+        String[] result = table;
+        if (result == null) {
+            synchronized (this) {
+                result = table;
+                if (result == null) {
+                    result = buildTable(strategyPerMinute);
+                    table = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the single strategy responsible for every minute of the day.
+     *
+     * @throws IllegalArgumentException if any minute is handled by none or by more than one strategy
+     */
+    private static TimeFormatStrategy[] assignStrategies(List<TimeFormatStrategy> strategies) {
+        TimeFormatStrategy[] assigned = new TimeFormatStrategy[MINUTES_PER_DAY];
+
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            for (TimeFormatStrategy strategy : strategies) {
+                if (!strategy.canHandle(time)) {
+                    continue;
+                }
+                if (assigned[minuteOfDay] != null) {
+                    throw new IllegalArgumentException("Time " + time + " is handled by more than one strategy: "
+                            + assigned[minuteOfDay].getClass().getSimpleName() + ", "
+                            + strategy.getClass().getSimpleName());
+                }
+                assigned[minuteOfDay] = strategy;
+            }
+            if (assigned[minuteOfDay] == null) {
+                throw new IllegalArgumentException("No strategy handles time: " + time);
+            }
+        }
+        return assigned;
+    }
+
+    private static String[] buildTable(TimeFormatStrategy[] strategyPerMinute) {
+        String[] phrases = new String[MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            phrases[minuteOfDay] = strategyPerMinute[minuteOfDay].format(time);
+        }
+        return phrases;
+    }
+
+}
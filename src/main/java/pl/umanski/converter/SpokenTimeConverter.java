@@ -1,6 +1,11 @@
 package pl.umanski.converter;
 
+import pl.umanski.jfr.BatchEvent;
+import pl.umanski.jfr.FlightRecording;
 import pl.umanski.model.Time;
+import pl.umanski.model.TimeRange;
+
+import java.util.function.BiConsumer;
 
 /**
  * Interface for converting {@link Time} objects into their spoken representation
@@ -9,11 +14,114 @@ public interface SpokenTimeConverter {
 
     /**
      * Converts a given {@link Time} instance to its spoken form.
+     * The default implementation collects the output of {@link #convertTo(Time, StringBuilder)}.
      *
      * @param time the {@link Time} to convert
      * @return the spoken time representation
      * @throws IllegalArgumentException if time is null
      */
-    String convert(Time time);
+    default String convert(Time time) {
+        return convertTo(time, new StringBuilder(32)).toString();
+    }
+
+    /**
+     * Appends the spoken form of a given {@link Time} instance to the target,
+     * so that callers assembling a larger message need no intermediate string.
+     *
+     * @param time   the {@link Time} to convert
+     * @param target the builder receiving the spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    StringBuilder convertTo(Time time, StringBuilder target);
+
+    /**
+     * Converts a given minute of the day ({@code hour * 60 + minute}) to its spoken form.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439
+     */
+    default String convert(int minuteOfDay) {
+        return convert(Time.ofMinuteOfDay(minuteOfDay));
+    }
+
+    /**
+     * Renders every time of a range into the same reused buffer and passes it to the action, time by time.
+     * The buffer is cleared before each time, so the action sees exactly one spoken time and must copy it
+     * if it needs it later. With a converter that appends without allocating, such as
+     * {@link PrecomputedSpokenTimeConverter}, rendering a schedule of any length allocates nothing per time.
+     *
+     * @param range  the times to convert
+     * @param buffer the builder receiving each spoken time in turn
+     * @param action the action receiving each time with the buffer holding its spoken form
+     * @throws IllegalArgumentException if range, buffer or action is null
+     */
+    default void convertRange(TimeRange range, StringBuilder buffer,
+                              BiConsumer<? super Time, ? super StringBuilder> action) {
+        if (range == null) {
+            throw new IllegalArgumentException("Range cannot be null");
+        }
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        for (Time time : range) {
+            buffer.setLength(0);
+            action.accept(time, convertTo(time, buffer));
+        }
+    }
+
+    /**
+     * Converts a batch of minute-of-day values ({@code hour * 60 + minute}) to their spoken forms.
+     * The whole batch is validated first, invalid values are reported in the result instead of being thrown,
+     * and their target slots are set to null.
+     *
+     * @param minutesOfDay the values to convert
+     * @param offset       the index of the first value to convert
+     * @param length       the number of values to convert
+     * @param target       the array receiving the spoken forms
+     * @param targetOffset the index in target receiving the spoken form of the first value
+     * @return the number of converted values and the positions of invalid values
+     * @throws IllegalArgumentException  if minutesOfDay or target is null
+     * @throws IndexOutOfBoundsException if a range is outside the bounds of its array
+     */
+    default BatchConversionResult convertAll(int[] minutesOfDay, int offset, int length,
+                                             String[] target, int targetOffset) {
+        BatchConversionResult.checkArguments(minutesOfDay, offset, length, target, targetOffset);
+
+        BatchEvent event = FlightRecording.beginBatch();
+        BatchConversionResult result = BatchConversionResult.validate(minutesOfDay, offset, length);
+        for (int i = 0; i < length; i++) {
+            int minuteOfDay = minutesOfDay[offset + i];
+            target[targetOffset + i] = BatchConversionResult.isValid(minuteOfDay)
+                    ? convert(minuteOfDay)
+                    : null;
+        }
+        if (event != null) {
+            event.complete(BatchEvent.ARRAY, length, result.invalidCount(), 0, null);
+        }
+        return result;
+    }
+
+    /**
+     * Converts all minute-of-day values into the same positions of the target array.
+     *
+     * @param minutesOfDay the values to convert
+     * @param target       the array receiving the spoken forms, at least as long as minutesOfDay
+     * @return the number of converted values and the positions of invalid values
+     * @throws IllegalArgumentException  if minutesOfDay or target is null
+     * @throws IndexOutOfBoundsException if target is shorter than minutesOfDay
+     * @see #convertAll(int[], int, int, String[], int)
+     */
+    default BatchConversionResult convertAll(int[] minutesOfDay, String[] target) {
+        if (minutesOfDay == null) {
+            throw new IllegalArgumentException("Minutes of day cannot be null");
+        }
+        return convertAll(minutesOfDay, 0, minutesOfDay.length, target, 0);
+    }
 
 }
@@ -0,0 +1,267 @@
+package pl.umanski.converter;
+
+import pl.umanski.converter.PrecomputedSpokenTimeConverter.Initialization;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.*;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Converts {@link Time} objects into spoken phrases of any {@link ConversionOptions}.
+ * Each combination of options is compiled into its own {@link PrecomputedSpokenTimeConverter} table on first use,
+ * so later conversions with the same options are a lock-free map lookup and an array lookup. The tables are held
+ * in a cache of bounded size that evicts the least recently used table, so that rarely used combinations do not
+ * stay in memory. A table is stamped with a shared clock only when another table was used after it, so repeated
+ * conversions with the same options write no shared state, and under concurrent use the evicted table is only
+ * approximately the least recently used one. Conversions without options use {@link ConversionOptions#defaults()}.
+ * Instances are thread-safe.
+ */
+public class StyledSpokenTimeConverter implements SpokenTimeConverter {
+
+    /**
+     * Number of tables cached by default, enough for every style in two locales.
+     */
+    public static final int DEFAULT_MAX_TABLES = 8;
+
+    private static final int[] MINUTES_BEFORE_HALF = IntStream.range(1, 30).toArray();
+
+    private final int maxTables;
+    private final Map<ConversionOptions, CachedTable> tables = new ConcurrentHashMap<>();
+
+    /*
+     * Logical clock stamping the use of a table, advanced only when a table other than the last stamped one is used.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Creates a new converter caching up to {@value #DEFAULT_MAX_TABLES} tables.
+     */
+    public StyledSpokenTimeConverter() {
+        this(DEFAULT_MAX_TABLES);
+    }
+
+    /**
+     * Creates a new converter caching up to the given number of tables.
+     *
+     * @param maxTables the maximum number of cached tables, each about 100 KB
+     * @throws IllegalArgumentException if maxTables is not positive
+     */
+    public StyledSpokenTimeConverter(int maxTables) {
+        if (maxTables < 1) {
+            throw new IllegalArgumentException("Max tables must be positive, got: " + maxTables);
+        }
+        this.maxTables = maxTables;
+    }
+
+    /**
+     * Converts a given {@link Time} instance to its spoken form with the default options.
+     *
+     * @param time the {@link Time} to convert
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if time is null
+     */
+    @Override
+    public String convert(Time time) {
+        return convert(time, ConversionOptions.defaults());
+    }
+
+    /**
+     * Appends the spoken form of a given {@link Time} instance with the default options to the target.
+     *
+     * @param time   the {@link Time} to convert
+     * @param target the builder receiving the spoken time representation
+     * @return the target
+     * @throws IllegalArgumentException if time or target is null
+     */
+    @Override
+    public StringBuilder convertTo(Time time, StringBuilder target) {
+        return tableFor(ConversionOptions.defaults()).convertTo(time, target);
+    }
+
+    /**
+     * Converts a given minute of the day with the default options.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439
+     */
+    @Override
+    public String convert(int minuteOfDay) {
+        return convert(minuteOfDay, ConversionOptions.defaults());
+    }
+
+    /**
+     * Converts a given {@link Time} instance to its spoken form in the given style.
+     *
+     * @param time    the {@link Time} to convert
+     * @param options the style of the spoken time
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if time or options is null
+     */
+    public String convert(Time time, ConversionOptions options) {
+        return tableFor(options).convert(time);
+    }
+
+    /**
+     * Converts a given minute of the day ({@code hour * 60 + minute}) to its spoken form in the given style.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @param options     the style of the spoken time
+     * @return the spoken time representation
+     * @throws IllegalArgumentException if options is null, or if minuteOfDay is not between 0 and 1439
+     */
+    public String convert(int minuteOfDay, ConversionOptions options) {
+        return tableFor(options).convert(minuteOfDay);
+    }
+
+    /**
+     * Returns a converter speaking every time in the given style. The returned converter looks the table up
+     * on every conversion, so it does not keep an evicted table in memory.
+     *
+     * @param options the style of the spoken time
+     * @return the converter
+     * @throws IllegalArgumentException if options is null
+     */
+    public SpokenTimeConverter withOptions(ConversionOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+        return new SpokenTimeConverter() {
+            @Override
+            public String convert(Time time) {
+                return StyledSpokenTimeConverter.this.convert(time, options);
+            }
+
+            @Override
+            public StringBuilder convertTo(Time time, StringBuilder target) {
+                return tableFor(options).convertTo(time, target);
+            }
+
+            @Override
+            public String convert(int minuteOfDay) {
+                return StyledSpokenTimeConverter.this.convert(minuteOfDay, options);
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum number of cached tables.
+     */
+    public int maxTables() {
+        return maxTables;
+    }
+
+    /**
+     * Returns the number of currently cached tables.
+     */
+    int cachedTables() {
+        return tables.size();
+    }
+
+    /**
+     * Checks if the table of the given options is currently cached, without marking it as used.
+     */
+    boolean isCached(ConversionOptions options) {
+        return tables.containsKey(options.tableKey());
+    }
+
+    /**
+     * Returns the cached table of the given options, compiling it first if needed. The table is compiled
+     * outside any lock, so that conversions with cached options never wait for it; if two threads compile
+     * the same table at once, the first one cached is kept.
+     */
+    private PrecomputedSpokenTimeConverter tableFor(ConversionOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+
+        ConversionOptions key = options.tableKey();
+        CachedTable cached = tables.get(key);
+        if (cached == null) {
+            CachedTable compiled = new CachedTable(new PrecomputedSpokenTimeConverter(registryFor(key),
+                    Initialization.EAGER));
+            compiled.lastUsed = clock.incrementAndGet();
+            cached = tables.putIfAbsent(key, compiled);
+            if (cached == null) {
+                cached = compiled;
+                evictLeastRecentlyUsed(key);
+            }
+        }
+        // Reading the clock leaves it shared between cores, only a change of table writes to it
+        if (cached.lastUsed != clock.get()) {
+            cached.lastUsed = clock.incrementAndGet();
+        }
+        return cached.table;
+    }
+
+    /**
+     * Removes the least recently used tables other than the one just added until the cache fits its bound.
+     * Synchronized so that concurrent additions do not evict more tables than needed.
+     */
+    private synchronized void evictLeastRecentlyUsed(ConversionOptions added) {
+        while (tables.size() > maxTables) {
+            Map.Entry<ConversionOptions, CachedTable> eldest = null;
+            for (Map.Entry<ConversionOptions, CachedTable> entry : tables.entrySet()) {
+                if (!entry.getKey().equals(added)
+                        && (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed)) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            tables.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Assigns a strategy of the given style to every minute.
+     */
+    static StrategyRegistry registryFor(ConversionOptions options) {
+        TimeVocabulary vocabulary = TimeVocabularies.forLocale(options.locale());
+        boolean period = options.speaksPeriod();
+
+        return switch (options.style()) {
+            case STANDARD -> StrategyRegistry.builder()
+                    .register(new ExactHourStrategy(vocabulary, period))
+                    .register(new PastTimeStrategy(vocabulary, period))
+                    .register(new DigitalTimeStrategy(vocabulary, period))
+                    .register(new ToTimeStrategy(vocabulary, period))
+                    .build();
+            case COLLOQUIAL -> StrategyRegistry.builder()
+                    .register(new ExactHourStrategy(vocabulary, period))
+                    .register(new PastTimeStrategy(vocabulary, period), MINUTES_BEFORE_HALF)
+                    .register(new HalfHourStrategy(vocabulary, period))
+                    .register(new DigitalTimeStrategy(vocabulary, period))
+                    .register(new ToTimeStrategy(vocabulary, period))
+                    .build();
+            case DIGITAL -> StrategyRegistry.builder()
+                    .register(new ExactHourStrategy(vocabulary, period))
+                    .register(new PureDigitalStrategy(vocabulary, period))
+                    .build();
+            case TWENTY_FOUR_HOUR -> StrategyRegistry.builder()
+                    .register(new TwentyFourHourStrategy(vocabulary))
+                    .build();
+        };
+    }
+
+    /**
+     * Table held in the cache with the time of its last use.
+     */
+    private static final class CachedTable {
+
+        private final PrecomputedSpokenTimeConverter table;
+        private volatile long lastUsed;
+
+        private CachedTable(PrecomputedSpokenTimeConverter table) {
+            this.table = table;
+        }
+
+    }
+
+}
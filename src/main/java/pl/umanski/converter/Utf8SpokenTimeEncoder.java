@@ -0,0 +1,173 @@
+package pl.umanski.converter;
+
+import pl.umanski.model.Time;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes spoken times as UTF-8 bytes from a table encoded once for every minute of the day.
+ * Each entry can be framed with a prefix and a suffix, such as {@code "Spoken time: "} and a line separator,
+ * so writing a complete output line is a single bulk copy.
+ */
+public final class Utf8SpokenTimeEncoder {
+
+    /**
+     * Prefix printed before every spoken time by the application.
+     */
+    public static final String SPOKEN_TIME_PREFIX = "Spoken time: ";
+
+    /**
+     * Encoded entries of all minutes, one after another.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Start of the entry of every minute in {@link #bytes}, followed by the end of the last entry.
+     */
+    private final int[] offsets;
+
+    private final int maxEncodedLength;
+
+    /**
+     * Creates a new encoder of bare spoken times.
+     *
+     * @param converter the converter providing the spoken times
+     * @throws IllegalArgumentException if converter is null
+     */
+    public Utf8SpokenTimeEncoder(SpokenTimeConverter converter) {
+        this(converter, "", "");
+    }
+
+    /**
+     * Creates a new encoder of spoken times framed with a prefix and a suffix.
+     *
+     * @param converter the converter providing the spoken times
+     * @param prefix    the text written before every spoken time
+     * @param suffix    the text written after every spoken time
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public Utf8SpokenTimeEncoder(SpokenTimeConverter converter, String prefix, String suffix) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (prefix == null || suffix == null) {
+            throw new IllegalArgumentException("Prefix and suffix cannot be null");
+        }
+
+        byte[][] entries = new byte[Time.MINUTES_PER_DAY][];
+        int total = 0;
+        int longest = 0;
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            entries[minuteOfDay] = (prefix + converter.convert(minuteOfDay) + suffix).getBytes(StandardCharsets.UTF_8);
+            total += entries[minuteOfDay].length;
+            longest = Math.max(longest, entries[minuteOfDay].length);
+        }
+
+        this.bytes = new byte[total];
+        this.offsets = new int[Time.MINUTES_PER_DAY + 1];
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            int offset = offsets[minuteOfDay];
+            System.arraycopy(entries[minuteOfDay], 0, bytes, offset, entries[minuteOfDay].length);
+            offsets[minuteOfDay + 1] = offset + entries[minuteOfDay].length;
+        }
+        this.maxEncodedLength = longest;
+    }
+
+    /**
+     * Creates an encoder of output lines as printed by the application: {@code Spoken time: ...} and a new line.
+     *
+     * @param converter the converter providing the spoken times
+     * @return the new encoder
+     * @throws IllegalArgumentException if converter is null
+     */
+    public static Utf8SpokenTimeEncoder lines(SpokenTimeConverter converter) {
+        return new Utf8SpokenTimeEncoder(converter, SPOKEN_TIME_PREFIX, "\n");
+    }
+
+    /**
+     * Returns the number of bytes written for the given minute of the day.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439
+     */
+    public int encodedLength(int minuteOfDay) {
+        Time.validateMinuteOfDay(minuteOfDay);
+        return offsets[minuteOfDay + 1] - offsets[minuteOfDay];
+    }
+
+    /**
+     * Returns the number of bytes written for the longest entry, enough to encode any minute.
+     */
+    public int maxEncodedLength() {
+        return maxEncodedLength;
+    }
+
+    /**
+     * Writes the encoded spoken time of a minute of the day at the position of the buffer.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @param target      the buffer receiving the bytes
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439
+     * @throws BufferOverflowException  if the buffer has not enough space remaining
+     */
+    public void encode(int minuteOfDay, ByteBuffer target) {
+        Time.validateMinuteOfDay(minuteOfDay);
+        int offset = offsets[minuteOfDay];
+        target.put(bytes, offset, offsets[minuteOfDay + 1] - offset);
+    }
+
+    /**
+     * Writes the encoded spoken time of a time at the position of the buffer.
+     *
+     * @param time   the time to encode
+     * @param target the buffer receiving the bytes
+     * @throws IllegalArgumentException if time is null
+     * @throws BufferOverflowException  if the buffer has not enough space remaining
+     */
+    public void encode(Time time, ByteBuffer target) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        encode(time.minuteOfDay(), target);
+    }
+
+    /**
+     * Writes the encoded spoken time of a minute of the day into an array.
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @param target      the array receiving the bytes
+     * @param offset      the index in target receiving the first byte
+     * @return the number of bytes written
+     * @throws IllegalArgumentException  if minuteOfDay is not between 0 and 1439
+     * @throws IndexOutOfBoundsException if the array has not enough space after offset
+     */
+    public int encode(int minuteOfDay, byte[] target, int offset) {
+        Time.validateMinuteOfDay(minuteOfDay);
+        int start = offsets[minuteOfDay];
+        int length = offsets[minuteOfDay + 1] - start;
+        Objects.checkFromIndexSize(offset, length, target.length);
+        System.arraycopy(bytes, start, target, offset, length);
+        return length;
+    }
+
+    /**
+     * Writes the encoded spoken time of a time into an array.
+     *
+     * @param time   the time to encode
+     * @param target the array receiving the bytes
+     * @param offset the index in target receiving the first byte
+     * @return the number of bytes written
+     * @throws IllegalArgumentException  if time is null
+     * @throws IndexOutOfBoundsException if the array has not enough space after offset
+     */
+    public int encode(Time time, byte[] target, int offset) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        return encode(time.minuteOfDay(), target, offset);
+    }
+
+}
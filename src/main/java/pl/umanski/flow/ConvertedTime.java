@@ -0,0 +1,42 @@
+package pl.umanski.flow;
+
+/**
+ * Item published by {@link SpokenTimeProcessor} for every consumed input: either its spoken time or the reason
+ * it could not be converted, so that invalid input does not terminate the stream.
+ *
+ * @param sequence   the position of the input in the stream, starting at 1
+ * @param spokenTime the spoken time, or null if the input could not be converted
+ * @param error      the message explaining why the input could not be converted, or null if it was converted
+ */
+public record ConvertedTime(long sequence, String spokenTime, String error) {
+
+    /**
+     * Creates an item of a converted input.
+     *
+     * @param sequence   the position of the input in the stream
+     * @param spokenTime the spoken time
+     * @return the item
+     */
+    public static ConvertedTime converted(long sequence, String spokenTime) {
+        return new ConvertedTime(sequence, spokenTime, null);
+    }
+
+    /**
+     * Creates an item of an input that could not be converted.
+     *
+     * @param sequence the position of the input in the stream
+     * @param error    the message explaining why
+     * @return the item
+     */
+    public static ConvertedTime failed(long sequence, String error) {
+        return new ConvertedTime(sequence, null, error);
+    }
+
+    /**
+     * Checks if the input was converted.
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+}
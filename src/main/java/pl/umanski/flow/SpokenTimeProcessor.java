@@ -0,0 +1,374 @@
+package pl.umanski.flow;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Processor} converting a stream of time strings or minute-of-day values into a stream of
+ * {@link ConvertedTime} items, one per input. Inputs that cannot be converted are published as failed items
+ * instead of terminating the stream.
+ *
+ * <p>Memory stays bounded however slow the subscriber is: the processor never requests more inputs from its
+ * publisher than fit in a buffer of fixed capacity, and converts an input only once the subscriber has requested
+ * its item, so no converted items are buffered. Inputs are taken from the buffer in micro-batches of up to half
+ * the capacity, each converted and published in one pass on the executor, after which the same number of inputs
+ * is requested from the publisher.
+ *
+ * <p>Accepts a single subscriber. As required by {@link Flow}, null items, subscriptions and subscribers
+ * are rejected with {@link NullPointerException}, and non-positive requests end the stream with
+ * {@link IllegalArgumentException}.
+ *
+ * @param <T> the type of the inputs
+ */
+public class SpokenTimeProcessor<T> implements Flow.Processor<T, ConvertedTime> {
+
+    /**
+     * Converts an input into the item published for it.
+     */
+    @FunctionalInterface
+    private interface ItemConverter<T> {
+
+        ConvertedTime convert(T input, long sequence);
+
+    }
+
+    private final ItemConverter<T> itemConverter;
+    private final Executor executor;
+    private final int capacity;
+    private final int batchSize;
+
+    private final ArrayBlockingQueue<T> buffer;
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean rejectionReported = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super ConvertedTime> downstream;
+    private volatile boolean done;
+    private volatile Throwable failure;
+    private volatile Throwable demandFailure;
+    private volatile RejectedExecutionException rejection;
+    private volatile boolean cancelled;
+
+    /*
+     * Accessed only by the drain, which never runs concurrently with itself.
+     */
+    private final List<T> batch;
+    private boolean terminated;
+    private long sequence;
+    private int consumed;
+
+    private SpokenTimeProcessor(ItemConverter<T> itemConverter, Executor executor, int capacity) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.itemConverter = itemConverter;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, capacity / 2);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Creates a processor of time strings in {@code HH:MM} or {@code H:MM} format with a buffer of
+     * {@link Flow#defaultBufferSize()} inputs, converting on the common fork/join pool.
+     *
+     * @param converter the time converter to use
+     * @return the processor
+     * @throws IllegalArgumentException if converter is null
+     */
+    public static SpokenTimeProcessor<String> ofTimeStrings(SpokenTimeConverter converter) {
+        return ofTimeStrings(converter, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a processor of time strings in {@code HH:MM} or {@code H:MM} format.
+     * Strings that cannot be parsed are published as failed items with the message of the parser.
+     *
+     * @param converter the time converter to use
+     * @param executor  the executor converting and publishing items, which should not run tasks in the calling
+     *                  thread if the subscriber may block
+     * @param capacity  the maximum number of buffered inputs
+     * @return the processor
+     * @throws IllegalArgumentException if converter or executor is null, or if capacity is not positive
+     */
+    public static SpokenTimeProcessor<String> ofTimeStrings(SpokenTimeConverter converter, Executor executor,
+                                                            int capacity) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        return new SpokenTimeProcessor<>((input, sequence) -> {
+            int minuteOfDay = TimeParser.tryParseMinuteOfDay(input.trim());
+            if (TimeParser.isError(minuteOfDay)) {
+                return ConvertedTime.failed(sequence, TimeParser.errorMessage(minuteOfDay));
+            }
+            return ConvertedTime.converted(sequence, converter.convert(minuteOfDay));
+        }, executor, capacity);
+    }
+
+    /**
+     * Creates a processor of minute-of-day values with a buffer of {@link Flow#defaultBufferSize()} inputs,
+     * converting on the common fork/join pool.
+     *
+     * @param converter the time converter to use
+     * @return the processor
+     * @throws IllegalArgumentException if converter is null
+     */
+    public static SpokenTimeProcessor<Integer> ofMinutesOfDay(SpokenTimeConverter converter) {
+        return ofMinutesOfDay(converter, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a processor of minute-of-day values. Values outside 0-1439 are published as failed items.
+     *
+     * @param converter the time converter to use
+     * @param executor  the executor converting and publishing items, which should not run tasks in the calling
+     *                  thread if the subscriber may block
+     * @param capacity  the maximum number of buffered inputs
+     * @return the processor
+     * @throws IllegalArgumentException if converter or executor is null, or if capacity is not positive
+     */
+    public static SpokenTimeProcessor<Integer> ofMinutesOfDay(SpokenTimeConverter converter, Executor executor,
+                                                              int capacity) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        return new SpokenTimeProcessor<>((input, sequence) -> {
+            int minuteOfDay = input;
+            if (minuteOfDay < 0 || minuteOfDay >= Time.MINUTES_PER_DAY) {
+                return ConvertedTime.failed(sequence,
+                        "Minute of day must be between 0 and 1439, got: " + minuteOfDay);
+            }
+            return ConvertedTime.converted(sequence, converter.convert(minuteOfDay));
+        }, executor, capacity);
+    }
+
+    /**
+     * Returns the maximum number of buffered inputs, which is also the most inputs ever requested
+     * from the publisher and not yet published.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConvertedTime> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Processor accepts only one subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+        // Published only now, so that no item can reach the subscriber before onSubscribe returns
+        downstream = subscriber;
+        if (rejection != null) {
+            // A drain was rejected before the subscriber was attached, so no drain will ever reach it
+            reportRejection();
+            return;
+        }
+        signal();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(capacity);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        if (done) {
+            return;
+        }
+        if (!buffer.offer(item)) {
+            upstream.cancel();
+            onError(new IllegalStateException("Publisher sent more items than requested"));
+            return;
+        }
+        signal();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "Throwable cannot be null");
+        failure = throwable;
+        done = true;
+        signal();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        signal();
+    }
+
+    /**
+     * Schedules a drain unless one is already scheduled or running, in which case that drain runs once more.
+     */
+    private void signal() {
+        if (pendingDrains.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // The drain is never released, so that no further signal can reach the subscriber
+            rejection = e;
+            cancelUpstream();
+            reportRejection();
+        }
+    }
+
+    /**
+     * Reports the rejected drain to the subscriber, once, whether it was attached before or after the rejection.
+     */
+    private void reportRejection() {
+        Flow.Subscriber<? super ConvertedTime> subscriber = downstream;
+        if (subscriber != null && rejectionReported.compareAndSet(false, true)) {
+            subscriber.onError(rejection);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super ConvertedTime> subscriber = downstream;
+            if (cancelled || terminated) {
+                buffer.clear();
+            } else if (demandFailure != null) {
+                terminate(subscriber, demandFailure);
+            } else if (subscriber != null) {
+                try {
+                    publish(subscriber);
+                } catch (RuntimeException e) {
+                    terminate(subscriber, e);
+                }
+            }
+            missed = pendingDrains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Publishes buffered inputs batch by batch while the subscriber has demand, then completes the stream
+     * if the publisher has completed and every input has been published.
+     */
+    private void publish(Flow.Subscriber<? super ConvertedTime> subscriber) {
+        while (!cancelled) {
+            long requested = demand.get();
+            batch.clear();
+            buffer.drainTo(batch, (int) Math.min(requested, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            for (T input : batch) {
+                subscriber.onNext(itemConverter.convert(input, ++sequence));
+            }
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-batch.size());
+            }
+            replenish(batch.size());
+        }
+        batch.clear();
+
+        // Every input arrives before the completion signal, so none can be left once done is seen
+        if (done && buffer.isEmpty() && !cancelled) {
+            terminated = true;
+            Throwable throwable = failure;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    /**
+     * Requests as many inputs as were taken from the buffer, once they add up to a batch.
+     */
+    private void replenish(int count) {
+        consumed += count;
+        if (consumed >= batchSize && !done) {
+            upstream.request(consumed);
+            consumed = 0;
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super ConvertedTime> subscriber, Throwable throwable) {
+        terminated = true;
+        cancelUpstream();
+        buffer.clear();
+        if (subscriber != null) {
+            subscriber.onError(throwable);
+        }
+    }
+
+    private void cancelUpstream() {
+        cancelled = true;
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Subscription given to the subscriber of the processor.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                demandFailure = new IllegalArgumentException("Requested items must be positive, got: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelUpstream();
+            signal();
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package pl.umanski.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event of a batch conversion: an array, a file or an HTTP batch request.
+ * Disabled by default; enable it with {@code -XX:StartFlightRecording:pl.umanski.Batch#enabled=true}.
+ */
+@Name("pl.umanski.Batch")
+@Label("Batch Conversion")
+@Description("Conversion of many times in one operation")
+@Category({"British Spoken Time", "Converter"})
+@Enabled(false)
+@StackTrace(false)
+public final class BatchEvent extends Event {
+
+    public static final String ARRAY = "array";
+    public static final String FILE = "file";
+    public static final String PARALLEL_FILE = "parallel file";
+    public static final String HTTP = "http";
+
+    @Label("Source")
+    @Description("Kind of batch: array, file, parallel file or http")
+    public String source;
+
+    @Label("Size")
+    @Description("Number of times or lines in the batch")
+    public long size;
+
+    @Label("Errors")
+    @Description("Number of values or lines that could not be converted")
+    public long errors;
+
+    @Label("Input Bytes")
+    @Description("Size of the input in bytes, 0 for arrays")
+    @DataAmount
+    public long inputBytes;
+
+    @Label("Failure")
+    @Description("Exception that aborted the batch, null if it completed")
+    public String failure;
+
+    /**
+     * Fills in and commits this event if it is enabled and over its threshold.
+     *
+     * @param source     the kind of batch
+     * @param size       the number of times or lines in the batch
+     * @param errors     the number of values or lines that could not be converted
+     * @param inputBytes the size of the input in bytes
+     * @param failure    the exception that aborted the batch, or null
+     */
+    public void complete(String source, long size, long errors, long inputBytes, Throwable failure) {
+        if (shouldCommit()) {
+            this.source = source;
+            this.size = size;
+            this.errors = errors;
+            this.inputBytes = inputBytes;
+            this.failure = failure == null ? null : failure.toString();
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package pl.umanski.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event of converting a time to its spoken form, committed by the converters.
+ * Disabled by default; enable it with {@code -XX:StartFlightRecording:pl.umanski.Convert#enabled=true}.
+ */
+@Name("pl.umanski.Convert")
+@Label("Time Conversion")
+@Description("Conversion of a time to its spoken form")
+@Category({"British Spoken Time", "Converter"})
+@Enabled(false)
+@StackTrace(false)
+public final class ConvertEvent extends Event {
+
+    @Label("Minute of Day")
+    public int minuteOfDay;
+
+    @Label("Strategy")
+    @Description("Formatting strategy chosen for the time")
+    public Class<?> strategy;
+
+    @Label("Precomputed")
+    @Description("Whether the phrase was looked up in a precomputed table instead of being formatted")
+    public boolean precomputed;
+
+    /**
+     * Fills in and commits this event if it is enabled and over its threshold.
+     *
+     * @param minuteOfDay the converted minute of the day
+     * @param strategy    the class of the strategy chosen for the minute
+     * @param precomputed whether the phrase came from a precomputed table
+     */
+    public void complete(int minuteOfDay, Class<?> strategy, boolean precomputed) {
+        if (shouldCommit()) {
+            this.minuteOfDay = minuteOfDay;
+            this.strategy = strategy;
+            this.precomputed = precomputed;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package pl.umanski.jfr;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Creates the flight recorder events of the library only while the flight recorder is running.
+ *
+ * <p>Loading the first event class initializes the flight recorder framework, which takes hundreds
+ * of milliseconds and cannot be stored in a class data sharing archive. Callers therefore obtain
+ * events here and skip recording when {@code null} is returned, so that a short command line run
+ * without a recording never loads an event class. A recording started later, for example with
+ * {@code jcmd <pid> JFR.start}, is picked up by the next operation.
+ */
+public final class FlightRecording {
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Checks if the flight recorder has been started in this virtual machine, so that events may be recorded.
+     *
+     * @return true if a recording has been started
+     */
+    public static boolean isActive() {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Begins a parse event.
+     *
+     * @return the begun event, or null if the flight recorder is not running
+     */
+    public static ParseEvent beginParse() {
+        if (!isActive()) {
+            return null;
+        }
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Begins a conversion event.
+     *
+     * @return the begun event, or null if the flight recorder is not running
+     */
+    public static ConvertEvent beginConvert() {
+        if (!isActive()) {
+            return null;
+        }
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Begins a batch event.
+     *
+     * @return the begun event, or null if the flight recorder is not running
+     */
+    public static BatchEvent beginBatch() {
+        if (!isActive()) {
+            return null;
+        }
+        BatchEvent event = new BatchEvent();
+        event.begin();
+        return event;
+    }
+
+}
@@ -0,0 +1,29 @@
+package pl.umanski.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event of parsing a time string, committed by {@link pl.umanski.parser.TimeParser}.
+ * Disabled by default; enable it with {@code -XX:StartFlightRecording:pl.umanski.Parse#enabled=true}.
+ */
+@Name("pl.umanski.Parse")
+@Label("Time Parse")
+@Description("Parsing of a time string into the minute of the day")
+@Category({"British Spoken Time", "Parser"})
+@Enabled(false)
+@StackTrace(false)
+public final class ParseEvent extends Event {
+
+    @Label("Input Length")
+    @Description("Number of characters or bytes in the parsed region, -1 for null input")
+    public int inputLength;
+
+    @Label("Minute of Day")
+    @Description("Parsed minute of the day, -1 if the input was rejected")
+    public int minuteOfDay;
+
+    @Label("Failure")
+    @Description("Reason why the input was rejected, null if it was parsed")
+    public String failure;
+
+}
@@ -0,0 +1,369 @@
+package pl.umanski.metrics;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParseException;
+import pl.umanski.parser.TimeParseException.Reason;
+import pl.umanski.parser.TimeParser;
+import pl.umanski.strategy.StrategyRegistry;
+import pl.umanski.strategy.TimeFormatStrategy;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of parsing and conversion, exposed through JMX and in the Prometheus text format.
+ * All counters are {@link LongAdder} instances, striped per thread under contention, and count every operation.
+ * Reading the clock costs more than the rest of the bookkeeping, so latencies can be sampled: with a sample
+ * interval of {@code n}, a randomly chosen operation in {@code n} on average is timed.
+ *
+ * <p>Metrics are collected only by code that goes through this class: {@link #parse(String)},
+ * {@link #parseMinuteOfDay(CharSequence)}, {@link #tryParseMinuteOfDay(CharSequence)} and converters returned
+ * by {@link #instrument(SpokenTimeConverter)}, or callers recording results themselves. Code using
+ * {@link TimeParser} and plain converters pays nothing, so instrumentation is switched off by not creating
+ * an instance.
+ */
+public final class ConversionMetrics implements ConversionMetricsMXBean {
+
+    /**
+     * Name under which {@link #registerMBean()} registers the metrics.
+     */
+    public static final String OBJECT_NAME = "pl.umanski:type=ConversionMetrics";
+
+    /**
+     * Content type of {@link #getPrometheusText()}, to be sent by HTTP endpoints serving it.
+     */
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Default interval of timed operations.
+     */
+    public static final int DEFAULT_LATENCY_SAMPLE_INTERVAL = 8;
+
+    /**
+     * Start time returned by {@link #startTimer()} for operations that are not timed.
+     */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final int MINUTES_PER_HOUR = StrategyRegistry.MINUTES_PER_HOUR;
+
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder[] parseFailures = new LongAdder[Reason.values().length];
+    private final LongAdder nullInputs = new LongAdder();
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram convertLatency = new LatencyHistogram();
+
+    private final List<TimeFormatStrategy> strategies;
+    private final int[] strategyPerMinute = new int[MINUTES_PER_HOUR];
+    private final LongAdder[] strategyHits;
+    private final int sampleMask;
+
+    /**
+     * Creates new metrics attributing conversions to the default British strategies
+     * and timing every {@value #DEFAULT_LATENCY_SAMPLE_INTERVAL}th operation.
+     */
+    public ConversionMetrics() {
+        this(StrategyRegistry.defaultRegistry(), DEFAULT_LATENCY_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Creates new metrics attributing conversions to the strategies of the given registry.
+     *
+     * @param registry              the registry of the converters to be instrumented
+     * @param latencySampleInterval the average number of operations per timed operation, a power of two;
+     *                              1 times every operation
+     * @throws IllegalArgumentException if registry is null or the interval is not a positive power of two
+     */
+    public ConversionMetrics(StrategyRegistry registry, int latencySampleInterval) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        if (latencySampleInterval < 1 || Integer.bitCount(latencySampleInterval) != 1) {
+            throw new IllegalArgumentException("Latency sample interval must be a positive power of two, got: "
+                    + latencySampleInterval);
+        }
+        this.sampleMask = latencySampleInterval - 1;
+
+        for (int i = 0; i < parseFailures.length; i++) {
+            parseFailures[i] = new LongAdder();
+        }
+        this.strategies = registry.strategies();
+        this.strategyHits = new LongAdder[strategies.size()];
+        for (int i = 0; i < strategyHits.length; i++) {
+            strategyHits[i] = new LongAdder();
+        }
+        for (int minute = 0; minute < MINUTES_PER_HOUR; minute++) {
+            strategyPerMinute[minute] = strategies.indexOf(registry.strategyFor(minute));
+        }
+    }
+
+    /**
+     * Parses a string like {@link TimeParser#parse(String)}, recording the outcome and latency.
+     *
+     * @param timeString the time string in HH:MM or H:MM format
+     * @return the {@link Time} object
+     * @throws TimeParseException if the input is null, empty, malformed
+     */
+    public Time parse(String timeString) {
+        long start = startTimer();
+        try {
+            Time time = TimeParser.parse(timeString);
+            recordParse(start);
+            return time;
+        } catch (TimeParseException e) {
+            recordParseFailure(e.reason(), start);
+            throw e;
+        }
+    }
+
+    /**
+     * Parses a character sequence like {@link TimeParser#parseMinuteOfDay(CharSequence)},
+     * recording the outcome and latency.
+     *
+     * @param text the time in HH:MM or H:MM format
+     * @return the minute of the day (0-1439)
+     * @throws TimeParseException if the input is null, empty, malformed
+     */
+    public int parseMinuteOfDay(CharSequence text) {
+        long start = startTimer();
+        try {
+            int minuteOfDay = TimeParser.parseMinuteOfDay(text);
+            recordParse(start);
+            return minuteOfDay;
+        } catch (TimeParseException e) {
+            recordParseFailure(e.reason(), start);
+            throw e;
+        }
+    }
+
+    /**
+     * Parses a character sequence like {@link TimeParser#tryParseMinuteOfDay(CharSequence)},
+     * recording the outcome and latency without throwing for invalid input.
+     *
+     * @param text the time in HH:MM or H:MM format
+     * @return the minute of the day (0-1439), or a negative error code if the input is null, empty, malformed
+     */
+    public int tryParseMinuteOfDay(CharSequence text) {
+        long start = startTimer();
+        int result = TimeParser.tryParseMinuteOfDay(text);
+        recordParseResult(result, start);
+        return result;
+    }
+
+    /**
+     * Wraps a converter so that every conversion is counted per strategy and timed.
+     *
+     * @param converter the converter to instrument, dispatching with the registry of these metrics
+     * @return the instrumented converter
+     * @throws IllegalArgumentException if converter is null
+     */
+    public SpokenTimeConverter instrument(SpokenTimeConverter converter) {
+        return new InstrumentedSpokenTimeConverter(converter, this);
+    }
+
+    /**
+     * Starts measuring an operation to be passed to one of the record methods when it completes.
+     *
+     * @return the current {@link System#nanoTime()} if the operation is sampled, {@link #NOT_TIMED} otherwise
+     */
+    public long startTimer() {
+        return sampleMask == 0 || (ThreadLocalRandom.current().nextInt() & sampleMask) == 0
+                ? System.nanoTime()
+                : NOT_TIMED;
+    }
+
+    /**
+     * Records a successful parse.
+     *
+     * @param start the value returned by {@link #startTimer()} when the parse started
+     */
+    public void recordParse(long start) {
+        parses.increment();
+        recordLatency(parseLatency, start);
+    }
+
+    /**
+     * Records the result of {@code TimeParser.tryParseMinuteOfDay}, a success or a rejected time string.
+     *
+     * @param result the minute of the day or error code returned by the parser
+     * @param start  the value returned by {@link #startTimer()} when the parse started
+     */
+    public void recordParseResult(int result, long start) {
+        if (TimeParser.isError(result)) {
+            recordParseFailure(TimeParser.errorReason(result), start);
+        } else {
+            recordParse(start);
+        }
+    }
+
+    /**
+     * Records a rejected time string. Null inputs are also counted by {@link #getNullInputCount()}.
+     *
+     * @param reason the reason of the failure
+     * @param start  the value returned by {@link #startTimer()} when the parse started
+     */
+    public void recordParseFailure(Reason reason, long start) {
+        parseFailures[reason.ordinal()].increment();
+        recordLatency(parseLatency, start);
+        if (reason == Reason.NULL_INPUT) {
+            nullInputs.increment();
+        }
+    }
+
+    /**
+     * Records a conversion.
+     *
+     * @param minuteOfDay the converted minute of the day (0-1439)
+     * @param start       the value returned by {@link #startTimer()} when the conversion started
+     */
+    public void recordConversion(int minuteOfDay, long start) {
+        strategyHits[strategyPerMinute[minuteOfDay % MINUTES_PER_HOUR]].increment();
+        recordLatency(convertLatency, start);
+    }
+
+    private static void recordLatency(LatencyHistogram histogram, long start) {
+        if (start != NOT_TIMED) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a null time passed for conversion.
+     */
+    public void recordNullTime() {
+        nullInputs.increment();
+    }
+
+    /**
+     * Returns the number of time strings rejected for the given reason.
+     *
+     * @param reason the reason of the failure
+     */
+    public long parseFailureCount(Reason reason) {
+        return parseFailures[reason.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of times converted by the given strategy.
+     *
+     * @param strategy the strategy, as returned by the registry of these metrics
+     * @return the number of conversions, or 0 if the strategy is not registered
+     */
+    public long strategyHitCount(TimeFormatStrategy strategy) {
+        int index = strategies.indexOf(strategy);
+        return index < 0 ? 0 : strategyHits[index].sum();
+    }
+
+    /**
+     * Returns the histogram of sampled parse latencies, successful or not.
+     */
+    public LatencyHistogram parseLatency() {
+        return parseLatency;
+    }
+
+    /**
+     * Returns the histogram of sampled conversion latencies.
+     */
+    public LatencyHistogram convertLatency() {
+        return convertLatency;
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server as {@value #OBJECT_NAME}.
+     *
+     * @return the name of the registered MBean
+     * @throws JMException if the name is taken or the registration fails
+     */
+    public ObjectName registerMBean() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        return name;
+    }
+
+    @Override
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    @Override
+    public Map<String, Long> getParseFailureCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Reason reason : Reason.values()) {
+            counts.put(reason.name(), parseFailureCount(reason));
+        }
+        return counts;
+    }
+
+    @Override
+    public long getNullInputCount() {
+        return nullInputs.sum();
+    }
+
+    @Override
+    public long getConversionCount() {
+        long count = 0;
+        for (LongAdder hits : strategyHits) {
+            count += hits.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getStrategyHitCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            counts.merge(strategyName(strategies.get(i)), strategyHits[i].sum(), Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public double getParseLatencyMeanNanos() {
+        return parseLatency.meanNanos();
+    }
+
+    @Override
+    public double getConvertLatencyMeanNanos() {
+        return convertLatency.meanNanos();
+    }
+
+    @Override
+    public String getPrometheusText() {
+        StringBuilder text = new StringBuilder(4096);
+
+        PrometheusText.counter(text, "spoken_time_parses_total", "Time strings parsed successfully.");
+        PrometheusText.sample(text, "spoken_time_parses_total", null, null, getParseCount());
+
+        PrometheusText.counter(text, "spoken_time_parse_failures_total", "Time strings rejected by the parser.");
+        for (Reason reason : Reason.values()) {
+            PrometheusText.sample(text, "spoken_time_parse_failures_total", "reason", reason.name().toLowerCase(),
+                    parseFailureCount(reason));
+        }
+
+        PrometheusText.counter(text, "spoken_time_null_inputs_total", "Null time strings and times received.");
+        PrometheusText.sample(text, "spoken_time_null_inputs_total", null, null, getNullInputCount());
+
+        PrometheusText.counter(text, "spoken_time_conversions_total", "Times converted, by formatting strategy.");
+        for (Map.Entry<String, Long> hits : getStrategyHitCounts().entrySet()) {
+            PrometheusText.sample(text, "spoken_time_conversions_total", "strategy", hits.getKey(), hits.getValue());
+        }
+
+        PrometheusText.histogram(text, "spoken_time_parse_duration_seconds", "Sampled latency of parsing.",
+                parseLatency);
+        PrometheusText.histogram(text, "spoken_time_convert_duration_seconds", "Sampled latency of conversion.",
+                convertLatency);
+        return text.toString();
+    }
+
+    private static String strategyName(TimeFormatStrategy strategy) {
+        String name = strategy.getClass().getSimpleName();
+        return name.isEmpty() ? strategy.getClass().getName() : name;
+    }
+
+}
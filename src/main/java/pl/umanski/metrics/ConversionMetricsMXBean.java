@@ -0,0 +1,50 @@
+package pl.umanski.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ConversionMetrics}, registered as {@value ConversionMetrics#OBJECT_NAME}.
+ */
+public interface ConversionMetricsMXBean {
+
+    /**
+     * Returns the number of successfully parsed time strings.
+     */
+    long getParseCount();
+
+    /**
+     * Returns the number of rejected time strings by reason.
+     */
+    Map<String, Long> getParseFailureCounts();
+
+    /**
+     * Returns the number of null time strings and null times passed for parsing or conversion.
+     */
+    long getNullInputCount();
+
+    /**
+     * Returns the number of converted times.
+     */
+    long getConversionCount();
+
+    /**
+     * Returns the number of converted times by the simple name of the strategy formatting them.
+     */
+    Map<String, Long> getStrategyHitCounts();
+
+    /**
+     * Returns the mean sampled latency of parsing, successful or not, in nanoseconds.
+     */
+    double getParseLatencyMeanNanos();
+
+    /**
+     * Returns the mean sampled latency of conversion in nanoseconds.
+     */
+    double getConvertLatencyMeanNanos();
+
+    /**
+     * Returns all metrics in the Prometheus text exposition format.
+     */
+    String getPrometheusText();
+
+}
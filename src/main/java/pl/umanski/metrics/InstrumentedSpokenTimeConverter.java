@@ -0,0 +1,67 @@
+package pl.umanski.metrics;
+
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+
+/**
+ * Decorator of a {@link SpokenTimeConverter} recording every conversion in {@link ConversionMetrics}.
+ * Batch conversions go through {@link #convert(int)} for every value, so each of them is counted and timed.
+ */
+public final class InstrumentedSpokenTimeConverter implements SpokenTimeConverter {
+
+    private final SpokenTimeConverter delegate;
+    private final ConversionMetrics metrics;
+
+    /**
+     * Creates a new instrumented converter.
+     *
+     * @param delegate the converter doing the conversions
+     * @param metrics  the metrics receiving the measurements
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public InstrumentedSpokenTimeConverter(SpokenTimeConverter delegate, ConversionMetrics metrics) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String convert(Time time) {
+        if (time == null) {
+            metrics.recordNullTime();
+            return delegate.convert(null);
+        }
+
+        long start = metrics.startTimer();
+        String spokenTime = delegate.convert(time);
+        metrics.recordConversion(time.minuteOfDay(), start);
+        return spokenTime;
+    }
+
+    @Override
+    public String convert(int minuteOfDay) {
+        long start = metrics.startTimer();
+        String spokenTime = delegate.convert(minuteOfDay);
+        metrics.recordConversion(minuteOfDay, start);
+        return spokenTime;
+    }
+
+    @Override
+    public StringBuilder convertTo(Time time, StringBuilder target) {
+        if (time == null) {
+            metrics.recordNullTime();
+            return delegate.convertTo(null, target);
+        }
+
+        long start = metrics.startTimer();
+        StringBuilder result = delegate.convertTo(time, target);
+        metrics.recordConversion(time.minuteOfDay(), start);
+        return result;
+    }
+
+}
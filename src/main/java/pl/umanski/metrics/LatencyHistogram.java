@@ -0,0 +1,85 @@
+package pl.umanski.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in nanoseconds with buckets growing in powers of two.
+ * Bucket {@code i} counts latencies of at most {@code 2^i} nanoseconds and more than {@code 2^(i-1)},
+ * so that its bound is inclusive like the {@code le} bound of a Prometheus bucket; bucket 0 counts latencies
+ * of 0 and 1 nanosecond, and the last bucket counts everything longer. Recording is a bit count and two {@link LongAdder} increments,
+ * so concurrent threads rarely contend.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets; the last bounded bucket ends at {@code 2^38} nanoseconds, about 4.6 minutes.
+     */
+    public static final int BUCKETS = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency. Negative values, possible with a non-monotonic clock, are recorded as 0.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        // The bit length of value - 1 is the exponent of the smallest power of two at least value
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(1, value) - 1))].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Returns the inclusive upper bound of a bucket in nanoseconds.
+     *
+     * @param bucket the bucket index
+     * @return the bound, or {@link Long#MAX_VALUE} for the last bucket
+     */
+    public static long upperBoundNanos(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Returns the number of latencies recorded in a bucket.
+     *
+     * @param bucket the bucket index
+     */
+    public long bucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     */
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of recorded latencies in nanoseconds.
+     */
+    public long sumNanos() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the mean of recorded latencies in nanoseconds, or 0 if nothing is recorded.
+     */
+    public double meanNanos() {
+        long count = count();
+        return count == 0 ? 0 : (double) sumNanos() / count;
+    }
+
+}
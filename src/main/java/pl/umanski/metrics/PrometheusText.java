@@ -0,0 +1,63 @@
+package pl.umanski.metrics;
+
+/**
+ * Writes samples in the Prometheus text exposition format, version 0.0.4.
+ */
+final class PrometheusText {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private PrometheusText() {
+    }
+
+    static void counter(StringBuilder text, String name, String help) {
+        header(text, name, help, "counter");
+    }
+
+    static void sample(StringBuilder text, String name, String label, String labelValue, long value) {
+        text.append(name);
+        if (label != null) {
+            text.append('{').append(label).append("=\"");
+            escape(text, labelValue);
+            text.append("\"}");
+        }
+        text.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Writes a histogram with cumulative buckets bounded in seconds.
+     */
+    static void histogram(StringBuilder text, String name, String help, LatencyHistogram histogram) {
+        header(text, name, help, "histogram");
+
+        long cumulative = 0;
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKETS - 1; bucket++) {
+            cumulative += histogram.bucketCount(bucket);
+            text.append(name).append("_bucket{le=\"")
+                    .append(LatencyHistogram.upperBoundNanos(bucket) / NANOS_PER_SECOND)
+                    .append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += histogram.bucketCount(LatencyHistogram.BUCKETS - 1);
+        text.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        text.append(name).append("_sum ").append(histogram.sumNanos() / NANOS_PER_SECOND).append('\n');
+        text.append(name).append("_count ").append(cumulative).append('\n');
+    }
+
+    private static void header(StringBuilder text, String name, String help, String type) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void escape(StringBuilder text, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> text.append("\\\\");
+                case '"' -> text.append("\\\"");
+                case '\n' -> text.append("\\n");
+                default -> text.append(c);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package pl.umanski.model;
+
+/**
+ * Represents a time in 24-hour format with hour, minute and second fields.
+ * Unlike {@link Time} there are no canonical instances, as a day has 86,400 distinct precise times.
+ *
+ * @param hour   the hour field (0-23)
+ * @param minute the minute field (0-59)
+ * @param second the second field (0-59)
+ */
+public record PreciseTime(int hour, int minute, int second) {
+
+    /**
+     * Number of distinct seconds in a day.
+     */
+    public static final int SECONDS_PER_DAY = Time.MINUTES_PER_DAY * 60;
+
+    /**
+     * Constructor that validates the provided hour, minute and second values.
+     *
+     * @throws IllegalArgumentException if hour is not between 0 and 23 (inclusive)
+     * @throws IllegalArgumentException if minute is not between 0 and 59 (inclusive)
+     * @throws IllegalArgumentException if second is not between 0 and 59 (inclusive)
+     */
+    public PreciseTime {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("Hour must be between 0 and 23, got: " + hour);
+        }
+        if (minute < 0 || minute > 59) {
+            throw new IllegalArgumentException("Minute must be between 0 and 59, got: " + minute);
+        }
+        if (second < 0 || second > 59) {
+            throw new IllegalArgumentException("Second must be between 0 and 59, got: " + second);
+        }
+    }
+
+    /**
+     * Returns the precise time of the given second of the day ({@code hour * 3600 + minute * 60 + second}).
+     *
+     * @param secondOfDay the second of the day (0-86399)
+     * @return the {@link PreciseTime} object
+     * @throws IllegalArgumentException if secondOfDay is not between 0 and 86399 (inclusive)
+     */
+    public static PreciseTime ofSecondOfDay(int secondOfDay) {
+        validateSecondOfDay(secondOfDay);
+        return new PreciseTime(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    }
+
+    /**
+     * Returns the precise time at the start of the given minute.
+     *
+     * @param time the time
+     * @return the {@link PreciseTime} object with zero seconds
+     * @throws IllegalArgumentException if time is null
+     */
+    public static PreciseTime of(Time time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        return new PreciseTime(time.hour(), time.minute(), 0);
+    }
+
+    /**
+     * Returns the second of the day ({@code hour * 3600 + minute * 60 + second}) of this time.
+     */
+    public int secondOfDay() {
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Returns the canonical {@link Time} of the minute of this time, dropping the seconds.
+     */
+    public Time toTime() {
+        return Time.of(hour, minute);
+    }
+
+    /**
+     * Determines if this time represents a whole minute (no seconds).
+     */
+    public boolean isWholeMinute() {
+        return second == 0;
+    }
+
+    /**
+     * Validates that the second of the day is within the acceptable range.
+     *
+     * @param secondOfDay the second of the day to validate
+     * @throws IllegalArgumentException if secondOfDay is not between 0 and 86399 (inclusive)
+     */
+    public static void validateSecondOfDay(int secondOfDay) {
+        if (secondOfDay < 0 || secondOfDay >= SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("Second of day must be between 0 and 86399, got: " + secondOfDay);
+        }
+    }
+
+}
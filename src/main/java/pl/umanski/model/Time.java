@@ -3,12 +3,30 @@ package pl.umanski.model;
 /**
  * Represents a time in 24-hour format with hour and minute fields.
  * This record provides immutable time representation with built-in validation.
+ * As a day has only 1440 distinct times, {@link #of(int, int)}, {@link #ofMinuteOfDay(int)} and the arithmetic
+ * methods return shared canonical instances instead of allocating new ones.
  *
  * @param hour   the hour field (0-23)
  * @param minute the minute field (0-59)
  */
 public record Time(int hour, int minute) {
 
+    /**
+     * Number of distinct minutes in a day.
+     */
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Canonical instances indexed by minute of the day.
+     */
+    private static final Time[] CANONICAL = new Time[MINUTES_PER_DAY];
+
+    static {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            CANONICAL[minuteOfDay] = new Time(minuteOfDay / 60, minuteOfDay % 60);
+        }
+    }
+
     /**
      * Constructor that validates the provided hour and minute values.
      *
@@ -20,6 +38,77 @@ public record Time(int hour, int minute) {
         validateMinute(minute);
     }
 
+    /**
+     * Returns the canonical instance for the given hour and minute.
+     *
+     * @param hour   the hour field (0-23)
+     * @param minute the minute field (0-59)
+     * @return the shared {@link Time} instance
+     * @throws IllegalArgumentException if hour is not between 0 and 23 (inclusive)
+     * @throws IllegalArgumentException if minute is not between 0 and 59 (inclusive)
+     */
+    public static Time of(int hour, int minute) {
+        validateHour(hour);
+        validateMinute(minute);
+        return CANONICAL[hour * 60 + minute];
+    }
+
+    /**
+     * Returns the canonical instance for the given minute of the day ({@code hour * 60 + minute}).
+     *
+     * @param minuteOfDay the minute of the day (0-1439)
+     * @return the shared {@link Time} instance
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439 (inclusive)
+     */
+    public static Time ofMinuteOfDay(int minuteOfDay) {
+        validateMinuteOfDay(minuteOfDay);
+        return CANONICAL[minuteOfDay];
+    }
+
+    /**
+     * Returns the times from one time up to another, every given number of minutes, as a lazy {@link TimeRange}
+     * that can feed sequential or parallel streams. A range whose end is not after its start wraps past midnight,
+     * and a range ending where it starts covers the whole day.
+     *
+     * @param from the first time of the range
+     * @param to   the time ending the range, excluded from it
+     * @param step the number of minutes between consecutive times (positive)
+     * @return the range
+     * @throws IllegalArgumentException if from or to is null, or if step is not positive
+     */
+    public static TimeRange range(Time from, Time to, int step) {
+        return new TimeRange(from, to, step);
+    }
+
+    /**
+     * Returns the time the given number of minutes later, wrapping around at midnight.
+     *
+     * @param minutes the number of minutes to add, which may be negative or longer than a day
+     * @return the shared {@link Time} instance
+     */
+    public Time plusMinutes(long minutes) {
+        // Reduce before adding, so that minutes near the long bounds do not overflow
+        int offset = (int) Math.floorMod(minutes, (long) MINUTES_PER_DAY);
+        return CANONICAL[(minuteOfDay() + offset) % MINUTES_PER_DAY];
+    }
+
+    /**
+     * Returns the time the given number of minutes earlier, wrapping around at midnight.
+     *
+     * @param minutes the number of minutes to subtract, which may be negative or longer than a day
+     * @return the shared {@link Time} instance
+     */
+    public Time minusMinutes(long minutes) {
+        return plusMinutes(-(minutes % MINUTES_PER_DAY));
+    }
+
+    /**
+     * Returns the minute of the day ({@code hour * 60 + minute}) of this time.
+     */
+    public int minuteOfDay() {
+        return hour * 60 + minute;
+    }
+
     /**
      * Determines if this time represents an exact hour (no minutes).
      */
@@ -65,4 +154,16 @@ public record Time(int hour, int minute) {
         }
     }
 
+    /**
+     * Validates that the minute of the day is within the acceptable range.
+     *
+     * @param minuteOfDay the minute of the day to validate
+     * @throws IllegalArgumentException if minuteOfDay is not between 0 and 1439 (inclusive)
+     */
+    public static void validateMinuteOfDay(int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("Minute of day must be between 0 and 1439, got: " + minuteOfDay);
+        }
+    }
+
 }
@@ -0,0 +1,169 @@
+package pl.umanski.model;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Times from a start up to an end, every given number of minutes, as returned by
+ * {@link Time#range(Time, Time, int)}. Times are computed on demand from their index and are the shared
+ * canonical instances, so iterating a range allocates nothing per time. A range whose end is not after its start
+ * wraps past midnight, so {@code 22:00} to {@code 02:00} covers the night, and a range ending where it starts covers
+ * the whole day. The end is excluded, and a range never holds the same time twice.
+ *
+ * <p>The {@link #spliterator()} is sized and splits its index range in halves, so parallel streams of a range
+ * divide the work evenly.
+ *
+ * @param from the first time of the range
+ * @param to   the time ending the range, excluded from it
+ * @param step the number of minutes between consecutive times (positive)
+ */
+public record TimeRange(Time from, Time to, int step) implements Iterable<Time> {
+
+    /**
+     * Constructor that validates the provided range.
+     *
+     * @throws IllegalArgumentException if from or to is null, or if step is not positive
+     */
+    public TimeRange {
+        if (from == null) {
+            throw new IllegalArgumentException("From cannot be null");
+        }
+        if (to == null) {
+            throw new IllegalArgumentException("To cannot be null");
+        }
+        if (step < 1) {
+            throw new IllegalArgumentException("Step must be positive, got: " + step);
+        }
+    }
+
+    /**
+     * Returns the number of times in the range.
+     */
+    public int size() {
+        int span = Math.floorMod(to.minuteOfDay() - from.minuteOfDay(), Time.MINUTES_PER_DAY);
+        if (span == 0) {
+            span = Time.MINUTES_PER_DAY;
+        }
+        return (int) ((span + (long) step - 1) / step);
+    }
+
+    /**
+     * Returns the time at the given position of the range.
+     *
+     * @param index the position (0 to {@code size() - 1})
+     * @return the shared {@link Time} instance
+     * @throws IndexOutOfBoundsException if index is outside the range
+     */
+    public Time get(int index) {
+        return Time.ofMinuteOfDay(minuteOfDayAt(Objects.checkIndex(index, size())));
+    }
+
+    /**
+     * Returns the minute of the day of the time at the given position, without checking the position.
+     */
+    int minuteOfDayAt(int index) {
+        return (from.minuteOfDay() + index * step) % Time.MINUTES_PER_DAY;
+    }
+
+    @Override
+    public Iterator<Time> iterator() {
+        return new Iterator<>() {
+            private final int size = size();
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Time next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return Time.ofMinuteOfDay(minuteOfDayAt(index++));
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Time> spliterator() {
+        return new RangeSpliterator(this, 0, size());
+    }
+
+    /**
+     * Returns a sequential stream of the times of the range, which can be made parallel with
+     * {@link Stream#parallel()}.
+     */
+    public Stream<Time> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Spliterator over a part of the positions of a range.
+     */
+    private static final class RangeSpliterator implements Spliterator<Time> {
+
+        private final TimeRange range;
+        private int index;
+        private final int fence;
+
+        private RangeSpliterator(TimeRange range, int index, int fence) {
+            this.range = range;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Time> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null");
+            }
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(Time.ofMinuteOfDay(range.minuteOfDayAt(index++)));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Time> action) {
+            if (action == null) {
+                throw new NullPointerException("Action cannot be null");
+            }
+            int i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(Time.ofMinuteOfDay(range.minuteOfDayAt(i)));
+            }
+        }
+
+        @Override
+        public Spliterator<Time> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<Time> prefix = new RangeSpliterator(range, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+    }
+
+}
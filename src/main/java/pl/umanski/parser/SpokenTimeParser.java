@@ -0,0 +1,272 @@
+package pl.umanski.parser;
+
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParseException.Reason;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Parses spoken times, such as {@code "twenty five to five PM"} or {@code "quarter past noon"}, back into times.
+ * The phrases of every minute of the day are taken from a converter and indexed once in a character trie,
+ * so exactly the phrases the converter produces are recognized and parsing is a single walk over the input
+ * that allocates nothing on success.
+ *
+ * <p>Matching ignores ASCII case and leading and trailing characters up to and including a space,
+ * and treats a run of such characters inside the phrase as a single space. Instances are immutable
+ * and thread-safe.
+ */
+public final class SpokenTimeParser {
+
+    private static final int ROOT = 0;
+    private static final int NO_NODE = -1;
+    private static final short NO_MINUTE = -1;
+
+    /**
+     * Character leading to every node from its parent. Nodes are numbered breadth first,
+     * so the children of a node have consecutive numbers.
+     */
+    private final char[] labels;
+
+    /**
+     * First child of every node.
+     */
+    private final int[] childStarts;
+
+    /**
+     * End, exclusive, of the children of every node.
+     */
+    private final int[] childEnds;
+
+    /**
+     * Minute of the day of the phrase ending at every node, or {@link #NO_MINUTE}.
+     */
+    private final short[] minutesOfDay;
+
+    /**
+     * Creates a new parser of the phrases produced by {@link BritishSpokenTimeConverter}.
+     */
+    public SpokenTimeParser() {
+        this(new BritishSpokenTimeConverter());
+    }
+
+    /**
+     * Creates a new parser of the phrases produced by the given converter.
+     *
+     * @param converter the converter whose phrases are recognized
+     * @throws IllegalArgumentException if converter is null, or if it produces an empty phrase
+     *                                  or the same phrase for two minutes of the day
+     */
+    public SpokenTimeParser(SpokenTimeConverter converter) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+
+        TrieBuilder trie = new TrieBuilder();
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            trie.add(converter.convert(minuteOfDay), minuteOfDay);
+        }
+
+        this.labels = new char[trie.size];
+        this.childStarts = new int[trie.size];
+        this.childEnds = new int[trie.size];
+        this.minutesOfDay = new short[trie.size];
+        trie.layOutBreadthFirst(labels, childStarts, childEnds, minutesOfDay);
+    }
+
+    /**
+     * Parses a spoken time into a {@link Time} object.
+     *
+     * @param text the spoken time
+     * @return the canonical {@link Time} object
+     * @throws TimeParseException if the input is null, empty or not a recognized phrase
+     */
+    public Time parse(CharSequence text) {
+        return Time.ofMinuteOfDay(parseMinuteOfDay(text));
+    }
+
+    /**
+     * Parses a spoken time into the minute of the day ({@code hour * 60 + minute}).
+     *
+     * @param text the spoken time
+     * @return the minute of the day (0-1439)
+     * @throws TimeParseException if the input is null, empty or not a recognized phrase
+     */
+    public int parseMinuteOfDay(CharSequence text) {
+        return parseMinuteOfDay(text, 0, text == null ? 0 : text.length());
+    }
+
+    /**
+     * Parses a region of a character sequence holding a spoken time into the minute of the day.
+     *
+     * @param text   the characters containing the spoken time
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the minute of the day (0-1439)
+     * @throws TimeParseException        if the region is null, empty or not a recognized phrase
+     * @throws IndexOutOfBoundsException if the region is outside the bounds of the text
+     */
+    public int parseMinuteOfDay(CharSequence text, int offset, int length) {
+        if (text == null) {
+            throw new TimeParseException(Reason.NULL_INPUT, "Time string cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, text.length());
+
+        int start = offset;
+        int end = offset + length;
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new TimeParseException(Reason.EMPTY_INPUT, "Time string cannot be empty");
+        }
+
+        int node = ROOT;
+        for (int i = start; i < end && node != NO_NODE; i++) {
+            char c = text.charAt(i);
+            if (c <= ' ' && text.charAt(i - 1) <= ' ') {
+                continue;
+            }
+            node = child(node, normalize(c));
+        }
+        if (node == NO_NODE || minutesOfDay[node] == NO_MINUTE) {
+            throw new TimeParseException(Reason.INVALID_FORMAT, "Unrecognized spoken time");
+        }
+        return minutesOfDay[node];
+    }
+
+    /**
+     * Returns the number of nodes of the trie, a measure of its memory footprint.
+     */
+    int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char label) {
+        for (int child = childStarts[node], end = childEnds[node]; child < end; child++) {
+            if (labels[child] == label) {
+                return child;
+            }
+        }
+        return NO_NODE;
+    }
+
+    /**
+     * Maps characters that match each other to the same trie label: ASCII letters to lower case
+     * and every character up to a space to a space.
+     */
+    private static char normalize(char c) {
+        if (c <= ' ') {
+            return ' ';
+        }
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Trie with linked children, grown while phrases are added and then laid out breadth first.
+     */
+    private static final class TrieBuilder {
+
+        private char[] labels = new char[1024];
+        private int[] firstChildren = new int[1024];
+        private int[] nextSiblings = new int[1024];
+        private short[] minutesOfDay = new short[1024];
+        private int size;
+
+        TrieBuilder() {
+            addNode('\0');
+        }
+
+        void add(String phrase, int minuteOfDay) {
+            int start = 0;
+            int end = phrase.length();
+            while (start < end && phrase.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && phrase.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                throw new IllegalArgumentException("Phrase of time " + Time.ofMinuteOfDay(minuteOfDay)
+                        + " cannot be empty");
+            }
+
+            int node = ROOT;
+            for (int i = start; i < end; i++) {
+                char c = phrase.charAt(i);
+                if (c <= ' ' && phrase.charAt(i - 1) <= ' ') {
+                    continue;
+                }
+                node = childOrAdd(node, normalize(c));
+            }
+            if (minutesOfDay[node] != NO_MINUTE) {
+                throw new IllegalArgumentException("Phrase '" + phrase + "' is produced for both time "
+                        + Time.ofMinuteOfDay(minutesOfDay[node]) + " and " + Time.ofMinuteOfDay(minuteOfDay));
+            }
+            minutesOfDay[node] = (short) minuteOfDay;
+        }
+
+        private int childOrAdd(int node, char label) {
+            int last = NO_NODE;
+            for (int child = firstChildren[node]; child != NO_NODE; child = nextSiblings[child]) {
+                if (labels[child] == label) {
+                    return child;
+                }
+                last = child;
+            }
+
+            int child = addNode(label);
+            if (last == NO_NODE) {
+                firstChildren[node] = child;
+            } else {
+                nextSiblings[last] = child;
+            }
+            return child;
+        }
+
+        /**
+         * Copies the trie into the given arrays, renumbering nodes so that siblings are adjacent.
+         */
+        void layOutBreadthFirst(char[] outLabels, int[] outChildStarts, int[] outChildEnds, short[] outMinutes) {
+            int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = ROOT;
+            outLabels[ROOT] = labels[ROOT];
+
+            while (head < tail) {
+                int position = head;
+                int node = queue[head++];
+                outMinutes[position] = minutesOfDay[node];
+                outChildStarts[position] = tail;
+                for (int child = firstChildren[node]; child != NO_NODE; child = nextSiblings[child]) {
+                    outLabels[tail] = labels[child];
+                    queue[tail++] = child;
+                }
+                outChildEnds[position] = tail;
+            }
+        }
+
+        private int addNode(char label) {
+            if (size == labels.length) {
+                int capacity = size * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+                minutesOfDay = Arrays.copyOf(minutesOfDay, capacity);
+            }
+            labels[size] = label;
+            firstChildren[size] = NO_NODE;
+            nextSiblings[size] = NO_NODE;
+            minutesOfDay[size] = NO_MINUTE;
+            return size++;
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package pl.umanski.parser;
+
+/**
+ * Thrown when a string cannot be parsed into a time, with the reason of the failure.
+ */
+public class TimeParseException extends IllegalArgumentException {
+
+    /**
+     * Reason why a time string was rejected.
+     */
+    public enum Reason {
+        NULL_INPUT,
+        EMPTY_INPUT,
+        INVALID_FORMAT,
+        HOUR_OUT_OF_RANGE,
+        MINUTE_OUT_OF_RANGE,
+        SECOND_OUT_OF_RANGE
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final Reason reason;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param reason  the reason of the failure
+     * @param message the detail message
+     */
+    public TimeParseException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * Returns the reason of the failure.
+     */
+    public Reason reason() {
+        return reason;
+    }
+
+}
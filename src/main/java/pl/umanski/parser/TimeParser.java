@@ -1,19 +1,36 @@
 package pl.umanski.parser;
 
+import pl.umanski.jfr.FlightRecording;
+import pl.umanski.jfr.ParseEvent;
+import pl.umanski.model.PreciseTime;
 import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParseException.Reason;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 /**
- * Parses strings representing time in {@code HH:MM} or {@code H:MM} format into {@link Time} objects.
+ * Parses strings representing time in {@code HH:MM} or {@code H:MM} format into {@link Time} objects,
+ * and with seconds in {@code HH:MM:SS} or {@code H:MM:SS} format into {@link PreciseTime} objects.
+ * Leading and trailing characters up to and including a space are ignored, as with {@link String#trim()}.
+ * Parsing is done by hand over the characters, so the minute-of-day methods allocate nothing on success
+ * and {@link #parse(String)} returns the canonical {@link Time} instance. The {@code tryParseMinuteOfDay}
+ * methods allocate nothing on failure either: they return a negative error code instead of throwing,
+ * so callers expecting many invalid inputs do not pay for building exceptions.
+ * Every parse emits a {@link ParseEvent} when the event is enabled in a flight recording.
  */
 public class TimeParser {
 
     /**
-     * Regex pattern to match valid time strings in the format HH:MM or H:MM.
+     * Marker bit of a scan result that represents an error rather than a minute of the day.
      */
-    private static final Pattern TIME_PATTERN = Pattern.compile("^(\\d{1,2}):(\\d{2})$");
+    private static final int ERROR = 0x8000_0000;
+
+    private static final int NULL_INPUT = 1;
+    private static final int EMPTY_INPUT = 2;
+    private static final int INVALID_FORMAT = 3;
+    private static final int HOUR_OUT_OF_RANGE = 4;
+    private static final int MINUTE_OUT_OF_RANGE = 5;
+    private static final int SECOND_OUT_OF_RANGE = 6;
 
     private TimeParser() {
     }
@@ -23,33 +40,364 @@ public class TimeParser {
      *
      * @param timeString the time string in HH:MM or H:MM format
      * @return the {@link Time} object
-     * @throws IllegalArgumentException if the input is null, empty, malformed
+     * @throws TimeParseException if the input is null, empty, malformed
      */
     public static Time parse(String timeString) {
-        validateInput(timeString);
+        return Time.ofMinuteOfDay(checkResult(tryParseMinuteOfDay(timeString)));
+    }
+
+    /**
+     * Parses a character sequence into the minute of the day ({@code hour * 60 + minute}).
+     *
+     * @param text the time in HH:MM or H:MM format
+     * @return the minute of the day (0-1439)
+     * @throws TimeParseException if the input is null, empty, malformed
+     */
+    public static int parseMinuteOfDay(CharSequence text) {
+        return checkResult(tryParseMinuteOfDay(text));
+    }
+
+    /**
+     * Parses a region of a character sequence into the minute of the day ({@code hour * 60 + minute}).
+     *
+     * @param text   the characters containing the time in HH:MM or H:MM format
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the minute of the day (0-1439)
+     * @throws TimeParseException       if the region is null, empty, malformed
+     * @throws IndexOutOfBoundsException if the region is outside the bounds of the text
+     */
+    public static int parseMinuteOfDay(CharSequence text, int offset, int length) {
+        return checkResult(tryParseMinuteOfDay(text, offset, length));
+    }
+
+    /**
+     * Parses a region of ASCII encoded bytes into the minute of the day ({@code hour * 60 + minute}).
+     *
+     * @param bytes  the bytes containing the time in HH:MM or H:MM format
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the minute of the day (0-1439)
+     * @throws TimeParseException       if the region is null, empty, malformed
+     * @throws IndexOutOfBoundsException if the region is outside the bounds of the array
+     */
+    public static int parseMinuteOfDay(byte[] bytes, int offset, int length) {
+        return checkResult(tryParseMinuteOfDay(bytes, offset, length));
+    }
+
+    /**
+     * Parses a string with optional seconds into a {@link PreciseTime} object.
+     *
+     * @param timeString the time string in HH:MM:SS, H:MM:SS, HH:MM or H:MM format
+     * @return the {@link PreciseTime} object, with zero seconds if none were given
+     * @throws TimeParseException if the input is null, empty, malformed
+     */
+    public static PreciseTime parsePreciseTime(String timeString) {
+        return PreciseTime.ofSecondOfDay(parseSecondOfDay(timeString));
+    }
+
+    /**
+     * Parses a character sequence with optional seconds into the second of the day
+     * ({@code hour * 3600 + minute * 60 + second}).
+     *
+     * @param text the time in HH:MM:SS, H:MM:SS, HH:MM or H:MM format
+     * @return the second of the day (0-86399)
+     * @throws TimeParseException if the input is null, empty, malformed
+     */
+    public static int parseSecondOfDay(CharSequence text) {
+        return checkResult(tryParseSecondOfDay(text));
+    }
+
+    /**
+     * Parses a character sequence with optional seconds into the second of the day without throwing
+     * for invalid input. The returned error codes are read with the same methods as those of
+     * {@link #tryParseMinuteOfDay(CharSequence)}.
+     *
+     * @param text the time in HH:MM:SS, H:MM:SS, HH:MM or H:MM format
+     * @return the second of the day (0-86399), or a negative error code if the input is null, empty, malformed
+     * @see #isError(int)
+     */
+    public static int tryParseSecondOfDay(CharSequence text) {
+        ParseEvent event = FlightRecording.beginParse();
+        int result = text == null ? error(NULL_INPUT, 0) : scanSeconds(text, 0, text.length());
+        commit(event, text == null ? -1 : text.length(), isError(result) ? result : result / 60);
+        return result;
+    }
+
+    /**
+     * Parses a character sequence into the minute of the day without throwing for invalid input.
+     * Nothing is allocated either way; the message of a failure is only built by {@link #errorMessage(int)}.
+     *
+     * @param text the time in HH:MM or H:MM format
+     * @return the minute of the day (0-1439), or a negative error code if the input is null, empty, malformed
+     * @see #isError(int)
+     */
+    public static int tryParseMinuteOfDay(CharSequence text) {
+        return tryParseMinuteOfDay(text, 0, text == null ? 0 : text.length());
+    }
 
-        Matcher matcher = TIME_PATTERN.matcher(timeString.trim());
-        if (!matcher.matches()) {
-            throw new IllegalArgumentException("Invalid time format");
+    /**
+     * Parses a region of a character sequence into the minute of the day without throwing for invalid input.
+     *
+     * @param text   the characters containing the time in HH:MM or H:MM format
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the minute of the day (0-1439), or a negative error code if the region is null, empty, malformed
+     * @throws IndexOutOfBoundsException if the region is outside the bounds of the text
+     * @see #isError(int)
+     */
+    public static int tryParseMinuteOfDay(CharSequence text, int offset, int length) {
+        ParseEvent event = FlightRecording.beginParse();
+        int result;
+        if (text == null) {
+            result = error(NULL_INPUT, 0);
+        } else {
+            Objects.checkFromIndexSize(offset, length, text.length());
+            result = scan(text, offset, offset + length);
         }
+        commit(event, text == null ? -1 : length, result);
+        return result;
+    }
 
-        int hour = Integer.parseInt(matcher.group(1));
-        int minute = Integer.parseInt(matcher.group(2));
-        return new Time(hour, minute);
+    /**
+     * Parses a region of ASCII encoded bytes into the minute of the day without throwing for invalid input.
+     *
+     * @param bytes  the bytes containing the time in HH:MM or H:MM format
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the minute of the day (0-1439), or a negative error code if the region is null, empty, malformed
+     * @throws IndexOutOfBoundsException if the region is outside the bounds of the array
+     * @see #isError(int)
+     */
+    public static int tryParseMinuteOfDay(byte[] bytes, int offset, int length) {
+        ParseEvent event = FlightRecording.beginParse();
+        int result;
+        if (bytes == null) {
+            result = error(NULL_INPUT, 0);
+        } else {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            result = scan(bytes, offset, offset + length);
+        }
+        commit(event, bytes == null ? -1 : length, result);
+        return result;
     }
 
     /**
-     * Method that validates the provided string.
+     * Checks if a result of {@code tryParseMinuteOfDay} is an error code rather than a minute of the day.
      *
-     * @throws IllegalArgumentException if the input is null, empty, malformed
+     * @param result the result of parsing
+     * @return true if the input was rejected
      */
-    private static void validateInput(String timeString) {
-        if (timeString == null) {
-            throw new IllegalArgumentException("Time string cannot be null");
+    public static boolean isError(int result) {
+        return result < 0;
+    }
+
+    /**
+     * Returns the reason of a failed parse.
+     *
+     * @param result the error code returned by {@code tryParseMinuteOfDay}
+     * @return the reason why the input was rejected
+     * @throws IllegalArgumentException if result is not an error code
+     */
+    public static Reason errorReason(int result) {
+        checkErrorCode(result);
+        return reasonOf(result);
+    }
+
+    /**
+     * Builds the message of a failed parse, the same as the message of the exception the throwing methods raise.
+     *
+     * @param result the error code returned by {@code tryParseMinuteOfDay}
+     * @return the message describing why the input was rejected
+     * @throws IllegalArgumentException if result is not an error code
+     */
+    public static String errorMessage(int result) {
+        checkErrorCode(result);
+
+        int value = result & 0xFF;
+        return switch (reasonOf(result)) {
+            case NULL_INPUT -> "Time string cannot be null";
+            case EMPTY_INPUT -> "Time string cannot be empty";
+            case HOUR_OUT_OF_RANGE -> "Hour must be between 0 and 23, got: " + value;
+            case MINUTE_OUT_OF_RANGE -> "Minute must be between 0 and 59, got: " + value;
+            case SECOND_OUT_OF_RANGE -> "Second must be between 0 and 59, got: " + value;
+            case INVALID_FORMAT -> "Invalid time format";
+        };
+    }
+
+    private static void checkErrorCode(int result) {
+        if (!isError(result)) {
+            throw new IllegalArgumentException("Not an error code: " + result);
         }
-        if (timeString.trim().isEmpty()) {
-            throw new IllegalArgumentException("Time string cannot be empty");
+    }
+
+    /**
+     * Scans the characters between start (inclusive) and end (exclusive).
+     *
+     * @return the minute of the day, or a value with the {@link #ERROR} bit set
+     */
+    private static int scan(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int length = end - start;
+        if (length == 0) {
+            return error(EMPTY_INPUT, 0);
+        }
+        if (length != 4 && length != 5) {
+            return error(INVALID_FORMAT, 0);
+        }
+
+        int hour = digit(text.charAt(start));
+        if (length == 5) {
+            hour = hour * 10 + digit(text.charAt(start + 1));
+        }
+        int minuteTens = digit(text.charAt(end - 2));
+        int minuteOnes = digit(text.charAt(end - 1));
+        if (text.charAt(end - 3) != ':' || (hour | minuteTens | minuteOnes) < 0) {
+            return error(INVALID_FORMAT, 0);
+        }
+        return minuteOfDay(hour, minuteTens * 10 + minuteOnes);
+    }
+
+    /**
+     * Scans the characters between start (inclusive) and end (exclusive), accepting an optional seconds field.
+     * Fields are validated in the same order as by {@link PreciseTime}: hour, minute, then second.
+     *
+     * @return the second of the day, or a value with the {@link #ERROR} bit set
+     */
+    private static int scanSeconds(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int length = end - start;
+        if (length != 7 && length != 8) {
+            int minuteOfDay = scan(text, start, end);
+            return isError(minuteOfDay) ? minuteOfDay : minuteOfDay * 60;
+        }
+
+        int secondTens = digit(text.charAt(end - 2));
+        int secondOnes = digit(text.charAt(end - 1));
+        if (text.charAt(end - 3) != ':' || (secondTens | secondOnes | digit(text.charAt(end - 4))) < 0) {
+            return error(INVALID_FORMAT, 0);
+        }
+        int minuteOfDay = scan(text, start, end - 3);
+        if (isError(minuteOfDay)) {
+            return minuteOfDay;
+        }
+        int second = secondTens * 10 + secondOnes;
+        if (second > 59) {
+            return error(SECOND_OUT_OF_RANGE, second);
+        }
+        return minuteOfDay * 60 + second;
+    }
+
+    /**
+     * Scans the bytes between start (inclusive) and end (exclusive).
+     *
+     * @return the minute of the day, or a value with the {@link #ERROR} bit set
+     */
+    private static int scan(byte[] bytes, int start, int end) {
+        while (start < end && (bytes[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+
+        int length = end - start;
+        if (length == 0) {
+            return error(EMPTY_INPUT, 0);
+        }
+        if (length != 4 && length != 5) {
+            return error(INVALID_FORMAT, 0);
+        }
+
+        int hour = digit(bytes[start]);
+        if (length == 5) {
+            hour = hour * 10 + digit(bytes[start + 1]);
+        }
+        int minuteTens = digit(bytes[end - 2]);
+        int minuteOnes = digit(bytes[end - 1]);
+        if (bytes[end - 3] != ':' || (hour | minuteTens | minuteOnes) < 0) {
+            return error(INVALID_FORMAT, 0);
+        }
+        return minuteOfDay(hour, minuteTens * 10 + minuteOnes);
+    }
+
+    /**
+     * Converts an ASCII digit to its value.
+     *
+     * @return the digit value, or a negative number large enough to stay negative after {@code * 10 + 9}
+     */
+    private static int digit(int c) {
+        int value = c - '0';
+        return value >= 0 && value <= 9 ? value : -1000;
+    }
+
+    /**
+     * Validates the parsed fields with the same rules and precedence as {@link Time}.
+     */
+    private static int minuteOfDay(int hour, int minute) {
+        if (hour > 23) {
+            return error(HOUR_OUT_OF_RANGE, hour);
+        }
+        if (minute > 59) {
+            return error(MINUTE_OUT_OF_RANGE, minute);
+        }
+        return hour * 60 + minute;
+    }
+
+    private static int error(int reason, int value) {
+        return ERROR | reason << 8 | value;
+    }
+
+    /**
+     * Fills in and commits a parse event if it was begun and is enabled and over its threshold.
+     *
+     * @param inputLength the length of the parsed region, or -1 for null input
+     * @param result      the scan result
+     */
+    private static void commit(ParseEvent event, int inputLength, int result) {
+        if (event != null && event.shouldCommit()) {
+            boolean failed = (result & ERROR) != 0;
+            event.inputLength = inputLength;
+            event.minuteOfDay = failed ? -1 : result;
+            event.failure = failed ? reasonOf(result).name() : null;
+            event.commit();
+        }
+    }
+
+    private static Reason reasonOf(int result) {
+        return switch ((result >>> 8) & 0xFF) {
+            case NULL_INPUT -> Reason.NULL_INPUT;
+            case EMPTY_INPUT -> Reason.EMPTY_INPUT;
+            case HOUR_OUT_OF_RANGE -> Reason.HOUR_OUT_OF_RANGE;
+            case MINUTE_OUT_OF_RANGE -> Reason.MINUTE_OUT_OF_RANGE;
+            case SECOND_OUT_OF_RANGE -> Reason.SECOND_OUT_OF_RANGE;
+            default -> Reason.INVALID_FORMAT;
+        };
+    }
+
+    /**
+     * Method that throws the exception described by a failed scan result.
+     *
+     * @return the result if it is a minute or second of the day
+     * @throws TimeParseException if the result represents an error
+     */
+    private static int checkResult(int result) {
+        if (isError(result)) {
+            throw new TimeParseException(reasonOf(result), errorMessage(result));
         }
+        return result;
     }
 
 }
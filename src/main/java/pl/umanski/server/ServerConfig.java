@@ -0,0 +1,52 @@
+package pl.umanski.server;
+
+/**
+ * Settings of a {@link SpokenTimeServer}.
+ *
+ * @param host             the address to bind to, loopback by default so the server runs as a local sidecar
+ * @param port             the port to listen on (0-65535), 0 picks a free port
+ * @param maxRequestBytes  the largest accepted request body; larger batch requests are rejected with status 413
+ * @param keepAliveSeconds how long an idle connection is kept open for further requests, 0 closes every connection
+ *                         after its response
+ */
+public record ServerConfig(String host, int port, int maxRequestBytes, int keepAliveSeconds) {
+
+    public static final String DEFAULT_HOST = "127.0.0.1";
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_REQUEST_BYTES = 1 << 20;
+    public static final int DEFAULT_KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * Largest allowed request size limit, keeping the response of a batch within the bounds of an array.
+     */
+    public static final int MAX_REQUEST_BYTES_LIMIT = 1 << 26;
+
+    /**
+     * Creates new settings.
+     *
+     * @throws IllegalArgumentException if host is null or a number is out of range
+     */
+    public ServerConfig {
+        if (host == null) {
+            throw new IllegalArgumentException("Host cannot be null");
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535, got: " + port);
+        }
+        if (maxRequestBytes < 1 || maxRequestBytes > MAX_REQUEST_BYTES_LIMIT) {
+            throw new IllegalArgumentException("Max request bytes must be between 1 and " + MAX_REQUEST_BYTES_LIMIT
+                    + ", got: " + maxRequestBytes);
+        }
+        if (keepAliveSeconds < 0) {
+            throw new IllegalArgumentException("Keep-alive seconds cannot be negative, got: " + keepAliveSeconds);
+        }
+    }
+
+    /**
+     * Returns the default settings: loopback, port 8080, 1 MiB requests and 30 seconds of keep-alive.
+     */
+    public static ServerConfig defaults() {
+        return new ServerConfig(DEFAULT_HOST, DEFAULT_PORT, DEFAULT_MAX_REQUEST_BYTES, DEFAULT_KEEP_ALIVE_SECONDS);
+    }
+
+}
@@ -0,0 +1,376 @@
+package pl.umanski.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.converter.Utf8SpokenTimeEncoder;
+import pl.umanski.jfr.BatchEvent;
+import pl.umanski.jfr.FlightRecording;
+import pl.umanski.metrics.ConversionMetrics;
+import pl.umanski.parser.TimeParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP service converting times to their spoken form, built on the JDK {@link HttpServer}.
+ * Every request is handled on its own virtual thread, and all requests share a single converter
+ * whose phrases are encoded to UTF-8 once when the server starts.
+ *
+ * <ul>
+ *     <li>{@code GET /convert?time=7:30} responds with the spoken time, or status 400 and the error message</li>
+ *     <li>{@code POST /convert/batch} takes one time per line and responds with one line per input line:
+ *     the spoken time or {@code Error: line N: ...}, with the number of errors in the
+ *     {@code X-Conversion-Errors} header</li>
+ *     <li>{@code GET /metrics} responds with the {@link ConversionMetrics} in the Prometheus text format,
+ *     if the server was started with metrics</li>
+ * </ul>
+ */
+public final class SpokenTimeServer implements AutoCloseable {
+
+    public static final String CONVERT_PATH = "/convert";
+    public static final String BATCH_PATH = "/convert/batch";
+    public static final String METRICS_PATH = "/metrics";
+    public static final String ERRORS_HEADER = "X-Conversion-Errors";
+
+    /**
+     * JDK property with the seconds an idle connection is kept open, read once when the first server of a JVM starts.
+     */
+    static final String IDLE_INTERVAL_PROPERTY = "sun.net.httpserver.idleInterval";
+
+    /**
+     * JDK property disabling Nagle's algorithm on accepted connections. The headers and the body of a response are
+     * written separately, so without it every keep-alive request waits for a delayed acknowledgement of the client.
+     */
+    static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final String TIME_PARAMETER = "time";
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ServerConfig config;
+    private final Utf8SpokenTimeEncoder phrases;
+    private final Utf8SpokenTimeEncoder phraseLines;
+    private final ConversionMetrics metrics;
+
+    private SpokenTimeServer(HttpServer server, ExecutorService executor, ServerConfig config,
+                             SpokenTimeConverter converter, ConversionMetrics metrics) {
+        this.server = server;
+        this.executor = executor;
+        this.config = config;
+        this.metrics = metrics;
+        this.phrases = new Utf8SpokenTimeEncoder(converter);
+        this.phraseLines = new Utf8SpokenTimeEncoder(converter, "", "\n");
+    }
+
+    /**
+     * Starts a new server.
+     * Keep-alive is enabled unless {@link ServerConfig#keepAliveSeconds()} is 0. The idle timeout and
+     * {@code TCP_NODELAY} are JVM-wide settings of the JDK server, so they are taken from the first server started
+     * unless already set with {@code -Dsun.net.httpserver.idleInterval} and {@code -Dsun.net.httpserver.nodelay}.
+     *
+     * @param converter the converter shared by all requests
+     * @param config    the server settings
+     * @return the running server
+     * @throws IllegalArgumentException if converter or config is null
+     * @throws IOException              if the server cannot bind to its address
+     */
+    public static SpokenTimeServer start(SpokenTimeConverter converter, ServerConfig config) throws IOException {
+        return launch(converter, config, null);
+    }
+
+    /**
+     * Starts a new server recording every parse and conversion in the given metrics and serving them
+     * at {@value #METRICS_PATH}.
+     *
+     * @param converter the converter shared by all requests
+     * @param config    the server settings
+     * @param metrics   the metrics to record into and serve
+     * @return the running server
+     * @throws IllegalArgumentException if any argument is null
+     * @throws IOException              if the server cannot bind to its address
+     * @see #start(SpokenTimeConverter, ServerConfig)
+     */
+    public static SpokenTimeServer start(SpokenTimeConverter converter, ServerConfig config,
+                                         ConversionMetrics metrics) throws IOException {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        return launch(converter, config, metrics);
+    }
+
+    private static SpokenTimeServer launch(SpokenTimeConverter converter, ServerConfig config,
+                                           ConversionMetrics metrics) throws IOException {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        if (config.keepAliveSeconds() > 0 && System.getProperty(IDLE_INTERVAL_PROPERTY) == null) {
+            System.setProperty(IDLE_INTERVAL_PROPERTY, String.valueOf(config.keepAliveSeconds()));
+        }
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(config.host(), config.port()), 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        SpokenTimeServer spokenTimeServer = new SpokenTimeServer(server, executor, config, converter, metrics);
+        server.createContext(CONVERT_PATH, spokenTimeServer::handleConvert);
+        server.createContext(BATCH_PATH, spokenTimeServer::handleBatch);
+        if (metrics != null) {
+            server.createContext(METRICS_PATH, spokenTimeServer::handleMetrics);
+        }
+        server.setExecutor(executor);
+        server.start();
+        return spokenTimeServer;
+    }
+
+    /**
+     * Returns the address the server listens on, with the actual port if port 0 was requested.
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting requests, closes open connections and waits for running requests to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handleConvert(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!CONVERT_PATH.equals(exchange.getRequestURI().getPath())) {
+                send(exchange, 404, "Not found");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                send(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            String time = queryParameter(exchange.getRequestURI().getRawQuery(), TIME_PARAMETER);
+            if (time == null) {
+                send(exchange, 400, "Missing query parameter: " + TIME_PARAMETER);
+                return;
+            }
+
+            int minuteOfDay = metrics == null
+                    ? TimeParser.tryParseMinuteOfDay(time)
+                    : metrics.tryParseMinuteOfDay(time);
+            if (TimeParser.isError(minuteOfDay)) {
+                send(exchange, 400, TimeParser.errorMessage(minuteOfDay));
+                return;
+            }
+            byte[] body = new byte[phrases.encodedLength(minuteOfDay)];
+            long start = startTime();
+            phrases.encode(minuteOfDay, body, 0);
+            recordConversion(minuteOfDay, start);
+            send(exchange, 200, body, body.length);
+        }
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!BATCH_PATH.equals(exchange.getRequestURI().getPath())) {
+                send(exchange, 404, "Not found");
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                send(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            byte[] request = readBody(exchange);
+            if (request == null) {
+                send(exchange, 413, "Request body exceeds " + config.maxRequestBytes() + " bytes");
+                return;
+            }
+            convertLines(exchange, request);
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!METRICS_PATH.equals(exchange.getRequestURI().getPath())) {
+                send(exchange, 404, "Not found");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                send(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            byte[] body = metrics.getPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", ConversionMetrics.PROMETHEUS_CONTENT_TYPE);
+            send(exchange, 200, body, body.length);
+        }
+    }
+
+    /**
+     * Reads the request body, stopping as soon as it is known to exceed the limit.
+     *
+     * @return the body, or null if it is larger than {@link ServerConfig#maxRequestBytes()}
+     */
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        int limit = config.maxRequestBytes();
+        if (declaredLength(exchange) > limit) {
+            return null;
+        }
+
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(limit + 1);
+            return body.length > limit ? null : body;
+        }
+    }
+
+    /**
+     * Returns the length declared by the {@code Content-Length} header.
+     *
+     * @return the declared length, or -1 if the header is missing or malformed
+     */
+    private static long declaredLength(HttpExchange exchange) {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Converts every line of the request and sends one response line per request line.
+     */
+    private void convertLines(HttpExchange exchange, byte[] request) throws IOException {
+        BatchEvent event = FlightRecording.beginBatch();
+        byte[] response = new byte[Math.max(64, request.length * 4)];
+        int length = 0;
+        int lineNumber = 0;
+        int errors = 0;
+
+        int lineStart = 0;
+        while (lineStart < request.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < request.length && request[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            lineNumber++;
+
+            int minuteOfDay = parseMinuteOfDay(request, lineStart, lineEnd - lineStart);
+            if (TimeParser.isError(minuteOfDay)) {
+                byte[] errorLine = ("Error: line " + lineNumber + ": " + TimeParser.errorMessage(minuteOfDay) + "\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                response = ensureCapacity(response, length, errorLine.length);
+                System.arraycopy(errorLine, 0, response, length, errorLine.length);
+                length += errorLine.length;
+                errors++;
+            } else {
+                response = ensureCapacity(response, length, phraseLines.maxEncodedLength());
+                long start = startTime();
+                length += phraseLines.encode(minuteOfDay, response, length);
+                recordConversion(minuteOfDay, start);
+            }
+            lineStart = lineEnd + 1;
+        }
+        if (event != null) {
+            event.complete(BatchEvent.HTTP, lineNumber, errors, request.length, null);
+        }
+
+        exchange.getResponseHeaders().set(ERRORS_HEADER, String.valueOf(errors));
+        send(exchange, 200, response, length);
+    }
+
+    /**
+     * Parses a line of the batch request without throwing, recording the outcome if the server has metrics.
+     *
+     * @return the minute of the day, or an error code
+     */
+    private int parseMinuteOfDay(byte[] bytes, int offset, int length) {
+        if (metrics == null) {
+            return TimeParser.tryParseMinuteOfDay(bytes, offset, length);
+        }
+
+        long start = metrics.startTimer();
+        int result = TimeParser.tryParseMinuteOfDay(bytes, offset, length);
+        metrics.recordParseResult(result, start);
+        return result;
+    }
+
+    /**
+     * Returns the start of a measured operation, without reading the clock if the server has no metrics.
+     */
+    private long startTime() {
+        return metrics == null ? ConversionMetrics.NOT_TIMED : metrics.startTimer();
+    }
+
+    private void recordConversion(int minuteOfDay, long start) {
+        if (metrics != null) {
+            metrics.recordConversion(minuteOfDay, start);
+        }
+    }
+
+    private static byte[] ensureCapacity(byte[] bytes, int length, int required) {
+        return bytes.length - length >= required
+                ? bytes
+                : Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + required));
+    }
+
+    /**
+     * Returns the decoded value of the first query parameter with the given name.
+     *
+     * @return the value, or null if the query has no such parameter
+     */
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = separator < 0 ? parameter : parameter.substring(0, separator);
+            if (name.equals(key)) {
+                return separator < 0 ? "" : URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void send(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        send(exchange, status, body, body.length);
+    }
+
+    /**
+     * Sends a response with a fixed length, so the connection can be reused for the next request.
+     */
+    private void send(HttpExchange exchange, int status, byte[] body, int length) throws IOException {
+        exchange.getResponseHeaders().putIfAbsent("Content-Type", List.of(TEXT_PLAIN));
+        if (config.keepAliveSeconds() == 0) {
+            exchange.getResponseHeaders().set("Connection", "close");
+        }
+        exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body, 0, length);
+        }
+    }
+
+}
@@ -1,32 +1,72 @@
 package pl.umanski.strategy;
 
 import pl.umanski.model.Time;
-
-import static pl.umanski.vocabulary.BritishTimeVocabulary.*;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
 
 /**
  * Formatter for digital times (minutes 31-39 exclude 35).
  * Uses "digital" format like "one thirty six".
- * Adds AM/PM period suffix for regular hours.
+ * Adds AM/PM period suffix for regular hours, unless created without it.
  */
 public class DigitalTimeStrategy implements TimeFormatStrategy {
 
+    private final TimeVocabulary vocabulary;
+    private final boolean withPeriod;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public DigitalTimeStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public DigitalTimeStrategy(TimeVocabulary vocabulary) {
+        this(vocabulary, true);
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary, with or without the period suffix.
+     *
+     * @param vocabulary the vocabulary
+     * @param withPeriod whether regular hours are followed by the period, such as AM or PM
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public DigitalTimeStrategy(TimeVocabulary vocabulary, boolean withPeriod) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+        this.withPeriod = withPeriod;
+    }
+
     @Override
     public boolean canHandle(Time time) {
-        return time.minute() >= 31 && time.minute() <= 39 && time.minute() != 35;
+        return handlesMinute(time.minute());
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return minute >= 31 && minute <= 39 && minute != 35;
     }
 
     @Override
-    public String format(Time time) {
-        String minuteWord = getMinuteWord(time.minute());
+    public StringBuilder formatTo(Time time, StringBuilder target) {
+        String minuteWord = vocabulary.minuteWord(time.minute());
 
-        if (time.isNoon()) return NOON + " " + minuteWord;
-        if (time.isMidnight()) return MIDNIGHT + " " + minuteWord;
+        if (time.isNoon()) return target.append(vocabulary.noon()).append(' ').append(minuteWord);
+        if (time.isMidnight()) return target.append(vocabulary.midnight()).append(' ').append(minuteWord);
 
-        String hourWord = getTwelveHourFormatWord(time.hour());
-        String period = getPeriod(time.hour());
+        String hourWord = vocabulary.hourWord(time.hour());
+        target.append(hourWord).append(' ').append(minuteWord);
 
-        return hourWord + " " + minuteWord + " " + period;
+        return withPeriod ? target.append(' ').append(vocabulary.period(time.hour())) : target;
     }
 
 }
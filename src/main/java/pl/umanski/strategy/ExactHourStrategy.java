@@ -1,30 +1,78 @@
 package pl.umanski.strategy;
 
 import pl.umanski.model.Time;
-
-import static pl.umanski.vocabulary.BritishTimeVocabulary.*;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
 
 /**
  * Formatter for exact hours (minute = 0).
  * Handles noon, midnight, and regular hours with "o'clock".
- * Adds AM/PM period suffix for regular hours.
+ * Adds AM/PM period suffix for regular hours, unless created without it.
  */
 public class ExactHourStrategy implements TimeFormatStrategy {
 
+    private final TimeVocabulary vocabulary;
+    private final boolean withPeriod;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public ExactHourStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public ExactHourStrategy(TimeVocabulary vocabulary) {
+        this(vocabulary, true);
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary, with or without the period suffix.
+     *
+     * @param vocabulary the vocabulary
+     * @param withPeriod whether regular hours are followed by the period, such as AM or PM
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public ExactHourStrategy(TimeVocabulary vocabulary, boolean withPeriod) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+        this.withPeriod = withPeriod;
+    }
+
     @Override
     public boolean canHandle(Time time) {
-        return time.isExactHour();
+        return handlesMinute(time.minute());
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return minute == 0;
     }
 
     @Override
     public String format(Time time) {
-        if (time.isNoon()) return NOON;
-        if (time.isMidnight()) return MIDNIGHT;
+        if (time.isNoon()) return vocabulary.noon();
+        if (time.isMidnight()) return vocabulary.midnight();
+
+        return TimeFormatStrategy.super.format(time);
+    }
+
+    @Override
+    public StringBuilder formatTo(Time time, StringBuilder target) {
+        if (time.isNoon()) return target.append(vocabulary.noon());
+        if (time.isMidnight()) return target.append(vocabulary.midnight());
 
-        String hourWord = getTwelveHourFormatWord(time.hour());
-        String period = getPeriod(time.hour());
+        String hourWord = vocabulary.hourWord(time.hour());
+        target.append(hourWord).append(' ').append(vocabulary.exactHourSuffix());
 
-        return hourWord + " " + EXACT_HOUR_SUFFIX + " " + period;
+        return withPeriod ? target.append(' ').append(vocabulary.period(time.hour())) : target;
     }
 
 }
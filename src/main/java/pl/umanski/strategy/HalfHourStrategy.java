@@ -0,0 +1,56 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Formatter for colloquial British half hours (minute = 30).
+ * Uses "half" followed by the current hour, like "half seven" for half past seven, also at noon and midnight.
+ * Adds AM/PM period suffix unless created without it.
+ */
+public class HalfHourStrategy implements TimeFormatStrategy {
+
+    private final TimeVocabulary vocabulary;
+    private final boolean withPeriod;
+
+    /**
+     * Creates a new strategy with the British vocabulary and without the period suffix.
+     */
+    public HalfHourStrategy() {
+        this(TimeVocabularies.defaultVocabulary(), false);
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @param withPeriod whether the hour is followed by the period, such as AM or PM
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public HalfHourStrategy(TimeVocabulary vocabulary, boolean withPeriod) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+        this.withPeriod = withPeriod;
+    }
+
+    @Override
+    public boolean canHandle(Time time) {
+        return handlesMinute(time.minute());
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return minute == 30;
+    }
+
+    @Override
+    public StringBuilder formatTo(Time time, StringBuilder target) {
+        target.append(vocabulary.minuteWord(30)).append(' ').append(vocabulary.clockHourWord(time.hour()));
+
+        return withPeriod ? target.append(' ').append(vocabulary.period(time.hour())) : target;
+    }
+
+}
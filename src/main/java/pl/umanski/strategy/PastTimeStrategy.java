@@ -1,32 +1,71 @@
 package pl.umanski.strategy;
 
 import pl.umanski.model.Time;
-
-import static pl.umanski.vocabulary.BritishTimeVocabulary.*;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
 
 /**
  * Formatter for past times (minutes 1-30).
  * Uses "past" format like "quarter past four" or "twenty past five".
- * Adds AM/PM period suffix for regular hours.
+ * Adds AM/PM period suffix for regular hours, unless created without it.
  */
 public class PastTimeStrategy implements TimeFormatStrategy {
 
+    private final TimeVocabulary vocabulary;
+    private final boolean withPeriod;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public PastTimeStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public PastTimeStrategy(TimeVocabulary vocabulary) {
+        this(vocabulary, true);
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary, with or without the period suffix.
+     *
+     * @param vocabulary the vocabulary
+     * @param withPeriod whether regular hours are followed by the period, such as AM or PM
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public PastTimeStrategy(TimeVocabulary vocabulary, boolean withPeriod) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+        this.withPeriod = withPeriod;
+    }
+
     @Override
     public boolean canHandle(Time time) {
-        return time.minute() >= 1 && time.minute() <= 30;
+        return handlesMinute(time.minute());
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return minute >= 1 && minute <= 30;
     }
 
     @Override
-    public String format(Time time) {
-        String minuteWord = getMinuteWord(time.minute());
+    public StringBuilder formatTo(Time time, StringBuilder target) {
+        target.append(vocabulary.minuteWord(time.minute())).append(' ').append(vocabulary.pastPreposition()).append(' ');
 
-        if (time.isNoon()) return minuteWord + " " + PAST_PREPOSITION + " " + NOON;
-        if (time.isMidnight()) return minuteWord + " " + PAST_PREPOSITION + " " + MIDNIGHT;
+        if (time.isNoon()) return target.append(vocabulary.noon());
+        if (time.isMidnight()) return target.append(vocabulary.midnight());
 
-        String hourWord = getTwelveHourFormatWord(time.hour());
-        String period = getPeriod(time.hour());
+        target.append(vocabulary.hourWord(time.hour()));
 
-        return minuteWord + " " + PAST_PREPOSITION + " " + hourWord + " " + period;
+        return withPeriod ? target.append(' ').append(vocabulary.period(time.hour())) : target;
     }
 
 }
@@ -0,0 +1,38 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.PreciseTime;
+
+/**
+ * Strategy interface for formatting times with seconds in different ways.
+ */
+public interface PreciseTimeFormatStrategy {
+
+    /**
+     * Checks if this formatter can handle the given time.
+     *
+     * @param time the time to check
+     * @return true if this formatter can handle the time, false otherwise
+     */
+    boolean canHandle(PreciseTime time);
+
+    /**
+     * Formats the time according to this formatter's rules.
+     * The default implementation collects the output of {@link #formatTo(PreciseTime, StringBuilder)}.
+     *
+     * @param time the time to format
+     * @return the formatted time string
+     */
+    default String format(PreciseTime time) {
+        return formatTo(time, new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends the time formatted according to this formatter's rules to the target.
+     *
+     * @param time   the time to format
+     * @param target the builder receiving the formatted time
+     * @return the target
+     */
+    StringBuilder formatTo(PreciseTime time, StringBuilder target);
+
+}
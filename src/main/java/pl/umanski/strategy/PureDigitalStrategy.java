@@ -0,0 +1,61 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Formatter for every time that is not an exact hour (minutes 1-59) in purely digital form.
+ * Speaks the hour in 12-hour format followed by the minutes as a number, like "four forty five"
+ * or "twelve oh five", never "quarter", "half", noon or midnight.
+ * Adds AM/PM period suffix unless created without it.
+ */
+public class PureDigitalStrategy implements TimeFormatStrategy {
+
+    private final TimeVocabulary vocabulary;
+    private final boolean withPeriod;
+
+    /**
+     * Creates a new strategy with the British vocabulary and the period suffix.
+     */
+    public PureDigitalStrategy() {
+        this(TimeVocabularies.defaultVocabulary(), true);
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @param withPeriod whether the minutes are followed by the period, such as AM or PM
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public PureDigitalStrategy(TimeVocabulary vocabulary, boolean withPeriod) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+        this.withPeriod = withPeriod;
+    }
+
+    @Override
+    public boolean canHandle(Time time) {
+        return handlesMinute(time.minute());
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return minute >= 1;
+    }
+
+    @Override
+    public StringBuilder formatTo(Time time, StringBuilder target) {
+        target.append(vocabulary.clockHourWord(time.hour())).append(' ');
+        if (time.minute() < 10) {
+            target.append(vocabulary.leadingZero()).append(' ');
+        }
+        target.append(vocabulary.numberWord(time.minute()));
+
+        return withPeriod ? target.append(' ').append(vocabulary.period(time.hour())) : target;
+    }
+
+}
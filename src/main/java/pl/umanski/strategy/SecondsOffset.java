@@ -0,0 +1,30 @@
+package pl.umanski.strategy;
+
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Spoken distance from a full hour in minutes and seconds, shared by the strategies with seconds.
+ */
+final class SecondsOffset {
+
+    private SecondsOffset() {
+    }
+
+    /**
+     * Appends a distance such as "seven minutes and twenty seconds", or "twenty seconds" without minutes.
+     *
+     * @param vocabulary the vocabulary
+     * @param minutes    the number of minutes (0-59)
+     * @param seconds    the number of seconds (1-59)
+     * @param target     the builder receiving the distance
+     * @return the target
+     */
+    static StringBuilder appendTo(TimeVocabulary vocabulary, int minutes, int seconds, StringBuilder target) {
+        if (minutes > 0) {
+            target.append(vocabulary.numberWord(minutes)).append(' ').append(vocabulary.minuteUnit(minutes))
+                    .append(' ').append(vocabulary.unitConjunction()).append(' ');
+        }
+        return target.append(vocabulary.numberWord(seconds)).append(' ').append(vocabulary.secondUnit(seconds));
+    }
+
+}
@@ -0,0 +1,52 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.PreciseTime;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Formatter for times with seconds in the first half of the hour (minutes 0-29).
+ * Counts the minutes and seconds past the hour, like "seven minutes and twenty seconds past four PM"
+ * or "twenty seconds past noon". Adds AM/PM period suffix for regular hours.
+ */
+public class SecondsPastStrategy implements PreciseTimeFormatStrategy {
+
+    private final TimeVocabulary vocabulary;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public SecondsPastStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public SecondsPastStrategy(TimeVocabulary vocabulary) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+    }
+
+    @Override
+    public boolean canHandle(PreciseTime time) {
+        return time.second() > 0 && time.minute() < 30;
+    }
+
+    @Override
+    public StringBuilder formatTo(PreciseTime time, StringBuilder target) {
+        SecondsOffset.appendTo(vocabulary, time.minute(), time.second(), target)
+                .append(' ').append(vocabulary.pastPreposition()).append(' ');
+
+        if (time.hour() == 12) return target.append(vocabulary.noon());
+        if (time.hour() == 0) return target.append(vocabulary.midnight());
+
+        return target.append(vocabulary.hourWord(time.hour())).append(' ').append(vocabulary.period(time.hour()));
+    }
+
+}
@@ -0,0 +1,54 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.PreciseTime;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Formatter for times with seconds in the second half of the hour (minutes 30-59).
+ * Counts the minutes and seconds to the next hour, like "fourteen minutes and ten seconds to five PM"
+ * or "one second to midnight". Adds AM/PM period suffix for regular hours.
+ */
+public class SecondsToStrategy implements PreciseTimeFormatStrategy {
+
+    private final TimeVocabulary vocabulary;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public SecondsToStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public SecondsToStrategy(TimeVocabulary vocabulary) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+    }
+
+    @Override
+    public boolean canHandle(PreciseTime time) {
+        return time.second() > 0 && time.minute() >= 30;
+    }
+
+    @Override
+    public StringBuilder formatTo(PreciseTime time, StringBuilder target) {
+        int nextHour = time.hour() + 1;
+        int secondsTo = 3600 - time.minute() * 60 - time.second();
+        SecondsOffset.appendTo(vocabulary, secondsTo / 60, secondsTo % 60, target)
+                .append(' ').append(vocabulary.toPreposition()).append(' ');
+
+        if (nextHour == 12) return target.append(vocabulary.noon());
+        if (nextHour == 24) return target.append(vocabulary.midnight());
+
+        return target.append(vocabulary.hourWord(nextHour)).append(' ').append(vocabulary.period(nextHour));
+    }
+
+}
@@ -0,0 +1,195 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Immutable minute-indexed dispatch table of {@link TimeFormatStrategy} instances.
+ * Every minute of an hour is assigned to exactly one strategy when the registry is built,
+ * so finding the strategy for a time is a single array lookup instead of probing strategies in order.
+ */
+public final class StrategyRegistry {
+
+    /**
+     * Number of slots in the dispatch table.
+     */
+    public static final int MINUTES_PER_HOUR = 60;
+
+    private static final StrategyRegistry DEFAULT = defaultRegistry(TimeVocabularies.defaultVocabulary());
+
+    private final TimeFormatStrategy[] dispatch;
+    private final List<TimeFormatStrategy> strategies;
+
+    private StrategyRegistry(TimeFormatStrategy[] dispatch) {
+        this.dispatch = dispatch;
+        this.strategies = List.copyOf(new LinkedHashSet<>(List.of(dispatch)));
+    }
+
+    /**
+     * Returns the registry of the default British strategies.
+     */
+    public static StrategyRegistry defaultRegistry() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a registry of the default strategies taking their words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary, such as {@code TimeVocabularies.forLocale(Locale.US)}
+     * @return the new registry
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public static StrategyRegistry defaultRegistry(TimeVocabulary vocabulary) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        return builder()
+                .register(new ExactHourStrategy(vocabulary))
+                .register(new PastTimeStrategy(vocabulary))
+                .register(new DigitalTimeStrategy(vocabulary))
+                .register(new ToTimeStrategy(vocabulary))
+                .build();
+    }
+
+    /**
+     * Creates a builder of a new registry.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the strategy responsible for the given minute.
+     *
+     * @param minute the minute (0-59)
+     * @return the strategy formatting times with that minute
+     * @throws IllegalArgumentException if minute is not between 0 and 59
+     */
+    public TimeFormatStrategy strategyFor(int minute) {
+        if (minute < 0 || minute >= MINUTES_PER_HOUR) {
+            throw new IllegalArgumentException("Minute must be between 0 and 59, got: " + minute);
+        }
+        return dispatch[minute];
+    }
+
+    /**
+     * Returns the strategy responsible for the given time.
+     *
+     * @param time the time to format
+     * @return the strategy formatting the time
+     */
+    public TimeFormatStrategy strategyFor(Time time) {
+        return dispatch[time.minute()];
+    }
+
+    /**
+     * Returns the distinct registered strategies in order of the first minute they handle.
+     */
+    public List<TimeFormatStrategy> strategies() {
+        return strategies;
+    }
+
+    /**
+     * Builder collecting the minutes claimed by each strategy.
+     * Overlapping claims and minutes claimed by no strategy are rejected by {@link #build()}.
+     */
+    public static final class Builder {
+
+        private final List<TimeFormatStrategy> claimedStrategies = new ArrayList<>();
+        private final List<int[]> claimedMinutes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a strategy for the minutes it declares through {@link TimeFormatStrategy#handlesMinute(int)}.
+         *
+         * @param strategy the strategy to register
+         * @return this builder
+         * @throws IllegalArgumentException if strategy is null
+         * @throws IllegalStateException    if the strategy handles some minute only for some hours
+         */
+        public Builder register(TimeFormatStrategy strategy) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Strategy cannot be null");
+            }
+
+            int[] minutes = new int[MINUTES_PER_HOUR];
+            int count = 0;
+            for (int minute = 0; minute < MINUTES_PER_HOUR; minute++) {
+                if (strategy.handlesMinute(minute)) {
+                    minutes[count++] = minute;
+                }
+            }
+            return claim(strategy, Arrays.copyOf(minutes, count));
+        }
+
+        /**
+         * Registers a strategy for explicitly given minutes, regardless of the minutes it declares.
+         * Allows a narrower strategy, such as a colloquial "half seven", to take over minutes
+         * that a general strategy is then registered without.
+         *
+         * @param strategy the strategy to register
+         * @param minutes  the minutes (0-59) the strategy formats
+         * @return this builder
+         * @throws IllegalArgumentException if strategy or minutes is null, or if a minute is not between 0 and 59
+         */
+        public Builder register(TimeFormatStrategy strategy, int... minutes) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Strategy cannot be null");
+            }
+            if (minutes == null) {
+                throw new IllegalArgumentException("Minutes cannot be null");
+            }
+            for (int minute : minutes) {
+                if (minute < 0 || minute >= MINUTES_PER_HOUR) {
+                    throw new IllegalArgumentException("Minute must be between 0 and 59, got: " + minute);
+                }
+            }
+            return claim(strategy, minutes.clone());
+        }
+
+        private Builder claim(TimeFormatStrategy strategy, int[] minutes) {
+            claimedStrategies.add(strategy);
+            claimedMinutes.add(minutes);
+            return this;
+        }
+
+        /**
+         * Compiles the claims into a dispatch table.
+         *
+         * @return the new registry
+         * @throws IllegalStateException if a minute is claimed by more than one strategy or by none
+         */
+        public StrategyRegistry build() {
+            TimeFormatStrategy[] dispatch = new TimeFormatStrategy[MINUTES_PER_HOUR];
+
+            for (int i = 0; i < claimedStrategies.size(); i++) {
+                TimeFormatStrategy strategy = claimedStrategies.get(i);
+                for (int minute : claimedMinutes.get(i)) {
+                    if (dispatch[minute] != null && dispatch[minute] != strategy) {
+                        throw new IllegalStateException("Minute " + minute + " is handled by more than one strategy: "
+                                + dispatch[minute].getClass().getSimpleName() + ", "
+                                + strategy.getClass().getSimpleName());
+                    }
+                    dispatch[minute] = strategy;
+                }
+            }
+
+            for (int minute = 0; minute < MINUTES_PER_HOUR; minute++) {
+                if (dispatch[minute] == null) {
+                    throw new IllegalStateException("No strategy handles minute: " + minute);
+                }
+            }
+            return new StrategyRegistry(dispatch);
+        }
+
+    }
+
+}
@@ -15,12 +15,45 @@ public interface TimeFormatStrategy {
      */
     boolean canHandle(Time time);
 
+    /**
+     * Declares whether this formatter handles every time with the given minute, whatever the hour.
+     * Used by {@link StrategyRegistry} to compile minute-based dispatch.
+     * The default implementation derives the answer from {@link #canHandle(Time)} for every hour.
+     *
+     * @param minute the minute to check (0-59)
+     * @return true if this formatter handles the minute, false otherwise
+     * @throws IllegalStateException if this formatter handles the minute only for some hours
+     */
+    default boolean handlesMinute(int minute) {
+        boolean handled = canHandle(Time.of(0, minute));
+        for (int hour = 1; hour < 24; hour++) {
+            if (canHandle(Time.of(hour, minute)) != handled) {
+                throw new IllegalStateException(getClass().getSimpleName()
+                        + " handles minute " + minute + " only for some hours");
+            }
+        }
+        return handled;
+    }
+
     /**
      * Formats the time according to this formatter's rules.
+     * The default implementation collects the output of {@link #formatTo(Time, StringBuilder)}.
      *
      * @param time the time to format
      * @return the formatted time string
      */
-    String format(Time time);
+    default String format(Time time) {
+        return formatTo(time, new StringBuilder(32)).toString();
+    }
+
+    /**
+     * Appends the time formatted according to this formatter's rules to the target,
+     * so that callers assembling a larger message need no intermediate string.
+     *
+     * @param time   the time to format
+     * @param target the builder receiving the formatted time
+     * @return the target
+     */
+    StringBuilder formatTo(Time time, StringBuilder target);
 
 }
@@ -1,34 +1,73 @@
 package pl.umanski.strategy;
 
 import pl.umanski.model.Time;
-
-import static pl.umanski.vocabulary.BritishTimeVocabulary.*;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
 
 /**
  * Formatter for 'to' times (minutes 40-60 and 35).
  * Uses "to" format like "twenty five to five" or "five to ten".
- * Adds AM/PM period suffix for regular hours.
+ * Adds AM/PM period suffix for regular hours, unless created without it.
  */
 public class ToTimeStrategy implements TimeFormatStrategy {
 
+    private final TimeVocabulary vocabulary;
+    private final boolean withPeriod;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public ToTimeStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public ToTimeStrategy(TimeVocabulary vocabulary) {
+        this(vocabulary, true);
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary, with or without the period suffix.
+     *
+     * @param vocabulary the vocabulary
+     * @param withPeriod whether regular hours are followed by the period, such as AM or PM
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public ToTimeStrategy(TimeVocabulary vocabulary, boolean withPeriod) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+        this.withPeriod = withPeriod;
+    }
+
     @Override
     public boolean canHandle(Time time) {
-        return time.minute() == 35 || time.minute() >= 40;
+        return handlesMinute(time.minute());
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return minute == 35 || minute >= 40;
     }
 
     @Override
-    public String format(Time time) {
+    public StringBuilder formatTo(Time time, StringBuilder target) {
         int nextHour = time.hour() + 1;
         int minutesTo = 60 - time.minute();
-        String minuteWord = getMinuteWord(minutesTo);
+        target.append(vocabulary.minuteWord(minutesTo)).append(' ').append(vocabulary.toPreposition()).append(' ');
 
-        if (nextHour == 12) return minuteWord + " " + TO_PREPOSITION + " " + NOON;
-        if (nextHour == 24) return minuteWord + " " + TO_PREPOSITION + " " + MIDNIGHT;
+        if (nextHour == 12) return target.append(vocabulary.noon());
+        if (nextHour == 24) return target.append(vocabulary.midnight());
 
-        String hourWord = getTwelveHourFormatWord(nextHour);
-        String period = getPeriod(nextHour);
+        target.append(vocabulary.hourWord(nextHour));
 
-        return minuteWord + " " + TO_PREPOSITION + " " + hourWord + " " + period;
+        return withPeriod ? target.append(' ').append(vocabulary.period(nextHour)) : target;
     }
 
 }
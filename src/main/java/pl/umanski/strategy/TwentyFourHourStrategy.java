@@ -0,0 +1,68 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+/**
+ * Formatter for every time (minutes 0-59) in spoken 24-hour form.
+ * Speaks hours and minutes as two numbers with leading zeros, like "oh seven thirty" or "sixteen oh five",
+ * and exact hours with "hundred", like "sixteen hundred" or "zero hundred". Never adds a period suffix.
+ */
+public class TwentyFourHourStrategy implements TimeFormatStrategy {
+
+    private final TimeVocabulary vocabulary;
+
+    /**
+     * Creates a new strategy with the British vocabulary.
+     */
+    public TwentyFourHourStrategy() {
+        this(TimeVocabularies.defaultVocabulary());
+    }
+
+    /**
+     * Creates a new strategy taking its words from the given vocabulary.
+     *
+     * @param vocabulary the vocabulary
+     * @throws IllegalArgumentException if vocabulary is null
+     */
+    public TwentyFourHourStrategy(TimeVocabulary vocabulary) {
+        if (vocabulary == null) {
+            throw new IllegalArgumentException("Vocabulary cannot be null");
+        }
+        this.vocabulary = vocabulary;
+    }
+
+    @Override
+    public boolean canHandle(Time time) {
+        return true;
+    }
+
+    @Override
+    public boolean handlesMinute(int minute) {
+        return true;
+    }
+
+    @Override
+    public StringBuilder formatTo(Time time, StringBuilder target) {
+        int hour = time.hour();
+        if (hour == 0) {
+            target.append(vocabulary.zeroHour());
+        } else {
+            appendTwoDigits(hour, target);
+        }
+        target.append(' ');
+
+        if (time.minute() == 0) return target.append(vocabulary.hundred());
+
+        return appendTwoDigits(time.minute(), target);
+    }
+
+    private StringBuilder appendTwoDigits(int number, StringBuilder target) {
+        if (number < 10) {
+            target.append(vocabulary.leadingZero()).append(' ');
+        }
+        return target.append(vocabulary.numberWord(number));
+    }
+
+}
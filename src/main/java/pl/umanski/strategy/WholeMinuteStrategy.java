@@ -0,0 +1,45 @@
+package pl.umanski.strategy;
+
+import pl.umanski.model.PreciseTime;
+import pl.umanski.model.Time;
+
+/**
+ * Formatter for times without seconds.
+ * Formats them exactly as the minute strategies of a registry do, like "quarter past four PM".
+ */
+public class WholeMinuteStrategy implements PreciseTimeFormatStrategy {
+
+    private final StrategyRegistry registry;
+
+    /**
+     * Creates a new strategy delegating to the default British registry.
+     */
+    public WholeMinuteStrategy() {
+        this(StrategyRegistry.defaultRegistry());
+    }
+
+    /**
+     * Creates a new strategy delegating to the strategies of the given registry.
+     *
+     * @param registry the registry assigning a strategy to every minute
+     * @throws IllegalArgumentException if registry is null
+     */
+    public WholeMinuteStrategy(StrategyRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean canHandle(PreciseTime time) {
+        return time.isWholeMinute();
+    }
+
+    @Override
+    public StringBuilder formatTo(PreciseTime time, StringBuilder target) {
+        Time minute = time.toTime();
+        return registry.strategyFor(minute).formatTo(minute, target);
+    }
+
+}
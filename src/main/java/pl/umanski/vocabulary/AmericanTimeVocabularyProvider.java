@@ -0,0 +1,28 @@
+package pl.umanski.vocabulary;
+
+import java.util.Locale;
+
+/**
+ * Provides the American vocabulary, for {@link Locale#US}: the British words,
+ * with "after" instead of "past", as in "quarter after five PM".
+ */
+public final class AmericanTimeVocabularyProvider implements TimeVocabularyProvider {
+
+    /**
+     * American English preposition used for times in the "past" format.
+     */
+    public static final String PAST_PREPOSITION = "after";
+
+    @Override
+    public Locale locale() {
+        return Locale.US;
+    }
+
+    @Override
+    public TimeVocabulary load() {
+        return BritishTimeVocabulary.builder(Locale.US)
+                .pastPreposition(PAST_PREPOSITION)
+                .build();
+    }
+
+}
@@ -1,9 +1,10 @@
 package pl.umanski.vocabulary;
 
-import java.util.Map;
+import java.util.Locale;
 
 /**
  * Utility class providing British vocabulary.
+ * The words are compiled into a {@link TimeVocabulary}, which is also the default of {@link TimeVocabularies}.
  */
 public class BritishTimeVocabulary {
 
@@ -43,33 +44,62 @@ public class BritishTimeVocabulary {
     public static final String PM = "PM";
 
     /**
-     * Mapping of hour values to their British English word equivalents.
+     * British English words of hours in 12-hour format, indexed by hour.
      */
-    private static final Map<Integer, String> HOUR_WORDS = Map.ofEntries(
-            Map.entry(1, "one"), Map.entry(2, "two"), Map.entry(3, "three"), Map.entry(4, "four"),
-            Map.entry(5, "five"), Map.entry(6, "six"), Map.entry(7, "seven"), Map.entry(8, "eight"),
-            Map.entry(9, "nine"), Map.entry(10, "ten"), Map.entry(11, "eleven")
-    );
+    private static final String[] HOUR_WORDS = {
+            null, "one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten", "eleven"
+    };
 
     /**
-     * Mapping of minute values to their British English word equivalents.
+     * British English words of minutes, indexed by minute; minutes without a word are null.
      */
-    private static final Map<Integer, String> MINUTE_WORDS = Map.ofEntries(
-            Map.entry(1, "one"), Map.entry(2, "two"), Map.entry(3, "three"), Map.entry(4, "four"),
-            Map.entry(5, "five"), Map.entry(6, "six"), Map.entry(7, "seven"), Map.entry(8, "eight"),
-            Map.entry(9, "nine"), Map.entry(10, "ten"), Map.entry(11, "eleven"), Map.entry(12, "twelve"),
-            Map.entry(13, "thirteen"), Map.entry(14, "fourteen"), Map.entry(15, "quarter"), Map.entry(16, "sixteen"),
-            Map.entry(17, "seventeen"), Map.entry(18, "eighteen"), Map.entry(19, "nineteen"), Map.entry(20, "twenty"),
-            Map.entry(21, "twenty one"), Map.entry(22, "twenty two"), Map.entry(23, "twenty three"), Map.entry(24, "twenty four"),
-            Map.entry(25, "twenty five"), Map.entry(26, "twenty six"), Map.entry(27, "twenty seven"), Map.entry(28, "twenty eight"),
-            Map.entry(29, "twenty nine"), Map.entry(30, "half"), Map.entry(31, "thirty one"), Map.entry(32, "thirty two"),
-            Map.entry(33, "thirty three"), Map.entry(34, "thirty four"), Map.entry(36, "thirty six"), Map.entry(37, "thirty seven"),
-            Map.entry(38, "thirty eight"), Map.entry(39, "thirty nine")
-    );
+    private static final String[] MINUTE_WORDS = {
+            null, "one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten",
+            "eleven", "twelve", "thirteen", "fourteen", "quarter", "sixteen", "seventeen", "eighteen", "nineteen",
+            "twenty", "twenty one", "twenty two", "twenty three", "twenty four", "twenty five", "twenty six",
+            "twenty seven", "twenty eight", "twenty nine", "half", "thirty one", "thirty two", "thirty three",
+            "thirty four", null, "thirty six", "thirty seven", "thirty eight", "thirty nine"
+    };
+
+    /**
+     * The British vocabulary, compiled when this class is first used.
+     */
+    private static final CompiledTimeVocabulary VOCABULARY = builder(Locale.UK).build();
 
     private BritishTimeVocabulary() {
     }
 
+    /**
+     * Returns the British vocabulary.
+     */
+    public static TimeVocabulary vocabulary() {
+        return VOCABULARY;
+    }
+
+    /**
+     * Creates a builder holding every British word, for variants that differ in a few words.
+     *
+     * @param locale the locale of the variant
+     */
+    static CompiledTimeVocabulary.Builder builder(Locale locale) {
+        CompiledTimeVocabulary.Builder builder = CompiledTimeVocabulary.builder(locale)
+                .noon(NOON)
+                .midnight(MIDNIGHT)
+                .exactHourSuffix(EXACT_HOUR_SUFFIX)
+                .pastPreposition(PAST_PREPOSITION)
+                .toPreposition(TO_PREPOSITION)
+                .periods(AM, PM);
+        for (int hour = 1; hour < HOUR_WORDS.length; hour++) {
+            builder.hourWord(hour, HOUR_WORDS[hour]);
+        }
+        for (int minute = 1; minute < MINUTE_WORDS.length; minute++) {
+            if (MINUTE_WORDS[minute] != null) {
+                builder.minuteWord(minute, MINUTE_WORDS[minute]);
+            }
+        }
+        return builder;
+    }
+
     /**
      * Retrieves the British spoken word for a given hour converted to 12-hour format.
      * Converts 24-hour format to 12-hour format internally.
@@ -79,16 +109,7 @@ public class BritishTimeVocabulary {
      * @throws IllegalArgumentException if the hour is invalid or not supported
      */
     public static String getTwelveHourFormatWord(int hour) {
-        if (hour < 0 || hour > 23) {
-            throw new IllegalArgumentException("Hour must be between 0-23, got: " + hour);
-        }
-
-        int twelveHourFormat = hour % 12;
-        String hourWord = HOUR_WORDS.get(twelveHourFormat);
-        if (hourWord == null) {
-            throw new IllegalArgumentException("Hour " + hour + " not supported in vocabulary");
-        }
-        return hourWord;
+        return VOCABULARY.hourWord(hour);
     }
 
     /**
@@ -99,11 +120,7 @@ public class BritishTimeVocabulary {
      * @throws IllegalArgumentException if the minute is invalid or not supported
      */
     public static String getMinuteWord(int minute) {
-        String minuteWord = MINUTE_WORDS.get(minute);
-        if (minuteWord == null) {
-            throw new IllegalArgumentException("Minute: " + minute + " not supported in vocabulary");
-        }
-        return minuteWord;
+        return VOCABULARY.minuteWord(minute);
     }
 
     /**
@@ -114,11 +131,7 @@ public class BritishTimeVocabulary {
      * @throws IllegalArgumentException if the hour is invalid
      */
     public static String getPeriod(int hour) {
-        if (hour < 0 || hour > 23) {
-            throw new IllegalArgumentException("Invalid hour: " + hour);
-        }
-
-        return hour < 12 ? AM : PM;
+        return VOCABULARY.period(hour);
     }
 
 }
@@ -0,0 +1,20 @@
+package pl.umanski.vocabulary;
+
+import java.util.Locale;
+
+/**
+ * Provides the British vocabulary, for {@link Locale#UK}.
+ */
+public final class BritishTimeVocabularyProvider implements TimeVocabularyProvider {
+
+    @Override
+    public Locale locale() {
+        return Locale.UK;
+    }
+
+    @Override
+    public TimeVocabulary load() {
+        return BritishTimeVocabulary.vocabulary();
+    }
+
+}
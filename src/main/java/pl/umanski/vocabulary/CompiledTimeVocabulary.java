@@ -0,0 +1,260 @@
+package pl.umanski.vocabulary;
+
+import java.util.Locale;
+
+/**
+ * {@link TimeVocabulary} compiled into dense arrays indexed by hour and minute,
+ * so every lookup is a bounds check and an array read.
+ */
+public final class CompiledTimeVocabulary implements TimeVocabulary {
+
+    private static final int HOURS_PER_PERIOD = 12;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final Locale locale;
+    private final String[] hourWords;
+    private final String[] minuteWords;
+    private final String noon;
+    private final String midnight;
+    private final String exactHourSuffix;
+    private final String pastPreposition;
+    private final String toPreposition;
+    private final String am;
+    private final String pm;
+
+    private CompiledTimeVocabulary(Builder builder) {
+        this.locale = builder.locale;
+        this.hourWords = builder.hourWords.clone();
+        this.minuteWords = builder.minuteWords.clone();
+        this.noon = builder.noon;
+        this.midnight = builder.midnight;
+        this.exactHourSuffix = builder.exactHourSuffix;
+        this.pastPreposition = builder.pastPreposition;
+        this.toPreposition = builder.toPreposition;
+        this.am = builder.am;
+        this.pm = builder.pm;
+    }
+
+    /**
+     * Creates a builder of a new vocabulary.
+     *
+     * @param locale the locale of the language variant
+     * @return the builder
+     * @throws IllegalArgumentException if locale is null
+     */
+    public static Builder builder(Locale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("Locale cannot be null");
+        }
+        return new Builder(locale);
+    }
+
+    @Override
+    public Locale locale() {
+        return locale;
+    }
+
+    @Override
+    public String hourWord(int hour) {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("Hour must be between 0-23, got: " + hour);
+        }
+
+        String hourWord = hourWords[hour % HOURS_PER_PERIOD];
+        if (hourWord == null) {
+            throw new IllegalArgumentException("Hour " + hour + " not supported in vocabulary");
+        }
+        return hourWord;
+    }
+
+    @Override
+    public String minuteWord(int minute) {
+        String minuteWord = minute >= 0 && minute < MINUTES_PER_HOUR ? minuteWords[minute] : null;
+        if (minuteWord == null) {
+            throw new IllegalArgumentException("Minute: " + minute + " not supported in vocabulary");
+        }
+        return minuteWord;
+    }
+
+    @Override
+    public String period(int hour) {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("Invalid hour: " + hour);
+        }
+
+        return hour < HOURS_PER_PERIOD ? am : pm;
+    }
+
+    @Override
+    public String noon() {
+        return noon;
+    }
+
+    @Override
+    public String midnight() {
+        return midnight;
+    }
+
+    @Override
+    public String exactHourSuffix() {
+        return exactHourSuffix;
+    }
+
+    @Override
+    public String pastPreposition() {
+        return pastPreposition;
+    }
+
+    @Override
+    public String toPreposition() {
+        return toPreposition;
+    }
+
+    /**
+     * Builder collecting the words of a vocabulary. Hours and minutes without a word are rejected at lookup,
+     * the other words are required by {@link #build()}.
+     */
+    public static final class Builder {
+
+        private final Locale locale;
+        private final String[] hourWords = new String[HOURS_PER_PERIOD];
+        private final String[] minuteWords = new String[MINUTES_PER_HOUR];
+        private String noon;
+        private String midnight;
+        private String exactHourSuffix;
+        private String pastPreposition;
+        private String toPreposition;
+        private String am;
+        private String pm;
+
+        private Builder(Locale locale) {
+            this.locale = locale;
+        }
+
+        /**
+         * Sets the word of an hour in 12-hour format.
+         *
+         * @param hour the hour (1-11), 0 and 12 being noon and midnight
+         * @param word the word for the hour
+         * @return this builder
+         * @throws IllegalArgumentException if word is null or hour is not between 1 and 11
+         */
+        public Builder hourWord(int hour, String word) {
+            if (hour < 1 || hour >= HOURS_PER_PERIOD) {
+                throw new IllegalArgumentException("Hour must be between 1 and 11, got: " + hour);
+            }
+            hourWords[hour] = requireWord(word, "Hour word");
+            return this;
+        }
+
+        /**
+         * Sets the word of a minute.
+         *
+         * @param minute the minute (1-59)
+         * @param word   the word for the minute
+         * @return this builder
+         * @throws IllegalArgumentException if word is null or minute is not between 1 and 59
+         */
+        public Builder minuteWord(int minute, String word) {
+            if (minute < 1 || minute >= MINUTES_PER_HOUR) {
+                throw new IllegalArgumentException("Minute must be between 1 and 59, got: " + minute);
+            }
+            minuteWords[minute] = requireWord(word, "Minute word");
+            return this;
+        }
+
+        /**
+         * Sets the word for noon.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if word is null
+         */
+        public Builder noon(String word) {
+            this.noon = requireWord(word, "Noon");
+            return this;
+        }
+
+        /**
+         * Sets the word for midnight.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if word is null
+         */
+        public Builder midnight(String word) {
+            this.midnight = requireWord(word, "Midnight");
+            return this;
+        }
+
+        /**
+         * Sets the suffix used for exact hours.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if word is null
+         */
+        public Builder exactHourSuffix(String word) {
+            this.exactHourSuffix = requireWord(word, "Exact hour suffix");
+            return this;
+        }
+
+        /**
+         * Sets the preposition used for times in the "past" format.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if word is null
+         */
+        public Builder pastPreposition(String word) {
+            this.pastPreposition = requireWord(word, "Past preposition");
+            return this;
+        }
+
+        /**
+         * Sets the preposition used for times in the "to" format.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if word is null
+         */
+        public Builder toPreposition(String word) {
+            this.toPreposition = requireWord(word, "To preposition");
+            return this;
+        }
+
+        /**
+         * Sets the period designations.
+         *
+         * @param am the designation of hours 0-11
+         * @param pm the designation of hours 12-23
+         * @return this builder
+         * @throws IllegalArgumentException if any designation is null
+         */
+        public Builder periods(String am, String pm) {
+            this.am = requireWord(am, "AM designation");
+            this.pm = requireWord(pm, "PM designation");
+            return this;
+        }
+
+        /**
+         * Compiles the words into a vocabulary.
+         *
+         * @return the new vocabulary
+         * @throws IllegalStateException if noon, midnight, the exact hour suffix, a preposition
+         *                               or the periods are not set
+         */
+        public CompiledTimeVocabulary build() {
+            if (noon == null || midnight == null || exactHourSuffix == null
+                    || pastPreposition == null || toPreposition == null || am == null) {
+                throw new IllegalStateException("Vocabulary of " + locale.toLanguageTag()
+                        + " needs noon, midnight, exact hour suffix, prepositions and periods");
+            }
+            return new CompiledTimeVocabulary(this);
+        }
+
+        private static String requireWord(String word, String name) {
+            if (word == null) {
+                throw new IllegalArgumentException(name + " cannot be null");
+            }
+            return word;
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package pl.umanski.vocabulary;
+
+/**
+ * English cardinal number words from one to fifty nine, written as in the minute words,
+ * e.g. {@code "twenty one"}.
+ */
+final class EnglishNumbers {
+
+    private static final String[] ONES = {
+            null, "one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten",
+            "eleven", "twelve", "thirteen", "fourteen", "fifteen", "sixteen", "seventeen", "eighteen", "nineteen"
+    };
+
+    private static final String[] TENS = {null, null, "twenty", "thirty", "forty", "fifty"};
+
+    private static final String[] WORDS = new String[60];
+
+    static {
+        for (int number = 1; number < WORDS.length; number++) {
+            if (number < ONES.length) {
+                WORDS[number] = ONES[number];
+            } else if (number % 10 == 0) {
+                WORDS[number] = TENS[number / 10];
+            } else {
+                WORDS[number] = TENS[number / 10] + " " + ONES[number % 10];
+            }
+        }
+    }
+
+    private EnglishNumbers() {
+    }
+
+    /**
+     * Retrieves the word for a number.
+     *
+     * @param number the number (1-59)
+     * @return the English word for the number
+     * @throws IllegalArgumentException if number is not between 1 and 59
+     */
+    static String word(int number) {
+        if (number < 1 || number >= WORDS.length) {
+            throw new IllegalArgumentException("Number must be between 1 and 59, got: " + number);
+        }
+        return WORDS[number];
+    }
+
+}
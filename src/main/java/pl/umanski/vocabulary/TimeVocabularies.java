@@ -0,0 +1,96 @@
+package pl.umanski.vocabulary;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Looks up the {@link TimeVocabulary} of a locale among the {@link TimeVocabularyProvider} services.
+ * Providers are discovered once, on the first lookup, and each vocabulary is compiled on the first lookup
+ * of its locale, so a process pays only for the vocabularies it uses. When several providers declare
+ * the same locale, the first one found on the class path is used.
+ */
+public final class TimeVocabularies {
+
+    private static final ConcurrentMap<Locale, TimeVocabulary> LOADED = new ConcurrentHashMap<>();
+
+    private TimeVocabularies() {
+    }
+
+    /**
+     * Returns the British vocabulary, used when no locale is requested.
+     */
+    public static TimeVocabulary defaultVocabulary() {
+        return BritishTimeVocabulary.vocabulary();
+    }
+
+    /**
+     * Returns the vocabulary of a locale, compiling it on first use.
+     *
+     * @param locale the locale, such as {@link Locale#UK} or {@link Locale#US}
+     * @return the vocabulary
+     * @throws IllegalArgumentException if locale is null or no provider declares it
+     * @throws IllegalStateException    if the provider loads no vocabulary or one of another locale
+     */
+    public static TimeVocabulary forLocale(Locale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("Locale cannot be null");
+        }
+
+        TimeVocabulary vocabulary = LOADED.get(locale);
+        if (vocabulary != null) {
+            return vocabulary;
+        }
+        TimeVocabularyProvider provider = Providers.BY_LOCALE.get(locale);
+        if (provider == null) {
+            throw new IllegalArgumentException("No time vocabulary for locale: " + locale.toLanguageTag());
+        }
+        return LOADED.computeIfAbsent(locale, key -> load(provider));
+    }
+
+    /**
+     * Returns the locales of all discovered providers, without compiling their vocabularies.
+     */
+    public static Set<Locale> availableLocales() {
+        return Providers.BY_LOCALE.keySet();
+    }
+
+    /**
+     * Checks if the vocabulary of a locale has already been compiled.
+     */
+    static boolean isLoaded(Locale locale) {
+        return LOADED.containsKey(locale);
+    }
+
+    private static TimeVocabulary load(TimeVocabularyProvider provider) {
+        TimeVocabulary vocabulary = provider.load();
+        if (vocabulary == null || !provider.locale().equals(vocabulary.locale())) {
+            throw new IllegalStateException(provider.getClass().getName() + " did not load a vocabulary of "
+                    + provider.locale().toLanguageTag());
+        }
+        return vocabulary;
+    }
+
+    /**
+     * Holder of the discovered providers, initialized on the first lookup.
+     */
+    private static final class Providers {
+
+        static final Map<Locale, TimeVocabularyProvider> BY_LOCALE = discover();
+
+        private static Map<Locale, TimeVocabularyProvider> discover() {
+            Map<Locale, TimeVocabularyProvider> providers = new LinkedHashMap<>();
+            for (TimeVocabularyProvider provider : ServiceLoader.load(TimeVocabularyProvider.class)) {
+                providers.putIfAbsent(provider.locale(), provider);
+            }
+            return Collections.unmodifiableMap(providers);
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package pl.umanski.vocabulary;
+
+import java.util.Locale;
+
+/**
+ * Words from which the formatting strategies assemble spoken times in one language variant.
+ * Instances are obtained from {@link TimeVocabularies}, which loads them through {@link TimeVocabularyProvider}.
+ */
+public interface TimeVocabulary {
+
+    /**
+     * Returns the locale of the language variant of this vocabulary.
+     */
+    Locale locale();
+
+    /**
+     * Retrieves the word for a given hour converted to 12-hour format.
+     *
+     * @param hour the hour value in 24-hour format (0-23)
+     * @return the word for the hour in 12-hour format
+     * @throws IllegalArgumentException if the hour is invalid or not supported
+     */
+    String hourWord(int hour);
+
+    /**
+     * Retrieves the word for a minute used to describe time.
+     *
+     * @param minute the minute value
+     * @return the word for the minute
+     * @throws IllegalArgumentException if the minute is invalid or not supported
+     */
+    String minuteWord(int minute);
+
+    /**
+     * Determines the period designation for a given hour in 24-hour format.
+     *
+     * @param hour the hour value (0-23)
+     * @return the morning designation for hours 0-11, the afternoon designation for hours 12-23
+     * @throws IllegalArgumentException if the hour is invalid
+     */
+    String period(int hour);
+
+    /**
+     * Returns the word for noon.
+     */
+    String noon();
+
+    /**
+     * Returns the word for midnight.
+     */
+    String midnight();
+
+    /**
+     * Returns the suffix used for exact hours.
+     */
+    String exactHourSuffix();
+
+    /**
+     * Returns the preposition used for times in the "past" format.
+     */
+    String pastPreposition();
+
+    /**
+     * Returns the preposition used for times in the "to" format.
+     */
+    String toPreposition();
+
+    /**
+     * Retrieves the cardinal word for a number of minutes or seconds, never a fraction such as "quarter".
+     * The default implementation returns English words, e.g. {@code "twenty one"}.
+     *
+     * @param number the number (1-59)
+     * @return the word for the number
+     * @throws IllegalArgumentException if the number is not between 1 and 59
+     */
+    default String numberWord(int number) {
+        return EnglishNumbers.word(number);
+    }
+
+    /**
+     * Returns the unit following a number of minutes. The default implementation returns English words.
+     *
+     * @param count the number of minutes
+     * @return {@code "minute"} for one minute, {@code "minutes"} otherwise
+     */
+    default String minuteUnit(int count) {
+        return count == 1 ? "minute" : "minutes";
+    }
+
+    /**
+     * Returns the unit following a number of seconds. The default implementation returns English words.
+     *
+     * @param count the number of seconds
+     * @return {@code "second"} for one second, {@code "seconds"} otherwise
+     */
+    default String secondUnit(int count) {
+        return count == 1 ? "second" : "seconds";
+    }
+
+    /**
+     * Returns the conjunction joining a number of minutes and a number of seconds.
+     * The default implementation returns {@code "and"}.
+     */
+    default String unitConjunction() {
+        return "and";
+    }
+
+    /**
+     * Returns the word for an hour as read from a 12-hour clock face, which is {@link #hourWord(int)}
+     * for regular hours and the number twelve for noon and midnight, as in "twelve oh five".
+     *
+     * @param hour the hour value in 24-hour format (0-23)
+     * @return the word for the hour in 12-hour format
+     * @throws IllegalArgumentException if the hour is invalid or not supported
+     */
+    default String clockHourWord(int hour) {
+        return hour == 0 || hour == 12 ? numberWord(12) : hourWord(hour);
+    }
+
+    /**
+     * Returns the word spoken for a leading zero digit, as in "four oh five".
+     * The default implementation returns {@code "oh"}.
+     */
+    default String leadingZero() {
+        return "oh";
+    }
+
+    /**
+     * Returns the word for hour zero in 24-hour times, as in "zero hundred".
+     * The default implementation returns {@code "zero"}.
+     */
+    default String zeroHour() {
+        return "zero";
+    }
+
+    /**
+     * Returns the word following an exact hour in 24-hour times, as in "sixteen hundred".
+     * The default implementation returns {@code "hundred"}.
+     */
+    default String hundred() {
+        return "hundred";
+    }
+
+}
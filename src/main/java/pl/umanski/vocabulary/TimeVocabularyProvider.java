@@ -0,0 +1,24 @@
+package pl.umanski.vocabulary;
+
+import java.util.Locale;
+
+/**
+ * Service providing the {@link TimeVocabulary} of one language variant, discovered with {@link java.util.ServiceLoader}.
+ * Implementations are listed in {@code META-INF/services/pl.umanski.vocabulary.TimeVocabularyProvider}
+ * and must be cheap to instantiate: the vocabulary itself is only compiled by {@link #load()}.
+ */
+public interface TimeVocabularyProvider {
+
+    /**
+     * Returns the locale of the provided vocabulary.
+     */
+    Locale locale();
+
+    /**
+     * Compiles the provided vocabulary. Called at most once per provider by {@link TimeVocabularies}.
+     *
+     * @return the vocabulary
+     */
+    TimeVocabulary load();
+
+}
@@ -1,11 +1,16 @@
 package pl.umanski;
 
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -16,19 +21,27 @@ class MainTest {
 
     private final InputStream systemIn = System.in;
     private final PrintStream systemOut = System.out;
+    private final PrintStream systemErr = System.err;
 
     private ByteArrayOutputStream testOut;
+    private ByteArrayOutputStream testErr;
 
     @BeforeEach
     void setUpOutput() {
         testOut = new ByteArrayOutputStream();
+        testErr = new ByteArrayOutputStream();
         System.setOut(new PrintStream(testOut));
+        System.setErr(new PrintStream(testErr));
+        // Tests run without a console, which would otherwise select pipe mode instead of interactive mode
+        System.setProperty(Main.PIPE_PROPERTY, "false");
     }
 
     @AfterEach
     void restoreSystemInputOutput() {
+        System.clearProperty(Main.PIPE_PROPERTY);
         System.setIn(systemIn);
         System.setOut(systemOut);
+        System.setErr(systemErr);
     }
 
     private void provideInput(String data) {
@@ -40,6 +53,10 @@ class MainTest {
         return testOut.toString();
     }
 
+    private String getErrorOutput() {
+        return testErr.toString();
+    }
+
     @Nested
     @DisplayName("Interactive CLI Mode Tests")
     class InteractiveModeTests {
@@ -295,4 +312,223 @@ class MainTest {
 
     }
 
+    @Nested
+    @DisplayName("Batch File Mode Tests")
+    class BatchFileModeTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should convert input file into output file")
+        void shouldConvertInputFileIntoOutputFile() throws IOException {
+            Path input = Files.writeString(directory.resolve("input.txt"), "10:30\ninvalid\n");
+            Path output = directory.resolve("output.txt");
+
+            Main.main(new String[]{"--input", input.toString(), "--output", output.toString()});
+
+            assertEquals(List.of("Spoken time: half past ten AM", "Error: line 2: Invalid time format"),
+                    Files.readAllLines(output));
+            assertTrue(getOutput().contains("Processed 2 lines, 1 errors"));
+        }
+
+        @Test
+        @DisplayName("Should convert input file into output file using several threads")
+        void shouldConvertInputFileIntoOutputFileUsingSeveralThreads() throws IOException {
+            Path input = Files.writeString(directory.resolve("input.txt"), "invalid\n12:00\n");
+            Path output = directory.resolve("output.txt");
+
+            Main.main(new String[]{"--input", input.toString(), "--output", output.toString(), "--threads", "4"});
+
+            assertEquals(List.of("Error: line 1: Invalid time format", "Spoken time: noon"),
+                    Files.readAllLines(output));
+            assertTrue(getOutput().contains("Processed 2 lines, 1 errors"));
+        }
+
+        @Test
+        @DisplayName("Should print error for invalid number of threads")
+        void shouldPrintErrorForInvalidNumberOfThreads() {
+            Main.main(new String[]{"--threads", "many"});
+
+            assertTrue(getOutput().contains("Error: Invalid value for option --threads: many"));
+        }
+
+        @Test
+        @DisplayName("Should print error when output option is missing")
+        void shouldPrintErrorWhenOutputOptionIsMissing() {
+            Main.main(new String[]{"--input", directory.resolve("input.txt").toString()});
+
+            String output = getOutput();
+
+            assertTrue(output.contains("Error: Both --input and --output are required"));
+            assertTrue(output.contains("Usage:"));
+        }
+
+        @Test
+        @DisplayName("Should print error for unknown option")
+        void shouldPrintErrorForUnknownOption() {
+            Main.main(new String[]{"--unknown"});
+
+            assertTrue(getOutput().contains("Error: Unknown option: --unknown"));
+        }
+
+        @Test
+        @DisplayName("Should print error when option value is missing")
+        void shouldPrintErrorWhenOptionValueIsMissing() {
+            Main.main(new String[]{"--input"});
+
+            assertTrue(getOutput().contains("Error: Missing value for option: --input"));
+        }
+
+        @Test
+        @DisplayName("Should print error when input file does not exist")
+        void shouldPrintErrorWhenInputFileDoesNotExist() {
+            Main.main(new String[]{
+                    "--input", directory.resolve("missing.txt").toString(),
+                    "--output", directory.resolve("output.txt").toString()
+            });
+
+            assertTrue(getOutput().contains("Error: Cannot convert file:"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Pipe Mode Tests")
+    class PipeModeTests {
+
+        @Test
+        @DisplayName("Should convert piped input without banner or prompts")
+        void shouldConvertPipedInputWithoutBannerOrPrompts() {
+            provideInput("10:30\n12:00\n");
+
+            Main.main(new String[]{"--pipe"});
+
+            assertEquals("Spoken time: half past ten AM\nSpoken time: noon\n", getOutput());
+            assertTrue(getErrorOutput().contains("Processed 2 lines, 0 errors"));
+        }
+
+        @Test
+        @DisplayName("Should report errors on standard error only")
+        void shouldReportErrorsOnStandardErrorOnly() {
+            provideInput("invalid\n\n7:30\n");
+
+            Main.main(new String[]{"--pipe", "--flush-lines", "1"});
+
+            assertEquals("Spoken time: half past seven AM\n", getOutput());
+            String errors = getErrorOutput();
+            assertTrue(errors.contains("Error: line 1: Invalid time format"));
+            assertTrue(errors.contains("Error: line 2: Time string cannot be empty"));
+            assertTrue(errors.contains("Processed 3 lines, 2 errors"));
+        }
+
+        @Test
+        @DisplayName("Should select pipe mode without arguments when enabled by property")
+        void shouldSelectPipeModeWithoutArgumentsWhenEnabledByProperty() {
+            System.setProperty(Main.PIPE_PROPERTY, "true");
+            provideInput("7:30\nquit\n8:00\n");
+
+            Main.main(new String[]{});
+
+            assertEquals("Spoken time: half past seven AM\n", getOutput());
+        }
+
+        @Test
+        @DisplayName("Should print error for invalid flush interval")
+        void shouldPrintErrorForInvalidFlushInterval() {
+            Main.main(new String[]{"--pipe", "--flush-lines", "often"});
+
+            assertEquals("", getOutput());
+            assertTrue(getErrorOutput().contains("Error: Invalid value for option --flush-lines: often"));
+            assertTrue(getErrorOutput().contains("Usage: --pipe"));
+        }
+
+        @Test
+        @DisplayName("Should print error for unknown pipe option")
+        void shouldPrintErrorForUnknownPipeOption() {
+            Main.main(new String[]{"--pipe", "--threads", "4"});
+
+            assertTrue(getErrorOutput().contains("Error: Unknown option: --threads"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Annotate Mode Tests")
+    class AnnotateModeTests {
+
+        @Test
+        @DisplayName("Should add spoken times after the times inside the text")
+        void shouldAddSpokenTimesAfterTheTimesInsideTheText() {
+            provideInput("job started at 7:30, finished at 12:00\nno times here\n");
+
+            Main.main(new String[]{"--annotate"});
+
+            assertEquals("job started at 7:30 (half past seven AM), finished at 12:00 (noon)\nno times here\n",
+                    getOutput());
+        }
+
+        @Test
+        @DisplayName("Should replace the times with --replace")
+        void shouldReplaceTheTimesWithReplace() {
+            provideInput("meet at 16:45\n");
+
+            Main.main(new String[]{"--annotate", "--replace"});
+
+            assertEquals("meet at quarter to five PM\n", getOutput());
+        }
+
+        @Test
+        @DisplayName("Should print error for unknown annotate option")
+        void shouldPrintErrorForUnknownAnnotateOption() {
+            Main.main(new String[]{"--annotate", "--pipe"});
+
+            assertEquals("", getOutput());
+            assertTrue(getErrorOutput().contains("Error: Unknown option: --pipe"));
+            assertTrue(getErrorOutput().contains("Usage: --annotate [--replace]"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Server Mode Tests")
+    class ServerModeTests {
+
+        @Test
+        @DisplayName("Should print error for unknown server option")
+        void shouldPrintErrorForUnknownServerOption() {
+            Main.main(new String[]{"--server", "--threads", "4"});
+
+            String output = getOutput();
+
+            assertTrue(output.contains("Error: Unknown option: --threads"));
+            assertTrue(output.contains("Usage: --server"));
+        }
+
+        @Test
+        @DisplayName("Should print error for invalid port")
+        void shouldPrintErrorForInvalidPort() {
+            Main.main(new String[]{"--server", "--port", "http"});
+
+            assertTrue(getOutput().contains("Error: Invalid value for option --port: http"));
+        }
+
+        @Test
+        @DisplayName("Should print error for port out of range")
+        void shouldPrintErrorForPortOutOfRange() {
+            Main.main(new String[]{"--server", "--port", "70000"});
+
+            assertTrue(getOutput().contains("Error: Port must be between 0 and 65535, got: 70000"));
+        }
+
+        @Test
+        @DisplayName("Should print error when server option value is missing")
+        void shouldPrintErrorWhenServerOptionValueIsMissing() {
+            Main.main(new String[]{"--server", "--max-request-bytes"});
+
+            assertTrue(getOutput().contains("Error: Missing value for option: --max-request-bytes"));
+        }
+
+    }
+
 }
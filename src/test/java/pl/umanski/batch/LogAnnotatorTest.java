@@ -0,0 +1,179 @@
+package pl.umanski.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.batch.LogAnnotator.Mode;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Log Annotator Test")
+class LogAnnotatorTest {
+
+    private static final SpokenTimeConverter CONVERTER = new PrecomputedSpokenTimeConverter();
+
+    private final LogAnnotator annotator = new LogAnnotator(CONVERTER);
+
+    /**
+     * Returns a stream delivering the text in reads of at most the given number of bytes.
+     */
+    private static InputStream trickle(byte[] text, int chunk) {
+        return new ByteArrayInputStream(text) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, chunk));
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("Finding times")
+    class FindingTimes {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "7:30|7:30 (half past seven AM)",
+                "started at 07:30 after 2 retries|started at 07:30 (half past seven AM) after 2 retries",
+                "at 10:30.|at 10:30 (half past ten AM).",
+                "(9:05)|(9:05 (five past nine AM))",
+                "from 12:00-13:15|from 12:00 (noon)-13:15 (quarter past one PM)",
+                "tab\t0:00\tend|tab\t0:00 (midnight)\tend",
+                "23:59,0:01|23:59 (one to midnight),0:01 (one past midnight)",
+        })
+        @DisplayName("Should annotate times standing on their own")
+        void shouldAnnotateTimesStandingOnTheirOwn(String text, String expected) {
+            assertEquals(expected, annotator.annotate(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "12:34:56",
+                "1:2:30",
+                "24:00",
+                "7:60",
+                "7:3",
+                "123:45",
+                "T10:15",
+                "10:15Z",
+                "v1.10:30",
+                "10:30.5",
+                "id_7:30",
+                "7:30_x",
+                "no times here",
+                ":",
+                "",
+        })
+        @DisplayName("Should leave other values alone")
+        void shouldLeaveOtherValuesAlone(String text) {
+            assertEquals(text, annotator.annotate(text));
+        }
+
+        @Test
+        @DisplayName("Should treat non-ASCII letters as part of a word")
+        void shouldTreatNonAsciiLettersAsPartOfAWord() {
+            assertEquals("zé7:30 à 8:15 (quarter past eight AM) — ok",
+                    annotator.annotate("zé7:30 à 8:15 — ok"));
+        }
+
+        @Test
+        @DisplayName("Should replace times with their spoken form in replace mode")
+        void shouldReplaceTimesWithTheirSpokenFormInReplaceMode() {
+            LogAnnotator replacing = new LogAnnotator(CONVERTER, Mode.REPLACE);
+
+            assertEquals("meet at quarter to five PM, not at 16:45:00",
+                    replacing.annotate("meet at 16:45, not at 16:45:00"));
+            assertEquals("at half past seven AM", replacing.annotate("at 7:30"));
+            assertEquals(Mode.REPLACE, replacing.mode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("Should annotate a text larger than the buffers")
+        void shouldAnnotateATextLargerThanTheBuffers() throws IOException {
+            StringBuilder text = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            int lines = 0;
+            while (text.length() < 4 * LogAnnotator.BUFFER_SIZE) {
+                Time time = Time.ofMinuteOfDay(lines % Time.MINUTES_PER_DAY);
+                String timeText = time.hour() + ":" + String.format("%02d", time.minute());
+                text.append("INFO [worker-").append(lines).append("] run at ").append(timeText).append(" done\n");
+                expected.append("INFO [worker-").append(lines).append("] run at ").append(timeText)
+                        .append(" (").append(CONVERTER.convert(time)).append(") done\n");
+                lines++;
+            }
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            long found = annotator.annotate(
+                    new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), output);
+
+            assertEquals(lines, found);
+            assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "ANNOTATE|a 7:30 (half past seven AM) b 12:34:56 c 23:59 (one to midnight).",
+                "REPLACE|a half past seven AM b 12:34:56 c one to midnight.",
+        })
+        @DisplayName("Should find times split across reads in every mode")
+        void shouldFindTimesSplitAcrossReadsInEveryMode(Mode mode, String expected) throws IOException {
+            byte[] text = "a 7:30 b 12:34:56 c 23:59.".getBytes(StandardCharsets.UTF_8);
+            for (int chunk = 1; chunk <= text.length; chunk++) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                new LogAnnotator(CONVERTER, mode).annotate(trickle(text, chunk), output);
+
+                assertEquals(expected, output.toString(StandardCharsets.UTF_8), "chunk " + chunk);
+            }
+        }
+
+        @Test
+        @DisplayName("Should be reusable for several streams")
+        void shouldBeReusableForSeveralStreams() {
+            assertEquals("7:30 (half past seven AM)", annotator.annotate("7:30"));
+            assertEquals("x", annotator.annotate("x"));
+            assertEquals("8:00 (eight o'clock AM)", annotator.annotate("8:00"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Invalid arguments")
+    class InvalidArguments {
+
+        @Test
+        @DisplayName("Should throw exception when converter or mode is null")
+        void shouldThrowExceptionWhenConverterOrModeIsNull() {
+            assertThrows(IllegalArgumentException.class, () -> new LogAnnotator(null));
+            assertThrows(IllegalArgumentException.class, () -> new LogAnnotator(CONVERTER, null));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when text or streams are null")
+        void shouldThrowExceptionWhenTextOrStreamsAreNull() {
+            assertThrows(IllegalArgumentException.class, () -> annotator.annotate((String) null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> annotator.annotate(null, new ByteArrayOutputStream()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> annotator.annotate(new ByteArrayInputStream(new byte[0]), null));
+        }
+
+    }
+
+}
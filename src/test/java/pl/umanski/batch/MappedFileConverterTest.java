@@ -0,0 +1,106 @@
+package pl.umanski.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mapped File Converter Test")
+class MappedFileConverterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should convert every line of the input file")
+    void shouldConvertEveryLineOfTheInputFile() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "7:15\n12:00\r\n  23:59  \n");
+        Path output = directory.resolve("output.txt");
+
+        BatchSummary summary = new MappedFileConverter(new PrecomputedSpokenTimeConverter()).convert(input, output);
+
+        assertEquals(new BatchSummary(3, 0), summary);
+        assertEquals(List.of(
+                "Spoken time: quarter past seven AM",
+                "Spoken time: noon",
+                "Spoken time: one to midnight"
+        ), Files.readAllLines(output));
+    }
+
+    @Test
+    @DisplayName("Should write one error line per invalid input line")
+    void shouldWriteOneErrorLinePerInvalidInputLine() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "test\n\n25:00\n10:30\n7:60 with more text");
+        Path output = directory.resolve("output.txt");
+
+        BatchSummary summary = new MappedFileConverter(new BritishSpokenTimeConverter()).convert(input, output);
+
+        assertEquals(new BatchSummary(5, 4), summary);
+        assertEquals(List.of(
+                "Error: line 1: Invalid time format",
+                "Error: line 2: Time string cannot be empty",
+                "Error: line 3: Hour must be between 0 and 23, got: 25",
+                "Spoken time: half past ten AM",
+                "Error: line 5: Invalid time format"
+        ), Files.readAllLines(output));
+    }
+
+    @Test
+    @DisplayName("Should create empty output for empty input")
+    void shouldCreateEmptyOutputForEmptyInput() throws IOException {
+        Path input = Files.createFile(directory.resolve("input.txt"));
+        Path output = directory.resolve("output.txt");
+
+        BatchSummary summary = new MappedFileConverter(new PrecomputedSpokenTimeConverter()).convert(input, output);
+
+        assertEquals(new BatchSummary(0, 0), summary);
+        assertEquals(0, Files.size(output));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {6, 7, 9, 10, 64})
+    @DisplayName("Should handle lines crossing mapped window boundaries")
+    void shouldHandleLinesCrossingMappedWindowBoundaries(long windowSize) throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "1:00\n2:30\nabcdefgh\n23:45\n");
+        Path output = directory.resolve("output.txt");
+
+        BatchSummary summary = new MappedFileConverter(new PrecomputedSpokenTimeConverter(), windowSize)
+                .convert(input, output);
+
+        assertEquals(new BatchSummary(4, 1), summary);
+        assertEquals(List.of(
+                "Spoken time: one o'clock AM",
+                "Spoken time: half past two AM",
+                "Error: line 3: Invalid time format",
+                "Spoken time: quarter to midnight"
+        ), Files.readAllLines(output));
+    }
+
+    @Test
+    @DisplayName("Should overwrite existing output file")
+    void shouldOverwriteExistingOutputFile() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "12:00\n");
+        Path output = Files.writeString(directory.resolve("output.txt"), "previous content that is longer\n");
+
+        new MappedFileConverter(new PrecomputedSpokenTimeConverter()).convert(input, output);
+
+        assertEquals("Spoken time: noon\n", Files.readString(output));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when converter is null")
+    void shouldThrowExceptionWhenConverterIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileConverter(null));
+    }
+
+}
@@ -0,0 +1,125 @@
+package pl.umanski.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parallel File Converter Test")
+class ParallelFileConverterTest {
+
+    private final SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should convert lines in input order with line numbers in errors")
+    void shouldConvertLinesInInputOrderWithLineNumbersInErrors() throws IOException {
+        Path input = Files.writeString(directory.resolve("input.txt"), "7:15\nbad\n\n23:59\r\n24:00");
+        Path output = directory.resolve("output.txt");
+
+        BatchSummary summary = new ParallelFileConverter(converter, 4, 3).convert(input, output);
+
+        assertEquals(new BatchSummary(5, 3), summary);
+        assertEquals(List.of(
+                "Spoken time: quarter past seven AM",
+                "Error: line 2: Invalid time format",
+                "Error: line 3: Time string cannot be empty",
+                "Spoken time: one to midnight",
+                "Error: line 5: Hour must be between 0 and 23, got: 24"
+        ), Files.readAllLines(output));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 1",
+            "2, 5",
+            "3, 64",
+            "8, 4096",
+            "4, 524288"
+    })
+    @DisplayName("Should produce the same output as sequential conversion")
+    void shouldProduceTheSameOutputAsSequentialConversion(int threads, long chunkSize) throws IOException {
+        Path input = directory.resolve("input.txt");
+        Files.writeString(input, randomLines(5000));
+        Path expected = directory.resolve("expected.txt");
+        Path actual = directory.resolve("actual.txt");
+
+        BatchSummary expectedSummary = new MappedFileConverter(converter).convert(input, expected);
+        BatchSummary actualSummary = new ParallelFileConverter(converter, threads, chunkSize).convert(input, actual);
+
+        assertEquals(expectedSummary, actualSummary);
+        assertEquals(Files.readString(expected), Files.readString(actual));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 16",
+            "2, 4096",
+            "4, 524288"
+    })
+    @DisplayName("Should parse lines padded past the spill of a chunk like sequential conversion")
+    void shouldParseLinesPaddedPastTheSpillOfAChunkLikeSequentialConversion(int threads, long chunkSize)
+            throws IOException {
+        String padding = " ".repeat(ParallelFileConverter.MAX_LINE_SPILL * 2);
+        Path input = Files.writeString(directory.resolve("input.txt"),
+                "7:15\n" + padding + "10:30" + padding + "\nbad" + padding + "\n23:59\n" + padding + "6:00");
+        Path expected = directory.resolve("expected.txt");
+        Path actual = directory.resolve("actual.txt");
+
+        BatchSummary expectedSummary = new MappedFileConverter(converter).convert(input, expected);
+        BatchSummary actualSummary = new ParallelFileConverter(converter, threads, chunkSize).convert(input, actual);
+
+        assertEquals(new BatchSummary(5, 1), actualSummary);
+        assertEquals(expectedSummary, actualSummary);
+        assertEquals(Files.readString(expected), Files.readString(actual));
+        assertEquals("Spoken time: half past ten AM", Files.readAllLines(actual).get(1));
+    }
+
+    @Test
+    @DisplayName("Should create empty output for empty input")
+    void shouldCreateEmptyOutputForEmptyInput() throws IOException {
+        Path input = Files.createFile(directory.resolve("input.txt"));
+        Path output = directory.resolve("output.txt");
+
+        BatchSummary summary = new ParallelFileConverter(converter, 2).convert(input, output);
+
+        assertEquals(new BatchSummary(0, 0), summary);
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid arguments")
+    void shouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelFileConverter(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelFileConverter(converter, 0));
+    }
+
+    private static String randomLines(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] invalid = {"", "abc", "25:00", "7:60", "  ", "12-30"};
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(10) == 0) {
+                lines.append(invalid[random.nextInt(invalid.length)]);
+            } else {
+                lines.append(random.nextInt(24)).append(':').append(10 + random.nextInt(50));
+            }
+            lines.append(random.nextBoolean() ? "\n" : "\r\n");
+        }
+        return lines.toString();
+    }
+
+}
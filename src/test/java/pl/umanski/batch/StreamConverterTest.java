@@ -0,0 +1,183 @@
+package pl.umanski.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.parser.TimeParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stream Converter Test")
+class StreamConverterTest {
+
+    private static final SpokenTimeConverter CONVERTER = new PrecomputedSpokenTimeConverter();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+    private BatchSummary convert(StreamConverter converter, String input) throws IOException {
+        return converter.convert(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output,
+                new PrintStream(errors, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write one result line per valid input line")
+    void shouldWriteOneResultLinePerValidInputLine() throws IOException {
+        StreamConverter converter = new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER);
+
+        BatchSummary summary = convert(converter, "7:15\n12:00\r\n  23:59  ");
+
+        assertEquals(new BatchSummary(3, 0), summary);
+        assertEquals("Spoken time: quarter past seven AM\nSpoken time: noon\nSpoken time: one to midnight\n",
+                output.toString(StandardCharsets.UTF_8));
+        assertEquals("Processed 3 lines, 0 errors" + System.lineSeparator(), errors.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should report invalid lines on the error stream")
+    void shouldReportInvalidLinesOnTheErrorStream() throws IOException {
+        StreamConverter converter = new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER);
+
+        BatchSummary summary = convert(converter, "test\n\n25:00\n10:30\n");
+
+        assertEquals(new BatchSummary(4, 3), summary);
+        assertEquals("Spoken time: half past ten AM\n", output.toString(StandardCharsets.UTF_8));
+        assertEquals(String.join(System.lineSeparator(),
+                "Error: line 1: Invalid time format",
+                "Error: line 2: Time string cannot be empty",
+                "Error: line 3: Hour must be between 0 and 23, got: 25",
+                "Processed 4 lines, 3 errors",
+                ""), errors.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should report mostly invalid input in order without flushing the error stream per line")
+    void shouldReportMostlyInvalidInputInOrderWithoutFlushingTheErrorStreamPerLine() throws IOException {
+        CountingOutputStream counting = new CountingOutputStream();
+        StreamConverter converter = new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expectedErrors = new StringBuilder();
+        for (int line = 1; line <= 10_000; line++) {
+            if (line % 10 == 0) {
+                input.append("7:30\n");
+            } else {
+                input.append("x").append(line).append('\n');
+                expectedErrors.append("Error: line ").append(line).append(": Invalid time format")
+                        .append(System.lineSeparator());
+            }
+        }
+        expectedErrors.append("Processed 10000 lines, 9000 errors").append(System.lineSeparator());
+        PrintStream errorStream = new PrintStream(new TeeOutputStream(errors, counting), true, StandardCharsets.UTF_8);
+
+        BatchSummary summary = converter.convert(
+                new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), output, errorStream);
+
+        assertEquals(new BatchSummary(10_000, 9_000), summary);
+        assertEquals(expectedErrors.toString(), errors.toString(StandardCharsets.UTF_8));
+        assertEquals("Spoken time: half past seven AM\n".repeat(1_000), output.toString(StandardCharsets.UTF_8));
+        // One flush per buffer of about 290 KB of errors, instead of one per invalid line
+        assertTrue(counting.flushes < 20, "flushes " + counting.flushes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"quit", "QUIT", "  Quit  "})
+    @DisplayName("Should stop at quit line")
+    void shouldStopAtQuitLine(String quit) throws IOException {
+        StreamConverter converter = new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER);
+
+        BatchSummary summary = convert(converter, "7:30\n" + quit + "\n8:00\n");
+
+        assertEquals(new BatchSummary(1, 0), summary);
+        assertEquals("Spoken time: half past seven AM\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should flush output only at the end by default")
+    void shouldFlushOutputOnlyAtTheEndByDefault() throws IOException {
+        CountingOutputStream counting = new CountingOutputStream();
+        StreamConverter converter = new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER);
+
+        converter.convert(new ByteArrayInputStream("7:30\n".repeat(100).getBytes(StandardCharsets.US_ASCII)),
+                counting, new PrintStream(errors));
+
+        assertEquals(1, counting.flushes);
+    }
+
+    @Test
+    @DisplayName("Should flush output every given number of lines")
+    void shouldFlushOutputEveryGivenNumberOfLines() throws IOException {
+        CountingOutputStream counting = new CountingOutputStream();
+        StreamConverter converter = new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER, 10);
+
+        converter.convert(new ByteArrayInputStream("7:30\n".repeat(100).getBytes(StandardCharsets.US_ASCII)),
+                counting, new PrintStream(errors));
+
+        assertEquals(11, counting.flushes);
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid arguments")
+    void shouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamConverter(null, CONVERTER));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamConverter(TimeParser::tryParseMinuteOfDay, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamConverter(TimeParser::tryParseMinuteOfDay, CONVERTER, -1));
+    }
+
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream first;
+        private final OutputStream second;
+
+        private TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private int flushes;
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+    }
+
+}
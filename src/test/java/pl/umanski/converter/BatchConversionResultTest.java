@@ -0,0 +1,126 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import pl.umanski.model.Time;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Batch Conversion Test")
+class BatchConversionResultTest {
+
+    static Stream<SpokenTimeConverter> converters() {
+        return Stream.of(new BritishSpokenTimeConverter(), new PrecomputedSpokenTimeConverter());
+    }
+
+    @ParameterizedTest
+    @MethodSource("converters")
+    @DisplayName("Should convert every value of a valid batch")
+    void shouldConvertEveryValueOfValidBatch(SpokenTimeConverter converter) {
+        int[] minutesOfDay = {0, 435, 720, 1439};
+        String[] target = new String[4];
+
+        BatchConversionResult result = converter.convertAll(minutesOfDay, target);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(4, result.converted());
+        assertArrayEquals(new String[]{"midnight", "quarter past seven AM", "noon", "one to midnight"}, target);
+    }
+
+    @ParameterizedTest
+    @MethodSource("converters")
+    @DisplayName("Should report invalid positions and leave their slots empty")
+    void shouldReportInvalidPositionsAndLeaveTheirSlotsEmpty(SpokenTimeConverter converter) {
+        int[] minutesOfDay = {-1, 630, 1440, Integer.MIN_VALUE, 45};
+        String[] target = {"a", "b", "c", "d", "e"};
+
+        BatchConversionResult result = converter.convertAll(minutesOfDay, target);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(2, result.converted());
+        assertArrayEquals(new int[]{0, 2, 3}, result.invalidPositions());
+        assertArrayEquals(new String[]{null, "half past ten AM", null, null, "quarter to one AM"}, target);
+    }
+
+    @ParameterizedTest
+    @MethodSource("converters")
+    @DisplayName("Should convert slice into target offset")
+    void shouldConvertSliceIntoTargetOffset(SpokenTimeConverter converter) {
+        int[] minutesOfDay = {9999, 60, 9999, 120};
+        String[] target = new String[5];
+
+        BatchConversionResult result = converter.convertAll(minutesOfDay, 1, 3, target, 2);
+
+        assertEquals(2, result.converted());
+        assertArrayEquals(new int[]{2}, result.invalidPositions());
+        assertArrayEquals(new String[]{null, null, "one o'clock AM", null, "two o'clock AM"}, target);
+    }
+
+    @ParameterizedTest
+    @MethodSource("converters")
+    @DisplayName("Should match single conversion for every minute of the day")
+    void shouldMatchSingleConversionForEveryMinuteOfTheDay(SpokenTimeConverter converter) {
+        int[] minutesOfDay = new int[24 * 60];
+        for (int i = 0; i < minutesOfDay.length; i++) {
+            minutesOfDay[i] = i;
+        }
+        String[] target = new String[minutesOfDay.length];
+
+        converter.convertAll(minutesOfDay, target);
+
+        for (int i = 0; i < minutesOfDay.length; i++) {
+            assertEquals(converter.convert(new Time(i / 60, i % 60)), target[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should copy invalid positions in and out")
+    void shouldCopyInvalidPositionsInAndOut() {
+        int[] positions = {1, 4};
+        BatchConversionResult result = new BatchConversionResult(3, positions);
+
+        positions[0] = 9;
+        result.invalidPositions()[1] = 9;
+
+        assertArrayEquals(new int[]{1, 4}, result.invalidPositions());
+        assertEquals(2, result.invalidCount());
+    }
+
+    @Test
+    @DisplayName("Should compare and print results by their positions")
+    void shouldCompareAndPrintResultsByTheirPositions() {
+        BatchConversionResult result = new BatchConversionResult(3, new int[]{1, 4});
+
+        assertEquals(new BatchConversionResult(3, new int[]{1, 4}), result);
+        assertEquals(new BatchConversionResult(3, new int[]{1, 4}).hashCode(), result.hashCode());
+        assertNotEquals(new BatchConversionResult(3, new int[]{1, 5}), result);
+        assertNotEquals(new BatchConversionResult(2, new int[]{1, 4}), result);
+        assertEquals("BatchConversionResult[converted=3, invalidPositions=[1, 4]]", result.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when invalid positions are null")
+    void shouldThrowExceptionWhenInvalidPositionsAreNull() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchConversionResult(0, null));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for null arrays")
+    void shouldThrowExceptionForNullArrays() {
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convertAll(null, new String[0]));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertAll(new int[0], null));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when target is too short")
+    void shouldThrowExceptionWhenTargetIsTooShort() {
+        SpokenTimeConverter converter = new BritishSpokenTimeConverter();
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convertAll(new int[3], new String[2]));
+    }
+
+}
@@ -0,0 +1,88 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.model.PreciseTime;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.PreciseTimeFormatStrategy;
+import pl.umanski.strategy.SecondsPastStrategy;
+import pl.umanski.strategy.WholeMinuteStrategy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("British Precise Spoken Time Converter Test")
+class BritishPreciseSpokenTimeConverterTest {
+
+    private final PreciseSpokenTimeConverter converter = new BritishPreciseSpokenTimeConverter();
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 7, 20, seven minutes and twenty seconds past four PM",
+            "16, 45, 50, fourteen minutes and ten seconds to five PM",
+            "16, 15, 0, quarter past four PM",
+            "12, 0, 0, noon",
+            "23, 59, 59, one second to midnight",
+    })
+    @DisplayName("Should convert precise times")
+    void shouldConvertPreciseTimes(int hour, int minute, int second, String expected) {
+        PreciseTime time = new PreciseTime(hour, minute, second);
+
+        assertEquals(expected, converter.convert(time));
+        assertEquals(expected, converter.convert(time.secondOfDay()));
+    }
+
+    @Test
+    @DisplayName("Should speak whole minutes as the minute converter does")
+    void shouldSpeakWholeMinutesAsTheMinuteConverterDoes() {
+        SpokenTimeConverter minutes = new BritishSpokenTimeConverter();
+
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            assertEquals(minutes.convert(minuteOfDay), converter.convert(minuteOfDay * 60));
+        }
+    }
+
+    @Test
+    @DisplayName("Should append phrase after existing content")
+    void shouldAppendPhraseAfterExistingContent() {
+        StringBuilder target = new StringBuilder("It is ");
+
+        assertSame(target, converter.convertTo(new PreciseTime(16, 7, 20), target));
+        assertEquals("It is seven minutes and twenty seconds past four PM", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for null arguments")
+    void shouldThrowExceptionForNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> converter.convert((PreciseTime) null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(new PreciseTime(1, 0, 0), null));
+        assertThrows(IllegalArgumentException.class, () -> new BritishPreciseSpokenTimeConverter(null));
+        assertThrows(IllegalArgumentException.class, () -> new BritishPreciseSpokenTimeConverter(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BritishPreciseSpokenTimeConverter(Arrays.asList(new WholeMinuteStrategy(), null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 86400})
+    @DisplayName("Should throw exception for second of day out of range")
+    void shouldThrowExceptionForSecondOfDayOutOfRange(int secondOfDay) {
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(secondOfDay));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when no strategy handles the time")
+    void shouldThrowExceptionWhenNoStrategyHandlesTheTime() {
+        List<PreciseTimeFormatStrategy> strategies = List.of(new WholeMinuteStrategy(), new SecondsPastStrategy());
+        PreciseSpokenTimeConverter partial = new BritishPreciseSpokenTimeConverter(strategies);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> partial.convert(new PreciseTime(16, 45, 50)));
+        assertTrue(exception.getMessage().contains("No strategy handles time"));
+    }
+
+}
@@ -7,8 +7,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import pl.umanski.model.Time;
+import pl.umanski.model.TimeRange;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("British Spoken Time Converter Test")
@@ -27,6 +32,46 @@ class BritishSpokenTimeConverterTest {
         assertThrows(IllegalArgumentException.class, () -> converter.convert(null));
     }
 
+    @Test
+    @DisplayName("Should throw exception when registry is null")
+    void shouldThrowExceptionWhenRegistryIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new BritishSpokenTimeConverter(null));
+    }
+
+    @Test
+    @DisplayName("Should convert minute of day")
+    void shouldConvertMinuteOfDay() {
+        assertEquals("twenty five to eight AM", converter.convert(7 * 60 + 35));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(1440));
+    }
+
+    @Test
+    @DisplayName("Should append spoken time after existing content")
+    void shouldAppendSpokenTimeAfterExistingContent() {
+        StringBuilder target = new StringBuilder("It is ");
+
+        assertSame(target, converter.convertTo(new Time(7, 15), target));
+        assertEquals("It is quarter past seven AM", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should append the same phrase as convert for every minute of the day")
+    void shouldAppendTheSamePhraseAsConvertForEveryMinuteOfTheDay() {
+        StringBuilder target = new StringBuilder();
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            target.setLength(0);
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            assertEquals(converter.convert(time), converter.convertTo(time, target).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw exception when appending null time or to null target")
+    void shouldThrowExceptionWhenAppendingNullTimeOrToNullTarget() {
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(null, new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(new Time(7, 15), null));
+    }
+
     @Nested
     @DisplayName("Exact hour conversion")
     class ExactHourConversion {
@@ -187,4 +232,39 @@ class BritishSpokenTimeConverterTest {
 
     }
 
+    @Nested
+    @DisplayName("Range conversion")
+    class RangeConversion {
+
+        @Test
+        @DisplayName("Should render every time of a range into the reused buffer")
+        void shouldRenderEveryTimeOfARangeIntoTheReusedBuffer() {
+            StringBuilder buffer = new StringBuilder("stale content");
+            List<String> rendered = new ArrayList<>();
+
+            converter.convertRange(Time.range(Time.of(23, 30), Time.of(0, 30), 15), buffer, (time, spoken) -> {
+                assertSame(buffer, spoken);
+                rendered.add(time + " " + spoken);
+            });
+
+            assertEquals(List.of(
+                    "Time[hour=23, minute=30] half past eleven PM",
+                    "Time[hour=23, minute=45] quarter to midnight",
+                    "Time[hour=0, minute=0] midnight",
+                    "Time[hour=0, minute=15] quarter past midnight"), rendered);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when range, buffer or action is null")
+        void shouldThrowExceptionWhenRangeBufferOrActionIsNull() {
+            TimeRange range = Time.range(Time.of(8, 0), Time.of(9, 0), 5);
+            StringBuilder buffer = new StringBuilder();
+
+            assertThrows(IllegalArgumentException.class, () -> converter.convertRange(null, buffer, (t, s) -> { }));
+            assertThrows(IllegalArgumentException.class, () -> converter.convertRange(range, null, (t, s) -> { }));
+            assertThrows(IllegalArgumentException.class, () -> converter.convertRange(range, buffer, null));
+        }
+
+    }
+
 }
@@ -0,0 +1,76 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.model.PreciseTime;
+import pl.umanski.strategy.SecondsPastStrategy;
+import pl.umanski.strategy.SecondsToStrategy;
+import pl.umanski.strategy.StrategyRegistry;
+import pl.umanski.strategy.WholeMinuteStrategy;
+import pl.umanski.vocabulary.TimeVocabularies;
+import pl.umanski.vocabulary.TimeVocabulary;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Compact Precise Spoken Time Converter Test")
+class CompactPreciseSpokenTimeConverterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en-GB", "en-US"})
+    @DisplayName("Should match strategy-based converter for every second of the day")
+    void shouldMatchStrategyBasedConverterForEverySecondOfTheDay(String languageTag) {
+        TimeVocabulary vocabulary = TimeVocabularies.forLocale(Locale.forLanguageTag(languageTag));
+        PreciseSpokenTimeConverter expected = new BritishPreciseSpokenTimeConverter(List.of(
+                new WholeMinuteStrategy(StrategyRegistry.defaultRegistry(vocabulary)),
+                new SecondsPastStrategy(vocabulary),
+                new SecondsToStrategy(vocabulary)));
+        PreciseSpokenTimeConverter converter = new CompactPreciseSpokenTimeConverter(vocabulary);
+
+        StringBuilder target = new StringBuilder();
+        for (int secondOfDay = 0; secondOfDay < PreciseTime.SECONDS_PER_DAY; secondOfDay++) {
+            PreciseTime time = PreciseTime.ofSecondOfDay(secondOfDay);
+            String phrase = expected.convert(time);
+            assertEquals(phrase, converter.convert(secondOfDay));
+            assertEquals(phrase, converter.convert(time));
+
+            target.setLength(0);
+            assertEquals(phrase, converter.convertTo(time, target).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold a small fraction of the phrases of a day")
+    void shouldHoldSmallFractionOfThePhrasesOfDay() {
+        CompactPreciseSpokenTimeConverter converter = new CompactPreciseSpokenTimeConverter();
+
+        assertEquals(1440 + 25 + 2 * (1799 - 29), converter.phraseCount());
+        assertTrue(converter.phraseCount() * 10 < PreciseTime.SECONDS_PER_DAY);
+    }
+
+    @Test
+    @DisplayName("Should return the minute phrase instance for whole minutes")
+    void shouldReturnTheMinutePhraseInstanceForWholeMinutes() {
+        PreciseSpokenTimeConverter converter = new CompactPreciseSpokenTimeConverter();
+
+        assertSame(converter.convert(new PreciseTime(7, 15, 0)), converter.convert(7 * 3600 + 15 * 60));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid arguments")
+    void shouldThrowExceptionForInvalidArguments() {
+        PreciseSpokenTimeConverter converter = new CompactPreciseSpokenTimeConverter();
+
+        assertThrows(IllegalArgumentException.class, () -> new CompactPreciseSpokenTimeConverter(null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert((PreciseTime) null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(null, new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(new PreciseTime(1, 0, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(-1));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(86400));
+    }
+
+}
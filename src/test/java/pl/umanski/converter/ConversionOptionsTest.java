@@ -0,0 +1,82 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.ConversionOptions.Style;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Conversion Options Test")
+class ConversionOptionsTest {
+
+    @Test
+    @DisplayName("Should default to standard British phrases with period")
+    void shouldDefaultToStandardBritishPhrasesWithPeriod() {
+        ConversionOptions options = ConversionOptions.defaults();
+
+        assertEquals(Style.STANDARD, options.style());
+        assertTrue(options.period());
+        assertEquals(Locale.UK, options.locale());
+    }
+
+    @Test
+    @DisplayName("Should copy options with a single value changed")
+    void shouldCopyOptionsWithASingleValueChanged() {
+        ConversionOptions options = ConversionOptions.defaults();
+
+        assertEquals(new ConversionOptions(Style.COLLOQUIAL, true, Locale.UK), options.withStyle(Style.COLLOQUIAL));
+        assertEquals(new ConversionOptions(Style.STANDARD, false, Locale.UK), options.withPeriod(false));
+        assertEquals(new ConversionOptions(Style.STANDARD, true, Locale.US), options.withLocale(Locale.US));
+        assertEquals(ConversionOptions.defaults(), options);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Should keep but not speak the period of 24-hour options")
+    void shouldKeepButNotSpeakThePeriodOf24HourOptions(boolean period) {
+        ConversionOptions options = new ConversionOptions(Style.TWENTY_FOUR_HOUR, period, Locale.UK);
+
+        assertEquals(period, options.period());
+        assertFalse(options.speaksPeriod());
+        assertEquals(new ConversionOptions(Style.TWENTY_FOUR_HOUR, false, Locale.UK), options.tableKey());
+    }
+
+    @Test
+    @DisplayName("Should restore the period when leaving the 24-hour style")
+    void shouldRestoreThePeriodWhenLeavingThe24HourStyle() {
+        ConversionOptions options = ConversionOptions.defaults()
+                .withStyle(Style.TWENTY_FOUR_HOUR)
+                .withStyle(Style.STANDARD);
+
+        assertTrue(options.speaksPeriod());
+        assertEquals(ConversionOptions.defaults(), options);
+    }
+
+    @Test
+    @DisplayName("Should use regular options as their own table key")
+    void shouldUseRegularOptionsAsTheirOwnTableKey() {
+        ConversionOptions options = ConversionOptions.defaults().withStyle(Style.DIGITAL);
+
+        assertTrue(options.speaksPeriod());
+        assertSame(options, options.tableKey());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when style is null")
+    void shouldThrowExceptionWhenStyleIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new ConversionOptions(null, true, Locale.UK));
+        assertThrows(IllegalArgumentException.class, () -> ConversionOptions.defaults().withStyle(null));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when locale is null")
+    void shouldThrowExceptionWhenLocaleIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new ConversionOptions(Style.STANDARD, true, null));
+        assertThrows(IllegalArgumentException.class, () -> ConversionOptions.defaults().withLocale(null));
+    }
+
+}
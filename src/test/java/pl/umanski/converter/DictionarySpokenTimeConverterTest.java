@@ -0,0 +1,113 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.StrategyRegistry;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Dictionary Spoken Time Converter Test")
+class DictionarySpokenTimeConverterTest {
+
+    private static final SpokenTimeConverter BRITISH = new BritishSpokenTimeConverter();
+    private static final SpokenTimeConverter AMERICAN = new BritishSpokenTimeConverter(
+            StrategyRegistry.defaultRegistry(TimeVocabularies.forLocale(Locale.US)));
+
+    @Nested
+    @DisplayName("Materializing phrases")
+    class MaterializingPhrases {
+
+        @Test
+        @DisplayName("Should match British converter for every minute of the day")
+        void shouldMatchBritishConverterForEveryMinuteOfTheDay() {
+            SpokenTimeConverter converter = new DictionarySpokenTimeConverter();
+
+            for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                Time time = Time.ofMinuteOfDay(minuteOfDay);
+                assertEquals(BRITISH.convert(time), converter.convert(time));
+                assertEquals(BRITISH.convert(time), converter.convert(minuteOfDay));
+                assertEquals(BRITISH.convert(time), converter.convertTo(time, new StringBuilder()).toString());
+            }
+        }
+
+        @Test
+        @DisplayName("Should match converters of several vocabularies sharing one dictionary")
+        void shouldMatchConvertersOfSeveralVocabulariesSharingOneDictionary() {
+            PhraseDictionary dictionary = PhraseDictionary.builder()
+                    .addPhrases(BRITISH)
+                    .addPhrases(AMERICAN)
+                    .build();
+            DictionarySpokenTimeConverter british = new DictionarySpokenTimeConverter(BRITISH, dictionary);
+            DictionarySpokenTimeConverter american = new DictionarySpokenTimeConverter(AMERICAN, dictionary);
+
+            assertSame(british.dictionary(), american.dictionary());
+            for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                assertEquals(BRITISH.convert(minuteOfDay), british.convert(minuteOfDay));
+                assertEquals(AMERICAN.convert(minuteOfDay), american.convert(minuteOfDay));
+            }
+        }
+
+        @Test
+        @DisplayName("Should store at most five words per phrase")
+        void shouldStoreFewWordsPerPhrase() {
+            DictionarySpokenTimeConverter converter = new DictionarySpokenTimeConverter();
+
+            assertTrue(converter.wordCount() <= 5 * Time.MINUTES_PER_DAY, "words " + converter.wordCount());
+        }
+
+        @Test
+        @DisplayName("Should append phrase after existing content")
+        void shouldAppendPhraseAfterExistingContent() {
+            SpokenTimeConverter converter = new DictionarySpokenTimeConverter();
+            StringBuilder target = new StringBuilder("It is ");
+
+            assertSame(target, converter.convertTo(Time.of(15, 45), target));
+            assertEquals("It is quarter to four PM", target.toString());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Invalid input")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("Should throw exception for invalid conversion arguments")
+        void shouldThrowExceptionForInvalidConversionArguments() {
+            SpokenTimeConverter converter = new DictionarySpokenTimeConverter();
+
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(null));
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(-1));
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(1440));
+            assertThrows(IllegalArgumentException.class, () -> converter.convertTo(null, new StringBuilder()));
+            assertThrows(IllegalArgumentException.class, () -> converter.convertTo(Time.of(7, 0), null));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when source or dictionary is null")
+        void shouldThrowExceptionWhenSourceOrDictionaryIsNull() {
+            PhraseDictionary dictionary = PhraseDictionary.of(BRITISH);
+
+            assertThrows(IllegalArgumentException.class, () -> new DictionarySpokenTimeConverter(null));
+            assertThrows(IllegalArgumentException.class, () -> new DictionarySpokenTimeConverter(null, dictionary));
+            assertThrows(IllegalArgumentException.class, () -> new DictionarySpokenTimeConverter(BRITISH, null));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when a word is missing from the dictionary")
+        void shouldThrowExceptionWhenWordIsMissingFromTheDictionary() {
+            PhraseDictionary dictionary = PhraseDictionary.builder().addPhrase("noon").build();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new DictionarySpokenTimeConverter(BRITISH, dictionary));
+            assertTrue(exception.getMessage().endsWith("is missing from the dictionary"));
+        }
+
+    }
+
+}
@@ -0,0 +1,254 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.EpochSpokenTimeConverter.OffsetPeriod;
+import pl.umanski.model.Time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Epoch Spoken Time Converter Test")
+class EpochSpokenTimeConverterTest {
+
+    private static final SpokenTimeConverter CONVERTER = new PrecomputedSpokenTimeConverter();
+
+    private final EpochSpokenTimeConverter converter = new EpochSpokenTimeConverter(CONVERTER);
+
+    /**
+     * Converts through {@link ZonedDateTime}, the path the converter replaces.
+     */
+    private static String expected(long epochMilli, ZoneId zone) {
+        ZonedDateTime dateTime = Instant.ofEpochMilli(epochMilli).atZone(zone);
+        return CONVERTER.convert(new Time(dateTime.getHour(), dateTime.getMinute()));
+    }
+
+    private static long epochMilli(String localDateTime, String zone) {
+        return LocalDateTime.parse(localDateTime).atZone(ZoneId.of(zone)).toInstant().toEpochMilli();
+    }
+
+    @Nested
+    @DisplayName("Single zone")
+    class SingleZone {
+
+        @ParameterizedTest
+        @CsvSource({
+                "2024-07-01T07:30, Europe/London, half past seven AM",
+                "2024-01-15T16:45, America/New_York, quarter to five PM",
+                "2024-03-10T12:00, Asia/Kathmandu, noon",
+                "1969-12-31T23:59, UTC, one to midnight",
+        })
+        @DisplayName("Should speak the local time of the zone")
+        void shouldSpeakTheLocalTimeOfTheZone(String localDateTime, String zone, String expected) {
+            assertEquals(expected, converter.convert(epochMilli(localDateTime, zone), ZoneId.of(zone)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "Europe/London", "America/New_York", "Australia/Lord_Howe", "Asia/Kathmandu", "Pacific/Chatham",
+                "America/St_Johns", "UTC", "+05:30", "-09:45"
+        })
+        @DisplayName("Should match java.time for random instants")
+        void shouldMatchJavaTimeForRandomInstants(String zoneId) {
+            ZoneId zone = ZoneId.of(zoneId);
+            SplittableRandom random = new SplittableRandom(zoneId.hashCode());
+            long[] epochMillis = new long[20_000];
+            for (int i = 0; i < epochMillis.length; i++) {
+                epochMillis[i] = random.nextLong(-3_000_000_000_000L, 5_000_000_000_000L);
+            }
+            String[] target = new String[epochMillis.length];
+
+            converter.convertAll(epochMillis, zone, target);
+
+            for (int i = 0; i < epochMillis.length; i++) {
+                assertEquals(expected(epochMillis[i], zone), target[i], "epoch milli " + epochMillis[i]);
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"Europe/London", "America/New_York", "Australia/Lord_Howe"})
+        @DisplayName("Should match java.time minute by minute across a year of transitions")
+        void shouldMatchJavaTimeMinuteByMinuteAcrossAYearOfTransitions(String zoneId) {
+            ZoneId zone = ZoneId.of(zoneId);
+            long start = epochMilli("2024-01-01T00:00", "UTC");
+            long[] epochMillis = new long[366 * Time.MINUTES_PER_DAY];
+            for (int i = 0; i < epochMillis.length; i++) {
+                epochMillis[i] = start + TimeUnit.MINUTES.toMillis(i) + 59_999;
+            }
+            String[] target = new String[epochMillis.length];
+
+            converter.convertAll(epochMillis, zone, target);
+
+            for (int i = 0; i < epochMillis.length; i++) {
+                assertEquals(expected(epochMillis[i], zone), target[i], "epoch milli " + epochMillis[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should convert a range of the input into a range of the target")
+        void shouldConvertARangeOfTheInputIntoARangeOfTheTarget() {
+            long[] epochMillis = {0, epochMilli("2024-07-01T07:30", "UTC"), epochMilli("2024-07-01T08:00", "UTC"), 0};
+            String[] target = new String[4];
+
+            converter.convertAll(epochMillis, 1, 2, ZoneOffset.UTC, target, 2);
+
+            assertArrayEquals(new String[]{null, null, "half past seven AM", "eight o'clock AM"}, target);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Zone per row")
+    class ZonePerRow {
+
+        @Test
+        @DisplayName("Should speak each instant in its own zone")
+        void shouldSpeakEachInstantInItsOwnZone() {
+            long instant = epochMilli("2024-07-01T12:00", "UTC");
+            long[] epochMillis = {instant, instant, instant, instant};
+            ZoneId[] zones = {ZoneOffset.UTC, ZoneId.of("Europe/London"), ZoneId.of("America/New_York"),
+                    ZoneId.of("Europe/London")};
+            String[] target = new String[4];
+
+            converter.convertAll(epochMillis, zones, target);
+
+            assertArrayEquals(new String[]{"noon", "one o'clock PM", "eight o'clock AM", "one o'clock PM"}, target);
+        }
+
+        @Test
+        @DisplayName("Should match java.time for interleaved zones")
+        void shouldMatchJavaTimeForInterleavedZones() {
+            ZoneId[] available = {ZoneId.of("Europe/London"), ZoneId.of("Asia/Tokyo"), ZoneId.of("America/Denver"),
+                    ZoneOffset.UTC, ZoneId.of("Australia/Adelaide")};
+            SplittableRandom random = new SplittableRandom(7);
+            long[] epochMillis = new long[10_000];
+            ZoneId[] zones = new ZoneId[epochMillis.length];
+            for (int i = 0; i < epochMillis.length; i++) {
+                epochMillis[i] = random.nextLong(0, 2_000_000_000_000L);
+                zones[i] = available[random.nextInt(available.length)];
+            }
+            String[] target = new String[epochMillis.length];
+
+            converter.convertAll(epochMillis, zones, target);
+
+            for (int i = 0; i < epochMillis.length; i++) {
+                assertEquals(expected(epochMillis[i], zones[i]), target[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should match java.time for zones parsed row by row, more than are kept as recent")
+        void shouldMatchJavaTimeForZonesParsedRowByRow() {
+            String[] ids = {"Europe/London", "Asia/Tokyo", "America/Denver", "UTC", "Australia/Adelaide",
+                    "Europe/Warsaw", "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Chatham", "Africa/Cairo"};
+            SplittableRandom random = new SplittableRandom(11);
+            long[] epochMillis = new long[10_000];
+            ZoneId[] zones = new ZoneId[epochMillis.length];
+            for (int i = 0; i < epochMillis.length; i++) {
+                epochMillis[i] = random.nextLong(0, 2_000_000_000_000L);
+                zones[i] = ZoneId.of(ids[random.nextInt(ids.length)]);
+            }
+            String[] target = new String[epochMillis.length];
+
+            converter.convertAll(epochMillis, zones, target);
+
+            for (int i = 0; i < epochMillis.length; i++) {
+                assertEquals(expected(epochMillis[i], zones[i]), target[i]);
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Offset periods")
+    class OffsetPeriods {
+
+        @Test
+        @DisplayName("Should look the offset up once per period for sorted instants")
+        void shouldLookTheOffsetUpOncePerPeriodForSortedInstants() {
+            OffsetPeriod period = new OffsetPeriod(ZoneId.of("Europe/London"));
+            long start = epochMilli("2024-01-01T00:00", "UTC");
+
+            for (int minute = 0; minute < 366 * Time.MINUTES_PER_DAY; minute += 7) {
+                period.minuteOfDay(start + TimeUnit.MINUTES.toMillis(minute));
+            }
+
+            // Winter time, summer time from the end of March and winter time again from the end of October
+            assertEquals(3, period.lookups());
+        }
+
+        @Test
+        @DisplayName("Should look a fixed offset up only once")
+        void shouldLookAFixedOffsetUpOnlyOnce() {
+            OffsetPeriod period = new OffsetPeriod(ZoneOffset.ofHoursMinutes(5, 30));
+
+            assertEquals(330, period.minuteOfDay(0));
+            assertEquals(330 - 1, period.minuteOfDay(-1));
+            assertEquals(0, period.minuteOfDay(TimeUnit.MINUTES.toMillis(Time.MINUTES_PER_DAY - 330)));
+            period.minuteOfDay(Long.MIN_VALUE);
+            period.minuteOfDay(Long.MAX_VALUE);
+
+            assertEquals(1, period.lookups());
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = {Long.MIN_VALUE, Long.MAX_VALUE})
+        @DisplayName("Should handle the extreme epoch values")
+        void shouldHandleTheExtremeEpochValues(long epochMilli) {
+            ZoneId zone = ZoneId.of("Europe/London");
+
+            assertEquals(expected(epochMilli, zone), converter.convert(epochMilli, zone));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Invalid arguments")
+    class InvalidArguments {
+
+        @Test
+        @DisplayName("Should throw exception when an argument is null")
+        void shouldThrowExceptionWhenAnArgumentIsNull() {
+            long[] epochMillis = {0};
+            String[] target = new String[1];
+
+            assertThrows(IllegalArgumentException.class, () -> new EpochSpokenTimeConverter(null));
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(0, null));
+            assertThrows(IllegalArgumentException.class, () -> converter.convertAll(null, ZoneOffset.UTC, target));
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convertAll(epochMillis, (ZoneId) null, target));
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convertAll(epochMillis, ZoneOffset.UTC, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convertAll(epochMillis, (ZoneId[]) null, target));
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convertAll(epochMillis, new ZoneId[1], target));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when a range is out of bounds")
+        void shouldThrowExceptionWhenARangeIsOutOfBounds() {
+            long[] epochMillis = {0, 0};
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> converter.convertAll(epochMillis, ZoneOffset.UTC, new String[1]));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> converter.convertAll(epochMillis, 1, 2, ZoneOffset.UTC, new String[2], 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> converter.convertAll(epochMillis, new ZoneId[]{ZoneOffset.UTC}, new String[2]));
+        }
+
+    }
+
+}
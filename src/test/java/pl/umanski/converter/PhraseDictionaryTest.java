@@ -0,0 +1,133 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Phrase Dictionary Test")
+class PhraseDictionaryTest {
+
+    @Nested
+    @DisplayName("Building dictionaries")
+    class BuildingDictionaries {
+
+        @Test
+        @DisplayName("Should hold every distinct word once")
+        void shouldHoldEveryDistinctWordOnce() {
+            PhraseDictionary dictionary = PhraseDictionary.builder()
+                    .addPhrase("quarter past seven AM")
+                    .addPhrase("quarter to seven PM")
+                    .build();
+
+            assertEquals(6, dictionary.size());
+            assertEquals(0, dictionary.indexOf("quarter"));
+            assertEquals("seven", dictionary.word(dictionary.indexOf("seven")));
+            assertEquals(-1, dictionary.indexOf("noon"));
+        }
+
+        @Test
+        @DisplayName("Should find every word among many colliding ones")
+        void shouldFindEveryWordAmongManyCollidingOnes() {
+            PhraseDictionary.Builder builder = PhraseDictionary.builder();
+            for (int i = 0; i < 1000; i++) {
+                builder.addPhrase("w" + i);
+            }
+            // "Aa" and "BB" have the same hash code
+            PhraseDictionary dictionary = builder.addPhrase("Aa BB café").build();
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, dictionary.indexOf("w" + i));
+            }
+            assertEquals(1000, dictionary.indexOf("Aa"));
+            assertEquals(1001, dictionary.indexOf("BB"));
+            assertEquals(1002, dictionary.indexOf("café"));
+            assertEquals(-1, dictionary.indexOf("AaBB"));
+            assertEquals(-1, dictionary.indexOf("cafe"));
+            assertEquals(-1, dictionary.indexOf(null));
+        }
+
+        @Test
+        @DisplayName("Should hold a few dozen words for all phrases of the day")
+        void shouldHoldFewDozenWordsForAllPhrasesOfTheDay() {
+            PhraseDictionary dictionary = PhraseDictionary.of(new BritishSpokenTimeConverter());
+
+            assertTrue(dictionary.size() < 100, "size " + dictionary.size());
+            assertTrue(dictionary.indexOf("twenty") >= 0);
+            assertTrue(dictionary.indexOf("midnight") >= 0);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when converter is null")
+        void shouldThrowExceptionWhenConverterIsNull() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> PhraseDictionary.of(null));
+            assertEquals("Converter cannot be null", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when phrase is null")
+        void shouldThrowExceptionWhenPhraseIsNull() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> PhraseDictionary.builder().addPhrase(null));
+            assertEquals("Phrase cannot be null", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"half past ÿ", "noon", "quarter  to", " leading", ""})
+        @DisplayName("Should restore Latin-1 phrases from their words")
+        void shouldRestoreLatin1PhrasesFromTheirWords(String phrase) {
+            assertEquals(phrase, String.join(" ", PhraseDictionary.split(phrase)));
+        }
+
+        @Test
+        @DisplayName("Should reject phrases outside Latin-1")
+        void shouldRejectPhrasesOutsideLatin1() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> PhraseDictionary.builder().addPhrase("half past seven €"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Copying words")
+    class CopyingWords {
+
+        @Test
+        @DisplayName("Should copy word bytes and return the next position")
+        void shouldCopyWordBytesAndReturnTheNextPosition() {
+            PhraseDictionary dictionary = PhraseDictionary.builder().addPhrase("half past").build();
+            byte[] target = new byte[6];
+
+            assertEquals(6, dictionary.copyWord(dictionary.indexOf("past"), target, 2));
+            assertEquals("\0\0past", new String(target, StandardCharsets.ISO_8859_1));
+            assertEquals(4, dictionary.wordLength(dictionary.indexOf("half")));
+        }
+
+        @Test
+        @DisplayName("Should append Latin-1 words to a builder")
+        void shouldAppendLatin1WordsToBuilder() {
+            PhraseDictionary dictionary = PhraseDictionary.builder().addPhrase("café noon").build();
+            StringBuilder target = new StringBuilder("at ");
+
+            dictionary.appendWord(dictionary.indexOf("café"), target);
+            assertEquals("at café", target.toString());
+        }
+
+        @Test
+        @DisplayName("Should throw exception for index out of range")
+        void shouldThrowExceptionForIndexOutOfRange() {
+            PhraseDictionary dictionary = PhraseDictionary.builder().addPhrase("noon").build();
+
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.word(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> dictionary.word(-1));
+        }
+
+    }
+
+}
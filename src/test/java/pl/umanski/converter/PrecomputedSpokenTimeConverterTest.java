@@ -0,0 +1,144 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter.Initialization;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Precomputed Spoken Time Converter Test")
+class PrecomputedSpokenTimeConverterTest {
+
+    @Test
+    @DisplayName("Should throw exception when time is null")
+    void shouldThrowExceptionWhenTimeIsNull() {
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Initialization.class)
+    @DisplayName("Should match British converter for every minute of the day")
+    void shouldMatchBritishConverterForEveryMinuteOfTheDay(Initialization initialization) {
+        SpokenTimeConverter expected = new BritishSpokenTimeConverter();
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter(
+                BritishSpokenTimeConverter.defaultStrategies(), initialization);
+
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                Time time = new Time(hour, minute);
+                assertEquals(expected.convert(time), converter.convert(time));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match British converter when built from a strategy registry")
+    void shouldMatchBritishConverterWhenBuiltFromStrategyRegistry() {
+        SpokenTimeConverter expected = new BritishSpokenTimeConverter();
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter(
+                StrategyRegistry.defaultRegistry(), Initialization.LAZY);
+
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            assertEquals(expected.convert(minuteOfDay), converter.convert(minuteOfDay));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same phrase instance for repeated conversions")
+    void shouldReturnTheSamePhraseInstanceForRepeatedConversions() {
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter(
+                BritishSpokenTimeConverter.defaultStrategies(), Initialization.LAZY);
+
+        assertSame(converter.convert(new Time(7, 15)), converter.convert(new Time(7, 15)));
+    }
+
+    @Test
+    @DisplayName("Should convert minute of day")
+    void shouldConvertMinuteOfDay() {
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+
+        assertEquals("quarter to four PM", converter.convert(15 * 60 + 45));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(-1));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(1440));
+    }
+
+    @Test
+    @DisplayName("Should append phrase from the table after existing content")
+    void shouldAppendPhraseFromTheTableAfterExistingContent() {
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+        StringBuilder target = new StringBuilder("It is ");
+
+        assertSame(target, converter.convertTo(new Time(12, 0), target));
+        assertEquals("It is noon", target.toString());
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(null, target));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertTo(new Time(12, 0), null));
+    }
+
+    @Nested
+    @DisplayName("Strategy coverage validation")
+    class StrategyCoverageValidation {
+
+        @Test
+        @DisplayName("Should throw exception when strategies are null")
+        void shouldThrowExceptionWhenStrategiesAreNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new PrecomputedSpokenTimeConverter((List<TimeFormatStrategy>) null, Initialization.EAGER));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when registry is null")
+        void shouldThrowExceptionWhenRegistryIsNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new PrecomputedSpokenTimeConverter((StrategyRegistry) null, Initialization.EAGER));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when initialization is null")
+        void shouldThrowExceptionWhenInitializationIsNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new PrecomputedSpokenTimeConverter(BritishSpokenTimeConverter.defaultStrategies(), null));
+        }
+
+        @ParameterizedTest
+        @EnumSource(Initialization.class)
+        @DisplayName("Should throw exception when a minute is not covered")
+        void shouldThrowExceptionWhenMinuteIsNotCovered(Initialization initialization) {
+            List<TimeFormatStrategy> strategies = List.of(
+                    new ExactHourStrategy(),
+                    new PastTimeStrategy(),
+                    new ToTimeStrategy()
+            );
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new PrecomputedSpokenTimeConverter(strategies, initialization));
+            assertTrue(exception.getMessage().contains("No strategy handles time"));
+        }
+
+        @ParameterizedTest
+        @EnumSource(Initialization.class)
+        @DisplayName("Should throw exception when a minute is covered twice")
+        void shouldThrowExceptionWhenMinuteIsCoveredTwice(Initialization initialization) {
+            List<TimeFormatStrategy> strategies = List.of(
+                    new ExactHourStrategy(),
+                    new PastTimeStrategy(),
+                    new DigitalTimeStrategy(),
+                    new ToTimeStrategy(),
+                    new PastTimeStrategy()
+            );
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new PrecomputedSpokenTimeConverter(strategies, initialization));
+            assertTrue(exception.getMessage().contains("more than one strategy"));
+        }
+
+    }
+
+}
@@ -0,0 +1,227 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.ConversionOptions.Style;
+import pl.umanski.model.Time;
+import pl.umanski.strategy.StrategyRegistry;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Styled Spoken Time Converter Test")
+class StyledSpokenTimeConverterTest {
+
+    private final StyledSpokenTimeConverter converter = new StyledSpokenTimeConverter();
+
+    @Nested
+    @DisplayName("Styles")
+    class StyleTests {
+
+        @Test
+        @DisplayName("Should match British converter for every minute of the day by default")
+        void shouldMatchBritishConverterForEveryMinuteOfTheDayByDefault() {
+            SpokenTimeConverter expected = new BritishSpokenTimeConverter();
+
+            for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                Time time = Time.ofMinuteOfDay(minuteOfDay);
+                assertEquals(expected.convert(time), converter.convert(time));
+                assertEquals(expected.convert(minuteOfDay), converter.convert(minuteOfDay));
+                assertEquals(expected.convert(time), converter.convert(time, ConversionOptions.defaults()));
+            }
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "7, 30, half seven AM",
+                "19, 30, half seven PM",
+                "7, 15, quarter past seven AM",
+                "7, 29, twenty nine past seven AM",
+                "7, 45, quarter to eight AM",
+                "7, 0, seven o'clock AM",
+        })
+        @DisplayName("Should speak half hours colloquially")
+        void shouldSpeakHalfHoursColloquially(int hour, int minute, String expected) {
+            ConversionOptions options = ConversionOptions.defaults().withStyle(Style.COLLOQUIAL);
+
+            assertEquals(expected, converter.convert(new Time(hour, minute), options));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "16, 45, four forty five PM",
+                "4, 15, four fifteen AM",
+                "12, 5, twelve oh five PM",
+                "16, 0, four o'clock PM",
+                "12, 0, noon",
+        })
+        @DisplayName("Should speak hours and minutes as numbers in digital style")
+        void shouldSpeakHoursAndMinutesAsNumbersInDigitalStyle(int hour, int minute, String expected) {
+            ConversionOptions options = ConversionOptions.defaults().withStyle(Style.DIGITAL);
+
+            assertEquals(expected, converter.convert(new Time(hour, minute), options));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "16, 45, sixteen forty five",
+                "7, 30, oh seven thirty",
+                "16, 0, sixteen hundred",
+                "0, 0, zero hundred",
+        })
+        @DisplayName("Should speak 24-hour times")
+        void shouldSpeak24HourTimes(int hour, int minute, String expected) {
+            ConversionOptions options = ConversionOptions.defaults().withStyle(Style.TWENTY_FOUR_HOUR);
+
+            assertEquals(expected, converter.convert(new Time(hour, minute), options));
+        }
+
+        @ParameterizedTest
+        @EnumSource(Style.class)
+        @DisplayName("Should omit the period when disabled")
+        void shouldOmitThePeriodWhenDisabled(Style style) {
+            ConversionOptions options = new ConversionOptions(style, false, Locale.UK);
+
+            for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                String spoken = converter.convert(minuteOfDay, options);
+                assertFalse(spoken.endsWith(" AM") || spoken.endsWith(" PM"), spoken);
+            }
+        }
+
+        @Test
+        @DisplayName("Should take words from the vocabulary of the locale")
+        void shouldTakeWordsFromTheVocabularyOfTheLocale() {
+            SpokenTimeConverter expected = new BritishSpokenTimeConverter(
+                    StrategyRegistry.defaultRegistry(TimeVocabularies.forLocale(Locale.US)));
+            ConversionOptions options = ConversionOptions.defaults().withLocale(Locale.US);
+
+            for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                assertEquals(expected.convert(minuteOfDay), converter.convert(minuteOfDay, options));
+            }
+            assertEquals("half four PM",
+                    converter.convert(new Time(16, 30), options.withStyle(Style.COLLOQUIAL)));
+        }
+
+        @Test
+        @DisplayName("Should convert through a converter bound to options")
+        void shouldConvertThroughAConverterBoundToOptions() {
+            SpokenTimeConverter digital = converter.withOptions(
+                    ConversionOptions.defaults().withStyle(Style.DIGITAL).withPeriod(false));
+            StringBuilder target = new StringBuilder("Spoken time: ");
+
+            assertEquals("four forty five", digital.convert(new Time(16, 45)));
+            assertEquals("four forty five", digital.convert(16 * 60 + 45));
+            assertSame(target, digital.convertTo(new Time(16, 45), target));
+            assertEquals("Spoken time: four forty five", target.toString());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Table cache")
+    class CacheTests {
+
+        @Test
+        @DisplayName("Should compile a table only on first use of its options")
+        void shouldCompileATableOnlyOnFirstUseOfItsOptions() {
+            ConversionOptions colloquial = ConversionOptions.defaults().withStyle(Style.COLLOQUIAL);
+            assertEquals(0, converter.cachedTables());
+
+            converter.convert(new Time(7, 30), colloquial);
+            converter.convert(new Time(8, 30), colloquial);
+
+            assertEquals(1, converter.cachedTables());
+            assertTrue(converter.isCached(colloquial));
+            assertFalse(converter.isCached(ConversionOptions.defaults()));
+        }
+
+        @Test
+        @DisplayName("Should share a table between equal options")
+        void shouldShareATableBetweenEqualOptions() {
+            converter.convert(new Time(7, 30), new ConversionOptions(Style.TWENTY_FOUR_HOUR, true, Locale.UK));
+            converter.convert(new Time(7, 30), new ConversionOptions(Style.TWENTY_FOUR_HOUR, false, Locale.UK));
+
+            assertEquals(1, converter.cachedTables());
+        }
+
+        @Test
+        @DisplayName("Should return the same phrase instance for repeated conversions")
+        void shouldReturnTheSamePhraseInstanceForRepeatedConversions() {
+            ConversionOptions options = ConversionOptions.defaults().withStyle(Style.DIGITAL);
+
+            assertSame(converter.convert(new Time(7, 15), options), converter.convert(new Time(7, 15), options));
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used table when full")
+        void shouldEvictTheLeastRecentlyUsedTableWhenFull() {
+            StyledSpokenTimeConverter bounded = new StyledSpokenTimeConverter(2);
+            ConversionOptions standard = ConversionOptions.defaults();
+            ConversionOptions colloquial = standard.withStyle(Style.COLLOQUIAL);
+            ConversionOptions digital = standard.withStyle(Style.DIGITAL);
+
+            bounded.convert(0, standard);
+            bounded.convert(0, colloquial);
+            bounded.convert(0, standard);
+            bounded.convert(0, digital);
+
+            assertEquals(2, bounded.cachedTables());
+            assertTrue(bounded.isCached(standard));
+            assertFalse(bounded.isCached(colloquial));
+            assertTrue(bounded.isCached(digital));
+            assertEquals("half seven AM", bounded.convert(new Time(7, 30), colloquial));
+            assertFalse(bounded.isCached(standard));
+        }
+
+        @Test
+        @DisplayName("Should cache the default number of tables")
+        void shouldCacheTheDefaultNumberOfTables() {
+            assertEquals(StyledSpokenTimeConverter.DEFAULT_MAX_TABLES, converter.maxTables());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Invalid arguments")
+    class InvalidArgumentTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1})
+        @DisplayName("Should throw exception when max tables is not positive")
+        void shouldThrowExceptionWhenMaxTablesIsNotPositive(int maxTables) {
+            assertThrows(IllegalArgumentException.class, () -> new StyledSpokenTimeConverter(maxTables));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when options are null")
+        void shouldThrowExceptionWhenOptionsAreNull() {
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(new Time(7, 30), null));
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(450, null));
+            assertThrows(IllegalArgumentException.class, () -> converter.withOptions(null));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when time is null")
+        void shouldThrowExceptionWhenTimeIsNull() {
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convert(null, ConversionOptions.defaults()));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1440})
+        @DisplayName("Should throw exception when minute of day is out of range")
+        void shouldThrowExceptionWhenMinuteOfDayIsOutOfRange(int minuteOfDay) {
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(minuteOfDay));
+        }
+
+    }
+
+}
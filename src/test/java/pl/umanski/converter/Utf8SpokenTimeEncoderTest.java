@@ -0,0 +1,123 @@
+package pl.umanski.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.model.Time;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UTF-8 Spoken Time Encoder Test")
+class Utf8SpokenTimeEncoderTest {
+
+    private final SpokenTimeConverter converter = new BritishSpokenTimeConverter();
+
+    @Test
+    @DisplayName("Should throw exception when converter is null")
+    void shouldThrowExceptionWhenConverterIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new Utf8SpokenTimeEncoder(null));
+        assertThrows(IllegalArgumentException.class, () -> Utf8SpokenTimeEncoder.lines(null));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when prefix or suffix is null")
+    void shouldThrowExceptionWhenPrefixOrSuffixIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new Utf8SpokenTimeEncoder(converter, null, ""));
+        assertThrows(IllegalArgumentException.class, () -> new Utf8SpokenTimeEncoder(converter, "", null));
+    }
+
+    @Test
+    @DisplayName("Should encode every minute of the day like the converter")
+    void shouldEncodeEveryMinuteOfTheDayLikeTheConverter() {
+        Utf8SpokenTimeEncoder encoder = new Utf8SpokenTimeEncoder(converter);
+        byte[] target = new byte[encoder.maxEncodedLength()];
+
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            int length = encoder.encode(minuteOfDay, target, 0);
+            assertEquals(converter.convert(minuteOfDay), new String(target, 0, length, StandardCharsets.UTF_8));
+            assertEquals(length, encoder.encodedLength(minuteOfDay));
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode output lines as printed by the application")
+    void shouldEncodeOutputLinesAsPrintedByTheApplication() {
+        Utf8SpokenTimeEncoder encoder = Utf8SpokenTimeEncoder.lines(converter);
+        ByteBuffer target = ByteBuffer.allocate(2 * encoder.maxEncodedLength());
+
+        encoder.encode(new Time(7, 15), target);
+        encoder.encode(0, target);
+
+        assertEquals("Spoken time: quarter past seven AM\nSpoken time: midnight\n",
+                new String(target.array(), 0, target.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should encode multi-byte characters of prefix and suffix")
+    void shouldEncodeMultiByteCharactersOfPrefixAndSuffix() {
+        Utf8SpokenTimeEncoder encoder = new Utf8SpokenTimeEncoder(converter, "» ", " «");
+        byte[] target = new byte[encoder.maxEncodedLength()];
+
+        int length = encoder.encode(new Time(12, 0), target, 0);
+
+        assertEquals("» noon «", new String(target, 0, length, StandardCharsets.UTF_8));
+        assertEquals("» noon «".getBytes(StandardCharsets.UTF_8).length, length);
+    }
+
+    @Test
+    @DisplayName("Should write at the given offset without touching other bytes")
+    void shouldWriteAtTheGivenOffsetWithoutTouchingOtherBytes() {
+        Utf8SpokenTimeEncoder encoder = new Utf8SpokenTimeEncoder(converter);
+        byte[] target = new byte[32];
+        Arrays.fill(target, (byte) '#');
+
+        int length = encoder.encode(12 * 60, target, 3);
+
+        assertEquals(4, length);
+        assertEquals("###noon#", new String(target, 0, 8, StandardCharsets.US_ASCII));
+    }
+
+    @Nested
+    @DisplayName("Bounds validation")
+    class BoundsValidation {
+
+        private final Utf8SpokenTimeEncoder encoder = new Utf8SpokenTimeEncoder(converter);
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1440, Integer.MIN_VALUE})
+        @DisplayName("Should throw exception when minute of day is out of range")
+        void shouldThrowExceptionWhenMinuteOfDayIsOutOfRange(int minuteOfDay) {
+            assertThrows(IllegalArgumentException.class, () -> encoder.encodedLength(minuteOfDay));
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode(minuteOfDay, new byte[64], 0));
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode(minuteOfDay, ByteBuffer.allocate(64)));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when time is null")
+        void shouldThrowExceptionWhenTimeIsNull() {
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode(null, new byte[64], 0));
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode(null, ByteBuffer.allocate(64)));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when array is too small")
+        void shouldThrowExceptionWhenArrayIsTooSmall() {
+            assertThrows(IndexOutOfBoundsException.class, () -> encoder.encode(12 * 60, new byte[4], 1));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when buffer is too small")
+        void shouldThrowExceptionWhenBufferIsTooSmall() {
+            assertThrows(BufferOverflowException.class, () -> encoder.encode(12 * 60, ByteBuffer.allocate(3)));
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package pl.umanski.flow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Converted Time Test")
+class ConvertedTimeTest {
+
+    @Test
+    @DisplayName("Should hold spoken time of converted input")
+    void shouldHoldSpokenTimeOfConvertedInput() {
+        ConvertedTime item = ConvertedTime.converted(3, "noon");
+
+        assertTrue(item.isSuccessful());
+        assertEquals(3, item.sequence());
+        assertEquals("noon", item.spokenTime());
+        assertNull(item.error());
+    }
+
+    @Test
+    @DisplayName("Should hold error of input that could not be converted")
+    void shouldHoldErrorOfInputThatCouldNotBeConverted() {
+        ConvertedTime item = ConvertedTime.failed(4, "Invalid time format");
+
+        assertFalse(item.isSuccessful());
+        assertNull(item.spokenTime());
+        assertEquals("Invalid time format", item.error());
+    }
+
+}
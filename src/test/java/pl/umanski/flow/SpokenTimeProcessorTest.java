@@ -0,0 +1,383 @@
+package pl.umanski.flow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Spoken Time Processor Test")
+class SpokenTimeProcessorTest {
+
+    private static final SpokenTimeConverter CONVERTER = new PrecomputedSpokenTimeConverter();
+    private static final Executor DIRECT = Runnable::run;
+    private static final Executor REJECTING = task -> {
+        throw new RejectedExecutionException("Executor is shut down");
+    };
+
+    /**
+     * Publisher side of the processor, recording the requested inputs.
+     */
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+    }
+
+    /**
+     * Subscriber of the processor, requesting items only when told to.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<ConvertedTime> {
+
+        private final List<ConvertedTime> items = new ArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ConvertedTime item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Converting items")
+    class ConvertingItems {
+
+        @Test
+        @DisplayName("Should publish spoken times and failures as items")
+        void shouldPublishSpokenTimesAndFailuresAsItems() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscription upstream = new RecordingSubscription();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(upstream);
+            processor.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            processor.onNext("7:15");
+            processor.onNext("25:00");
+            processor.onNext(" 12:00 ");
+            processor.onComplete();
+
+            assertEquals(List.of(
+                    ConvertedTime.converted(1, "quarter past seven AM"),
+                    ConvertedTime.failed(2, "Hour must be between 0 and 23, got: 25"),
+                    ConvertedTime.converted(3, "noon")
+            ), subscriber.items);
+            assertTrue(subscriber.completed);
+            assertFalse(subscriber.items.get(1).isSuccessful());
+        }
+
+        @Test
+        @DisplayName("Should publish failures for minutes of day out of range")
+        void shouldPublishFailuresForMinutesOfDayOutOfRange() {
+            SpokenTimeProcessor<Integer> processor = SpokenTimeProcessor.ofMinutesOfDay(CONVERTER, DIRECT, 8);
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(new RecordingSubscription());
+            processor.subscribe(subscriber);
+            subscriber.subscription.request(10);
+
+            processor.onNext(15 * 60 + 45);
+            processor.onNext(1440);
+            processor.onNext(-1);
+            processor.onComplete();
+
+            assertEquals(List.of(
+                    ConvertedTime.converted(1, "quarter to four PM"),
+                    ConvertedTime.failed(2, "Minute of day must be between 0 and 1439, got: 1440"),
+                    ConvertedTime.failed(3, "Minute of day must be between 0 and 1439, got: -1")
+            ), subscriber.items);
+            assertTrue(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("Should publish buffered items before the error of the publisher")
+        void shouldPublishBufferedItemsBeforeTheErrorOfThePublisher() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(new RecordingSubscription());
+            processor.subscribe(subscriber);
+            IllegalStateException failure = new IllegalStateException("source failed");
+
+            processor.onNext("7:30");
+            processor.onError(failure);
+            assertNull(subscriber.error);
+            subscriber.subscription.request(1);
+
+            assertEquals(1, subscriber.items.size());
+            assertSame(failure, subscriber.error);
+        }
+
+        @Test
+        @Timeout(value = 10, unit = TimeUnit.SECONDS)
+        @DisplayName("Should convert every item of a submission publisher on the common pool")
+        void shouldConvertEveryItemOfSubmissionPublisherOnTheCommonPool() throws InterruptedException {
+            SpokenTimeProcessor<Integer> processor = SpokenTimeProcessor.ofMinutesOfDay(CONVERTER);
+            RecordingSubscriber subscriber = new RecordingSubscriber() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    super.onSubscribe(subscription);
+                    subscription.request(Long.MAX_VALUE);
+                }
+            };
+            processor.subscribe(subscriber);
+
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(ForkJoinPool.commonPool(), 16)) {
+                publisher.subscribe(processor);
+                for (int minuteOfDay = 0; minuteOfDay < 10_000; minuteOfDay++) {
+                    publisher.submit(minuteOfDay % 1440);
+                }
+            }
+
+            assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+            assertTrue(subscriber.completed);
+            assertEquals(10_000, subscriber.items.size());
+            assertEquals(10_000, subscriber.items.get(9_999).sequence());
+            assertEquals("one to midnight", subscriber.items.get(1439).spokenTime());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("Should publish no more items than requested")
+        void shouldPublishNoMoreItemsThanRequested() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(new RecordingSubscription());
+            processor.subscribe(subscriber);
+            subscriber.subscription.request(2);
+
+            for (int i = 0; i < 5; i++) {
+                processor.onNext("7:30");
+            }
+            processor.onComplete();
+            assertEquals(2, subscriber.items.size());
+            assertFalse(subscriber.completed);
+
+            subscriber.subscription.request(3);
+            assertEquals(5, subscriber.items.size());
+            assertTrue(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("Should request no more inputs than fit in the buffer")
+        void shouldRequestNoMoreInputsThanFitInTheBuffer() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscription upstream = new RecordingSubscription();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.subscribe(subscriber);
+            processor.onSubscribe(upstream);
+            assertEquals(8, upstream.requested);
+
+            for (int i = 0; i < 8; i++) {
+                processor.onNext("7:30");
+            }
+            assertEquals(8, upstream.requested);
+
+            subscriber.subscription.request(3);
+            assertEquals(8, upstream.requested, "fewer inputs consumed than a batch");
+            subscriber.subscription.request(1);
+            assertEquals(12, upstream.requested, "a batch of four inputs consumed");
+        }
+
+        @Test
+        @DisplayName("Should end the stream when the publisher sends more than requested")
+        void shouldEndTheStreamWhenThePublisherSendsMoreThanRequested() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 2);
+            RecordingSubscription upstream = new RecordingSubscription();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(upstream);
+            processor.subscribe(subscriber);
+
+            processor.onNext("7:30");
+            processor.onNext("7:31");
+            processor.onNext("7:32");
+            subscriber.subscription.request(10);
+
+            assertTrue(upstream.cancelled);
+            assertEquals(2, subscriber.items.size());
+            assertInstanceOf(IllegalStateException.class, subscriber.error);
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = {0, -1})
+        @DisplayName("Should end the stream for non-positive requests")
+        void shouldEndTheStreamForNonPositiveRequests(long n) {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscription upstream = new RecordingSubscription();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(upstream);
+            processor.subscribe(subscriber);
+
+            subscriber.subscription.request(n);
+
+            assertTrue(upstream.cancelled);
+            assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Subscriptions")
+    class Subscriptions {
+
+        @Test
+        @DisplayName("Should cancel the publisher when the subscriber cancels")
+        void shouldCancelThePublisherWhenTheSubscriberCancels() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscription upstream = new RecordingSubscription();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(upstream);
+            processor.subscribe(subscriber);
+            processor.onNext("7:30");
+
+            subscriber.subscription.cancel();
+            subscriber.subscription.request(1);
+            processor.onComplete();
+
+            assertTrue(upstream.cancelled);
+            assertTrue(subscriber.items.isEmpty());
+            assertFalse(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("Should report a rejected drain to a subscriber attached later")
+        void shouldReportARejectedDrainToASubscriberAttachedLater() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, REJECTING, 8);
+            RecordingSubscription upstream = new RecordingSubscription();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            processor.onSubscribe(upstream);
+            processor.onNext("7:30");
+
+            processor.subscribe(subscriber);
+            processor.onComplete();
+
+            assertTrue(upstream.cancelled);
+            assertInstanceOf(RejectedExecutionException.class, subscriber.error);
+            assertEquals(0, subscriber.terminated.getCount());
+            assertTrue(subscriber.items.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report a rejected drain to the attached subscriber once")
+        void shouldReportARejectedDrainToTheAttachedSubscriberOnce() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, REJECTING, 8);
+            List<Throwable> errors = new ArrayList<>();
+            RecordingSubscriber subscriber = new RecordingSubscriber() {
+                @Override
+                public void onError(Throwable throwable) {
+                    errors.add(throwable);
+                    super.onError(throwable);
+                }
+            };
+
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new RecordingSubscription());
+            processor.onNext("7:30");
+            subscriber.subscription.request(1);
+
+            assertEquals(1, errors.size());
+            assertInstanceOf(RejectedExecutionException.class, errors.get(0));
+        }
+
+        @Test
+        @DisplayName("Should reject a second subscriber")
+        void shouldRejectSecondSubscriber() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscriber second = new RecordingSubscriber();
+            processor.subscribe(new RecordingSubscriber());
+
+            processor.subscribe(second);
+
+            assertNotNull(second.subscription);
+            assertInstanceOf(IllegalStateException.class, second.error);
+        }
+
+        @Test
+        @DisplayName("Should cancel a second subscription from the publisher")
+        void shouldCancelSecondSubscriptionFromThePublisher() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+            RecordingSubscription second = new RecordingSubscription();
+            processor.onSubscribe(new RecordingSubscription());
+
+            processor.onSubscribe(second);
+
+            assertTrue(second.cancelled);
+            assertEquals(0, second.requested);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null signals")
+        void shouldThrowExceptionForNullSignals() {
+            SpokenTimeProcessor<String> processor = SpokenTimeProcessor.ofTimeStrings(CONVERTER, DIRECT, 8);
+
+            assertThrows(NullPointerException.class, () -> processor.subscribe(null));
+            assertThrows(NullPointerException.class, () -> processor.onSubscribe(null));
+            assertThrows(NullPointerException.class, () -> processor.onNext(null));
+            assertThrows(NullPointerException.class, () -> processor.onError(null));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid arguments")
+        void shouldThrowExceptionForInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> SpokenTimeProcessor.ofTimeStrings(null));
+            assertThrows(IllegalArgumentException.class, () -> SpokenTimeProcessor.ofMinutesOfDay(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> SpokenTimeProcessor.ofTimeStrings(CONVERTER, null, 8));
+            assertThrows(IllegalArgumentException.class,
+                    () -> SpokenTimeProcessor.ofMinutesOfDay(CONVERTER, DIRECT, 0));
+            assertEquals(Flow.defaultBufferSize(), SpokenTimeProcessor.ofTimeStrings(CONVERTER).capacity());
+        }
+
+    }
+
+}
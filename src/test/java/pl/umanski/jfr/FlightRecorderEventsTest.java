@@ -0,0 +1,250 @@
+package pl.umanski.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.umanski.batch.MappedFileConverter;
+import pl.umanski.batch.ParallelFileConverter;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParser;
+import pl.umanski.strategy.ExactHourStrategy;
+import pl.umanski.strategy.PastTimeStrategy;
+import pl.umanski.strategy.ToTimeStrategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Flight Recorder Events Test")
+class FlightRecorderEventsTest {
+
+    private static final String PARSE = "pl.umanski.Parse";
+    private static final String CONVERT = "pl.umanski.Convert";
+    private static final String BATCH = "pl.umanski.Batch";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should disable every event by default")
+    void shouldDisableEveryEventByDefault() {
+        assertFalse(EventType.getEventType(ParseEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(ConvertEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(BatchEvent.class).isEnabled());
+    }
+
+    @Test
+    @DisplayName("Should not record events that are not enabled")
+    void shouldNotRecordEventsThatAreNotEnabled() throws IOException {
+        List<RecordedEvent> events = record(PARSE,
+                () -> new BritishSpokenTimeConverter().convert(TimeParser.parse("7:15")));
+
+        assertEquals(1, events.size());
+        assertEquals(PARSE, events.get(0).getEventType().getName());
+    }
+
+    @Test
+    @DisplayName("Should begin events while the flight recorder is running")
+    void shouldBeginEventsWhileTheFlightRecorderIsRunning() {
+        try (Recording recording = new Recording()) {
+            recording.start();
+
+            assertTrue(FlightRecording.isActive());
+            assertNotNull(FlightRecording.beginParse());
+            assertNotNull(FlightRecording.beginConvert());
+            assertNotNull(FlightRecording.beginBatch());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not load event classes when converting without the flight recorder")
+    void shouldNotLoadEventClassesWhenConvertingWithoutTheFlightRecorder() throws Exception {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-verbose:class",
+                "-cp", System.getProperty("java.class.path"), "pl.umanski.Main", "7:30")
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes());
+
+        assertEquals(0, process.waitFor());
+        assertTrue(output.contains("Spoken time: half past seven AM"));
+        assertFalse(output.contains("jdk.jfr.Event "));
+    }
+
+    @Nested
+    @DisplayName("Parse events")
+    class ParseEvents {
+
+        @Test
+        @DisplayName("Should record input length and minute of day of parsed time")
+        void shouldRecordInputLengthAndMinuteOfDayOfParsedTime() throws IOException {
+            List<RecordedEvent> events = record(PARSE, () -> TimeParser.parse(" 7:15 "));
+
+            assertEquals(1, events.size());
+            assertEquals(6, events.get(0).getInt("inputLength"));
+            assertEquals(7 * 60 + 15, events.get(0).getInt("minuteOfDay"));
+            assertNull(events.get(0).getString("failure"));
+        }
+
+        @Test
+        @DisplayName("Should record failure cause of rejected input")
+        void shouldRecordFailureCauseOfRejectedInput() throws IOException {
+            List<RecordedEvent> events = record(PARSE, () -> {
+                assertThrows(IllegalArgumentException.class, () -> TimeParser.parseMinuteOfDay("25:00"));
+                assertThrows(IllegalArgumentException.class, () -> TimeParser.parse(null));
+                assertThrows(IllegalArgumentException.class,
+                        () -> TimeParser.parseMinuteOfDay(new byte[]{'x'}, 0, 1));
+            });
+
+            assertEquals(3, events.size());
+            assertEquals("HOUR_OUT_OF_RANGE", events.get(0).getString("failure"));
+            assertEquals(-1, events.get(0).getInt("minuteOfDay"));
+            assertEquals("NULL_INPUT", events.get(1).getString("failure"));
+            assertEquals(-1, events.get(1).getInt("inputLength"));
+            assertEquals("INVALID_FORMAT", events.get(2).getString("failure"));
+            assertEquals(1, events.get(2).getInt("inputLength"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Convert events")
+    class ConvertEvents {
+
+        @Test
+        @DisplayName("Should record strategy chosen by British converter")
+        void shouldRecordStrategyChosenByBritishConverter() throws IOException {
+            SpokenTimeConverter converter = new BritishSpokenTimeConverter();
+
+            List<RecordedEvent> events = record(CONVERT, () -> {
+                converter.convert(new Time(12, 0));
+                converter.convertTo(new Time(7, 15), new StringBuilder());
+            });
+
+            assertEquals(2, events.size());
+            assertEquals(ExactHourStrategy.class.getName(), strategy(events.get(0)));
+            assertEquals(12 * 60, events.get(0).getInt("minuteOfDay"));
+            assertFalse(events.get(0).getBoolean("precomputed"));
+            assertEquals(PastTimeStrategy.class.getName(), strategy(events.get(1)));
+        }
+
+        @Test
+        @DisplayName("Should record strategy of precomputed phrase")
+        void shouldRecordStrategyOfPrecomputedPhrase() throws IOException {
+            SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+
+            List<RecordedEvent> events = record(CONVERT, () -> converter.convert(15 * 60 + 45));
+
+            assertEquals(1, events.size());
+            assertEquals(ToTimeStrategy.class.getName(), strategy(events.get(0)));
+            assertTrue(events.get(0).getBoolean("precomputed"));
+        }
+
+        private static String strategy(RecordedEvent event) {
+            return event.getClass("strategy").getName();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Batch events")
+    class BatchEvents {
+
+        @Test
+        @DisplayName("Should record size and errors of array batch")
+        void shouldRecordSizeAndErrorsOfArrayBatch() throws IOException {
+            int[] minutesOfDay = {0, 1440, 75, -1};
+
+            List<RecordedEvent> events = record(BATCH, () -> {
+                new PrecomputedSpokenTimeConverter().convertAll(minutesOfDay, new String[4]);
+                new BritishSpokenTimeConverter().convertAll(minutesOfDay, new String[4]);
+            });
+
+            assertEquals(2, events.size());
+            for (RecordedEvent event : events) {
+                assertEquals(BatchEvent.ARRAY, event.getString("source"));
+                assertEquals(4, event.getLong("size"));
+                assertEquals(2, event.getLong("errors"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should record lines, errors and input size of file batches")
+        void shouldRecordLinesErrorsAndInputSizeOfFileBatches() throws IOException {
+            Path input = Files.writeString(directory.resolve("input.txt"), "7:15\ntest\n12:00\n");
+            Path output = directory.resolve("output.txt");
+            SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+
+            List<RecordedEvent> events = record(BATCH, () -> {
+                new MappedFileConverter(converter).convert(input, output);
+                new ParallelFileConverter(converter, 2).convert(input, output);
+            });
+
+            assertEquals(2, events.size());
+            assertEquals(BatchEvent.FILE, events.get(0).getString("source"));
+            assertEquals(BatchEvent.PARALLEL_FILE, events.get(1).getString("source"));
+            for (RecordedEvent event : events) {
+                assertEquals(3, event.getLong("size"));
+                assertEquals(1, event.getLong("errors"));
+                assertEquals(Files.size(input), event.getLong("inputBytes"));
+                assertNull(event.getString("failure"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should record failure of file batch")
+        void shouldRecordFailureOfFileBatch() throws IOException {
+            Path input = directory.resolve("missing.txt");
+            Path output = directory.resolve("output.txt");
+
+            List<RecordedEvent> events = record(BATCH, () -> assertThrows(IOException.class,
+                    () -> new MappedFileConverter(new PrecomputedSpokenTimeConverter()).convert(input, output)));
+
+            assertEquals(1, events.size());
+            assertTrue(events.get(0).getString("failure").contains("NoSuchFileException"));
+        }
+
+    }
+
+    /**
+     * Runs the action in a recording with only the given event enabled and returns the recorded events
+     * of this library in start order.
+     */
+    private List<RecordedEvent> record(String eventName, ThrowingRunnable action) throws IOException {
+        Path file = directory.resolve(eventName + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            try {
+                action.run();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("pl.umanski."))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+}
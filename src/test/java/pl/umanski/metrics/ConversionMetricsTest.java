@@ -0,0 +1,248 @@
+package pl.umanski.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParseException;
+import pl.umanski.parser.TimeParseException.Reason;
+import pl.umanski.parser.TimeParser;
+import pl.umanski.strategy.*;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Conversion Metrics Test")
+class ConversionMetricsTest {
+
+    @Test
+    @DisplayName("Should throw exception when registry is null")
+    void shouldThrowExceptionWhenRegistryIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new ConversionMetrics(null, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -8, 3, 12})
+    @DisplayName("Should throw exception when latency sample interval is not a power of two")
+    void shouldThrowExceptionWhenLatencySampleIntervalIsNotAPowerOfTwo(int interval) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConversionMetrics(StrategyRegistry.defaultRegistry(), interval));
+    }
+
+    @Test
+    @DisplayName("Should time a share of operations close to the sample interval")
+    void shouldTimeAShareOfOperationsCloseToTheSampleInterval() {
+        ConversionMetrics metrics = new ConversionMetrics(StrategyRegistry.defaultRegistry(), 8);
+
+        for (int i = 0; i < 80_000; i++) {
+            metrics.parse("7:30");
+        }
+
+        assertEquals(80_000, metrics.getParseCount());
+        long timed = metrics.parseLatency().count();
+        assertTrue(timed > 8_000 && timed < 12_000, "timed operations: " + timed);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when instrumenting without converter or metrics")
+    void shouldThrowExceptionWhenInstrumentingWithoutConverterOrMetrics() {
+        assertThrows(IllegalArgumentException.class, () -> timedMetrics().instrument(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InstrumentedSpokenTimeConverter(new BritishSpokenTimeConverter(), null));
+    }
+
+    @Nested
+    @DisplayName("Parse metrics")
+    class ParseMetrics {
+
+        private final ConversionMetrics metrics = timedMetrics();
+
+        @Test
+        @DisplayName("Should count parsed and rejected strings by reason")
+        void shouldCountParsedAndRejectedStringsByReason() {
+            assertEquals(Time.of(7, 30), metrics.parse("7:30"));
+            assertEquals(7 * 60 + 45, metrics.parseMinuteOfDay("07:45"));
+            assertThrows(TimeParseException.class, () -> metrics.parse("25:00"));
+            assertThrows(TimeParseException.class, () -> metrics.parse("abc"));
+            assertThrows(TimeParseException.class, () -> metrics.parseMinuteOfDay("xyz"));
+            assertThrows(TimeParseException.class, () -> metrics.parse(""));
+
+            assertEquals(2, metrics.getParseCount());
+            assertEquals(1, metrics.parseFailureCount(Reason.HOUR_OUT_OF_RANGE));
+            assertEquals(2, metrics.parseFailureCount(Reason.INVALID_FORMAT));
+            assertEquals(1, metrics.parseFailureCount(Reason.EMPTY_INPUT));
+            assertEquals(0, metrics.parseFailureCount(Reason.MINUTE_OUT_OF_RANGE));
+            assertEquals(6, metrics.parseLatency().count());
+        }
+
+        @Test
+        @DisplayName("Should count null inputs")
+        void shouldCountNullInputs() {
+            assertThrows(TimeParseException.class, () -> metrics.parse(null));
+
+            assertEquals(1, metrics.parseFailureCount(Reason.NULL_INPUT));
+            assertEquals(1, metrics.getNullInputCount());
+            assertEquals(Map.of("NULL_INPUT", 1L, "EMPTY_INPUT", 0L, "INVALID_FORMAT", 0L,
+                    "HOUR_OUT_OF_RANGE", 0L, "MINUTE_OUT_OF_RANGE", 0L, "SECOND_OUT_OF_RANGE", 0L), metrics.getParseFailureCounts());
+        }
+
+        @Test
+        @DisplayName("Should count results of non-throwing parse")
+        void shouldCountResultsOfNonThrowingParse() {
+            assertEquals(7 * 60 + 45, metrics.tryParseMinuteOfDay("07:45"));
+            assertTrue(TimeParser.isError(metrics.tryParseMinuteOfDay("7:61")));
+            assertTrue(TimeParser.isError(metrics.tryParseMinuteOfDay(null)));
+
+            assertEquals(1, metrics.getParseCount());
+            assertEquals(1, metrics.parseFailureCount(Reason.MINUTE_OUT_OF_RANGE));
+            assertEquals(1, metrics.getNullInputCount());
+            assertEquals(3, metrics.parseLatency().count());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Conversion metrics")
+    class ConversionMetricsCounting {
+
+        @Test
+        @DisplayName("Should count conversions per strategy")
+        void shouldCountConversionsPerStrategy() {
+            ConversionMetrics metrics = timedMetrics();
+            SpokenTimeConverter converter = metrics.instrument(new BritishSpokenTimeConverter());
+
+            assertEquals("noon", converter.convert(Time.of(12, 0)));
+            assertEquals("quarter past seven AM", converter.convert(7 * 60 + 15));
+            assertEquals("It is half past one PM", converter.convertTo(Time.of(13, 30), new StringBuilder("It is "))
+                    .toString());
+            converter.convertAll(new int[]{35, 40, 1440}, new String[3]);
+
+            StrategyRegistry registry = StrategyRegistry.defaultRegistry();
+            assertEquals(1, metrics.strategyHitCount(registry.strategyFor(0)));
+            assertEquals(2, metrics.strategyHitCount(registry.strategyFor(1)));
+            assertEquals(0, metrics.strategyHitCount(registry.strategyFor(31)));
+            assertEquals(2, metrics.strategyHitCount(registry.strategyFor(35)));
+            assertEquals(5, metrics.getConversionCount());
+            assertEquals(5, metrics.convertLatency().count());
+            assertEquals(Map.of("ExactHourStrategy", 1L, "PastTimeStrategy", 2L, "DigitalTimeStrategy", 0L,
+                    "ToTimeStrategy", 2L), metrics.getStrategyHitCounts());
+        }
+
+        @Test
+        @DisplayName("Should count null times and keep the converter contract")
+        void shouldCountNullTimesAndKeepTheConverterContract() {
+            ConversionMetrics metrics = timedMetrics();
+            SpokenTimeConverter converter = metrics.instrument(new PrecomputedSpokenTimeConverter());
+
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(null));
+            assertThrows(IllegalArgumentException.class, () -> converter.convertTo(null, new StringBuilder()));
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(-1));
+
+            assertEquals(2, metrics.getNullInputCount());
+            assertEquals(0, metrics.getConversionCount());
+        }
+
+        @Test
+        @DisplayName("Should attribute conversions to strategies of a custom registry")
+        void shouldAttributeConversionsToStrategiesOfACustomRegistry() {
+            TimeFormatStrategy digital = new DigitalTimeStrategy();
+            StrategyRegistry registry = StrategyRegistry.builder()
+                    .register(new ExactHourStrategy())
+                    .register(new PastTimeStrategy())
+                    .register(digital, 31, 32, 33, 34, 36, 37, 38, 39)
+                    .register(new ToTimeStrategy())
+                    .build();
+            ConversionMetrics metrics = new ConversionMetrics(registry, 1);
+
+            metrics.instrument(new BritishSpokenTimeConverter(registry)).convert(Time.of(10, 33));
+
+            assertEquals(1, metrics.strategyHitCount(digital));
+        }
+
+        @Test
+        @DisplayName("Should count concurrent conversions exactly")
+        void shouldCountConcurrentConversionsExactly() throws Exception {
+            ConversionMetrics metrics = timedMetrics();
+            SpokenTimeConverter converter = metrics.instrument(new PrecomputedSpokenTimeConverter());
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int task = 0; task < 4; task++) {
+                    futures.add(executor.submit(() -> {
+                        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+                            converter.convert(minuteOfDay);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            assertEquals(4 * Time.MINUTES_PER_DAY, metrics.getConversionCount());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Exposition")
+    class Exposition {
+
+        @Test
+        @DisplayName("Should write Prometheus text format")
+        void shouldWritePrometheusTextFormat() {
+            ConversionMetrics metrics = timedMetrics();
+            metrics.parse("7:30");
+            assertThrows(TimeParseException.class, () -> metrics.parse("7:60"));
+            metrics.recordConversion(7 * 60 + 30, metrics.startTimer());
+
+            String text = metrics.getPrometheusText();
+
+            assertTrue(text.contains("# TYPE spoken_time_parses_total counter\nspoken_time_parses_total 1\n"));
+            assertTrue(text.contains("spoken_time_parse_failures_total{reason=\"minute_out_of_range\"} 1\n"));
+            assertTrue(text.contains("spoken_time_conversions_total{strategy=\"PastTimeStrategy\"} 1\n"));
+            assertTrue(text.contains("# TYPE spoken_time_convert_duration_seconds histogram\n"));
+            assertTrue(text.contains("spoken_time_convert_duration_seconds_bucket{le=\"1.0E-9\"} "));
+            assertTrue(text.contains("spoken_time_convert_duration_seconds_bucket{le=\"+Inf\"} 1\n"));
+            assertTrue(text.contains("spoken_time_convert_duration_seconds_count 1\n"));
+            assertTrue(text.contains("spoken_time_parse_duration_seconds_count 2\n"));
+        }
+
+        @Test
+        @DisplayName("Should expose metrics through JMX")
+        void shouldExposeMetricsThroughJmx() throws Exception {
+            ConversionMetrics metrics = timedMetrics();
+            metrics.parse("7:30");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            ObjectName name = metrics.registerMBean();
+            try {
+                assertEquals(new ObjectName(ConversionMetrics.OBJECT_NAME), name);
+                assertEquals(1L, server.getAttribute(name, "ParseCount"));
+                assertTrue(((String) server.getAttribute(name, "PrometheusText")).contains("spoken_time_parses_total 1"));
+            } finally {
+                server.unregisterMBean(name);
+            }
+        }
+
+    }
+
+    private static ConversionMetrics timedMetrics() {
+        return new ConversionMetrics(StrategyRegistry.defaultRegistry(), 1);
+    }
+
+}
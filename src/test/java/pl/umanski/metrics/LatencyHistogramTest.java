@@ -0,0 +1,87 @@
+package pl.umanski.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Latency Histogram Test")
+class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0",
+            "1, 0",
+            "2, 1",
+            "3, 2",
+            "4, 2",
+            "5, 3",
+            "1023, 10",
+            "1024, 10",
+            "1025, 11",
+            "274877906944, 38",
+            "274877906945, 39",
+            "-5, 0",
+            "9223372036854775807, 39",
+    })
+    @DisplayName("Should record latency in power of two bucket")
+    void shouldRecordLatencyInPowerOfTwoBucket(long nanos, int expectedBucket) {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(nanos);
+
+        assertEquals(1, histogram.bucketCount(expectedBucket));
+        assertEquals(1, histogram.count());
+    }
+
+    @Test
+    @DisplayName("Should keep every recorded latency within the inclusive upper bound of its bucket")
+    void shouldKeepEveryRecordedLatencyWithinTheInclusiveUpperBoundOfItsBucket() {
+        for (long nanos = 0; nanos < 5000; nanos += 7) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(nanos);
+            for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+                if (histogram.bucketCount(bucket) == 1) {
+                    assertEquals(true, nanos <= LatencyHistogram.upperBoundNanos(bucket));
+                    assertEquals(true, bucket == 0 || nanos > LatencyHistogram.upperBoundNanos(bucket - 1));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "1", "10", "20", "38"})
+    @DisplayName("Should count a latency of exactly a power of two in the bucket of that bound")
+    void shouldCountALatencyOfExactlyAPowerOfTwoInTheBucketOfThatBound(int exponent) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L << exponent);
+        StringBuilder text = new StringBuilder();
+
+        PrometheusText.histogram(text, "latency_seconds", "Latency", histogram);
+
+        String bound = "latency_seconds_bucket{le=\"" + (1L << exponent) / 1e9 + "\"} ";
+        assertTrue(text.indexOf(bound + "1\n") >= 0, text.toString());
+        if (exponent > 0) {
+            String previous = "latency_seconds_bucket{le=\"" + (1L << (exponent - 1)) / 1e9 + "\"} ";
+            assertTrue(text.indexOf(previous + "0\n") >= 0, text.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute sum and mean")
+    void shouldComputeSumAndMean() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.meanNanos());
+        histogram.record(100);
+        histogram.record(300);
+
+        assertEquals(2, histogram.count());
+        assertEquals(400, histogram.sumNanos());
+        assertEquals(200, histogram.meanNanos());
+    }
+
+}
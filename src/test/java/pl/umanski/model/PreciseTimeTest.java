@@ -0,0 +1,93 @@
+package pl.umanski.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Precise Time Record Test")
+class PreciseTimeTest {
+
+    @Nested
+    @DisplayName("Precise time creation")
+    class PreciseTimeCreation {
+
+        @Test
+        @DisplayName("Should create precise time for valid hour, minute and second")
+        void shouldCreatePreciseTimeForValidHourMinuteAndSecond() {
+            PreciseTime time = new PreciseTime(16, 7, 20);
+            assertEquals(16, time.hour());
+            assertEquals(7, time.minute());
+            assertEquals(20, time.second());
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-1, 0, 0", "24, 0, 0", "0, -1, 0", "0, 60, 0", "0, 0, -1", "0, 0, 60"})
+        @DisplayName("Should throw exception for field out of range")
+        void shouldThrowExceptionForFieldOutOfRange(int hour, int minute, int second) {
+            assertThrows(IllegalArgumentException.class, () -> new PreciseTime(hour, minute, second));
+        }
+
+        @Test
+        @DisplayName("Should report second in exception message")
+        void shouldReportSecondInExceptionMessage() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new PreciseTime(10, 30, 75));
+            assertEquals("Second must be between 0 and 59, got: 75", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should create precise time at the start of a minute")
+        void shouldCreatePreciseTimeAtTheStartOfMinute() {
+            assertEquals(new PreciseTime(7, 30, 0), PreciseTime.of(Time.of(7, 30)));
+            assertThrows(IllegalArgumentException.class, () -> PreciseTime.of(null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Second of day")
+    class SecondOfDay {
+
+        @ParameterizedTest
+        @CsvSource({"0, 0, 0, 0", "0, 0, 59, 59", "0, 1, 0, 60", "16, 7, 20, 58040", "23, 59, 59, 86399"})
+        @DisplayName("Should convert between fields and second of day")
+        void shouldConvertBetweenFieldsAndSecondOfDay(int hour, int minute, int second, int secondOfDay) {
+            PreciseTime time = new PreciseTime(hour, minute, second);
+            assertEquals(secondOfDay, time.secondOfDay());
+            assertEquals(time, PreciseTime.ofSecondOfDay(secondOfDay));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 86400})
+        @DisplayName("Should throw exception for second of day out of range")
+        void shouldThrowExceptionForSecondOfDayOutOfRange(int secondOfDay) {
+            assertThrows(IllegalArgumentException.class, () -> PreciseTime.ofSecondOfDay(secondOfDay));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Precise time properties")
+    class PreciseTimeProperties {
+
+        @Test
+        @DisplayName("Should drop seconds when converted to time")
+        void shouldDropSecondsWhenConvertedToTime() {
+            assertSame(Time.of(16, 7), new PreciseTime(16, 7, 20).toTime());
+        }
+
+        @Test
+        @DisplayName("Should recognize whole minutes")
+        void shouldRecognizeWholeMinutes() {
+            assertTrue(new PreciseTime(16, 7, 0).isWholeMinute());
+            assertFalse(new PreciseTime(16, 7, 1).isWholeMinute());
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package pl.umanski.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Time Range Test")
+class TimeRangeTest {
+
+    @Nested
+    @DisplayName("Contents")
+    class Contents {
+
+        @Test
+        @DisplayName("Should list times from start up to the excluded end")
+        void shouldListTimesFromStartUpToTheExcludedEnd() {
+            TimeRange range = Time.range(Time.of(9, 0), Time.of(10, 0), 15);
+
+            assertEquals(List.of(Time.of(9, 0), Time.of(9, 15), Time.of(9, 30), Time.of(9, 45)),
+                    range.stream().toList());
+            assertEquals(4, range.size());
+        }
+
+        @Test
+        @DisplayName("Should wrap past midnight when the end is not after the start")
+        void shouldWrapPastMidnightWhenTheEndIsNotAfterTheStart() {
+            TimeRange range = Time.range(Time.of(23, 0), Time.of(1, 0), 30);
+
+            assertEquals(List.of(Time.of(23, 0), Time.of(23, 30), Time.of(0, 0), Time.of(0, 30)),
+                    range.stream().toList());
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "1, 1440",
+                "5, 288",
+                "7, 206",
+                "1440, 1",
+                "5000, 1",
+        })
+        @DisplayName("Should cover the whole day when the end is the start")
+        void shouldCoverTheWholeDayWhenTheEndIsTheStart(int step, int expectedSize) {
+            TimeRange range = Time.range(Time.of(6, 0), Time.of(6, 0), step);
+
+            assertEquals(expectedSize, range.size());
+            assertEquals(expectedSize, range.stream().distinct().count());
+            assertSame(Time.of(6, 0), range.get(0));
+        }
+
+        @Test
+        @DisplayName("Should return canonical instances by position")
+        void shouldReturnCanonicalInstancesByPosition() {
+            TimeRange range = Time.range(Time.of(22, 0), Time.of(2, 0), 5);
+
+            for (int i = 0; i < range.size(); i++) {
+                assertSame(Time.of(22, 0).plusMinutes(5L * i), range.get(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> range.get(range.size()));
+            assertThrows(IndexOutOfBoundsException.class, () -> range.get(-1));
+        }
+
+        @Test
+        @DisplayName("Should iterate the same times as the stream")
+        void shouldIterateTheSameTimesAsTheStream() {
+            TimeRange range = Time.range(Time.of(0, 0), Time.of(0, 0), 5);
+            List<Time> iterated = new ArrayList<>();
+            Iterator<Time> iterator = range.iterator();
+            iterator.forEachRemaining(iterated::add);
+
+            assertEquals(range.stream().toList(), iterated);
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parallel streams")
+    class ParallelStreams {
+
+        @Test
+        @DisplayName("Should produce the same ordered times in parallel")
+        void shouldProduceTheSameOrderedTimesInParallel() {
+            TimeRange range = Time.range(Time.of(0, 0), Time.of(0, 0), 1);
+
+            assertEquals(range.stream().toList(), range.stream().parallel().toList());
+            assertEquals(range.stream().collect(Collectors.toSet()),
+                    range.stream().parallel().collect(Collectors.toSet()));
+        }
+
+        @Test
+        @DisplayName("Should split into sized halves")
+        void shouldSplitIntoSizedHalves() {
+            Spliterator<Time> second = Time.range(Time.of(8, 0), Time.of(9, 0), 5).spliterator();
+            Spliterator<Time> first = second.trySplit();
+
+            assertNotNull(first);
+            assertEquals(6, first.estimateSize());
+            assertEquals(6, second.estimateSize());
+            assertTrue(second.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+            assertTrue(first.tryAdvance(time -> assertSame(Time.of(8, 0), time)));
+            assertTrue(second.tryAdvance(time -> assertSame(Time.of(8, 30), time)));
+        }
+
+        @Test
+        @DisplayName("Should not split a single time")
+        void shouldNotSplitASingleTime() {
+            Spliterator<Time> spliterator = Time.range(Time.of(8, 0), Time.of(8, 1), 1).spliterator();
+
+            assertNull(spliterator.trySplit());
+            assertTrue(spliterator.tryAdvance(time -> assertSame(Time.of(8, 0), time)));
+            assertFalse(spliterator.tryAdvance(time -> fail()));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Invalid arguments")
+    class InvalidArguments {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -5})
+        @DisplayName("Should throw exception when step is not positive")
+        void shouldThrowExceptionWhenStepIsNotPositive(int step) {
+            assertThrows(IllegalArgumentException.class, () -> Time.range(Time.of(8, 0), Time.of(9, 0), step));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when from or to is null")
+        void shouldThrowExceptionWhenFromOrToIsNull() {
+            assertThrows(IllegalArgumentException.class, () -> Time.range(null, Time.of(9, 0), 5));
+            assertThrows(IllegalArgumentException.class, () -> Time.range(Time.of(8, 0), null, 5));
+        }
+
+    }
+
+}
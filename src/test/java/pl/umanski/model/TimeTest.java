@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -185,4 +186,93 @@ class TimeTest {
 
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("Canonical instances")
+    class CanonicalInstances {
+
+        @Test
+        @DisplayName("Should return the same instance for the same hour and minute")
+        void shouldReturnTheSameInstanceForTheSameHourAndMinute() {
+            assertSame(Time.of(7, 30), Time.of(7, 30));
+            assertEquals(new Time(7, 30), Time.of(7, 30));
+        }
+
+        @Test
+        @DisplayName("Should return the same instance for hour and minute and for minute of day")
+        void shouldReturnTheSameInstanceForHourAndMinuteAndForMinuteOfDay() {
+            for (int hour = 0; hour < 24; hour++) {
+                for (int minute = 0; minute < 60; minute++) {
+                    Time time = Time.of(hour, minute);
+                    assertSame(time, Time.ofMinuteOfDay(time.minuteOfDay()));
+                    assertEquals(hour * 60 + minute, time.minuteOfDay());
+                }
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 1440, Integer.MIN_VALUE, Integer.MAX_VALUE})
+        @DisplayName("Should throw exception for minute of day out of range")
+        void shouldThrowExceptionForMinuteOfDayOutOfRange(int minuteOfDay) {
+            assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(minuteOfDay));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for hour or minute out of range")
+        void shouldThrowExceptionForHourOrMinuteOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> Time.of(24, 0));
+            assertThrows(IllegalArgumentException.class, () -> Time.of(0, 60));
+            assertThrows(IllegalArgumentException.class, () -> Time.of(-1, 0));
+            assertThrows(IllegalArgumentException.class, () -> Time.of(0, -1));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Arithmetic")
+    class Arithmetic {
+
+        @ParameterizedTest
+        @CsvSource({
+                "7, 30, 15, 7, 45",
+                "7, 30, 0, 7, 30",
+                "23, 55, 10, 0, 5",
+                "0, 5, -10, 23, 55",
+                "12, 0, 1440, 12, 0",
+                "12, 0, 2890, 12, 10",
+                "12, 0, -2890, 11, 50",
+        })
+        @DisplayName("Should add minutes wrapping around at midnight")
+        void shouldAddMinutesWrappingAroundAtMidnight(int hour, int minute, long minutes,
+                                                      int expectedHour, int expectedMinute) {
+            assertSame(Time.of(expectedHour, expectedMinute), Time.of(hour, minute).plusMinutes(minutes));
+            assertSame(Time.of(expectedHour, expectedMinute), Time.of(hour, minute).minusMinutes(-minutes));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "0, 5, 10, 23, 55",
+                "7, 45, 15, 7, 30",
+                "12, 0, 1441, 11, 59",
+        })
+        @DisplayName("Should subtract minutes wrapping around at midnight")
+        void shouldSubtractMinutesWrappingAroundAtMidnight(int hour, int minute, long minutes,
+                                                           int expectedHour, int expectedMinute) {
+            assertSame(Time.of(expectedHour, expectedMinute), Time.of(hour, minute).minusMinutes(minutes));
+        }
+
+        @Test
+        @DisplayName("Should not overflow for extreme numbers of minutes")
+        void shouldNotOverflowForExtremeNumbersOfMinutes() {
+            Time time = Time.of(7, 30);
+
+            assertEquals(Math.floorMod(Math.floorMod(Long.MAX_VALUE, 1440L) + 450, 1440L),
+                    time.plusMinutes(Long.MAX_VALUE).minuteOfDay());
+            assertEquals(Math.floorMod(Math.floorMod(Long.MIN_VALUE, 1440L) + 450, 1440L),
+                    time.plusMinutes(Long.MIN_VALUE).minuteOfDay());
+            assertSame(Time.of(18, 8), Time.of(0, 1).plusMinutes(Long.MAX_VALUE));
+            assertSame(time.plusMinutes(-(Long.MIN_VALUE % 1440)), time.minusMinutes(Long.MIN_VALUE));
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package pl.umanski.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.converter.SpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParseException.Reason;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Spoken Time Parser Test")
+class SpokenTimeParserTest {
+
+    private final SpokenTimeParser parser = new SpokenTimeParser();
+
+    @Test
+    @DisplayName("Should round-trip every minute of the day with British converter")
+    void shouldRoundTripEveryMinuteOfTheDayWithBritishConverter() {
+        SpokenTimeConverter converter = new BritishSpokenTimeConverter();
+
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            assertEquals(minuteOfDay, parser.parseMinuteOfDay(converter.convert(minuteOfDay)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should round-trip every minute of the day with the converter it was built from")
+    void shouldRoundTripEveryMinuteOfTheDayWithTheConverterItWasBuiltFrom() {
+        SpokenTimeConverter converter = new PrecomputedSpokenTimeConverter();
+        SpokenTimeParser precomputedParser = new SpokenTimeParser(converter);
+
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            assertSame(Time.ofMinuteOfDay(minuteOfDay), precomputedParser.parse(converter.convert(minuteOfDay)));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "twenty five to five PM, 16, 35",
+            "quarter past noon, 12, 15",
+            "midnight, 0, 0",
+            "noon, 12, 0",
+            "nine o'clock AM, 9, 0",
+            "midnight thirty one, 0, 31",
+            "one to midnight, 23, 59",
+            "half past two PM, 14, 30"
+    })
+    @DisplayName("Should parse spoken time")
+    void shouldParseSpokenTime(String phrase, int hour, int minute) {
+        assertEquals(new Time(hour, minute), parser.parse(phrase));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Twenty Five To Five pm", "  twenty five   to\tfive PM \n", "TWENTY FIVE TO FIVE PM"})
+    @DisplayName("Should ignore case and extra whitespace")
+    void shouldIgnoreCaseAndExtraWhitespace(String phrase) {
+        assertEquals(16 * 60 + 35, parser.parseMinuteOfDay(phrase));
+    }
+
+    @Test
+    @DisplayName("Should parse region of a longer text")
+    void shouldParseRegionOfLongerText() {
+        String transcript = "caller said quarter past noon, twice";
+
+        assertEquals(12 * 60 + 15, parser.parseMinuteOfDay(transcript, 12, 17));
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parseMinuteOfDay(transcript, 30, 10));
+    }
+
+    @Nested
+    @DisplayName("Invalid input")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("Should throw exception for null input")
+        void shouldThrowExceptionForNullInput() {
+            TimeParseException exception = assertThrows(TimeParseException.class, () -> parser.parse(null));
+            assertEquals(Reason.NULL_INPUT, exception.reason());
+            assertEquals("Time string cannot be null", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "   ", "\t\n"})
+        @DisplayName("Should throw exception for empty input")
+        void shouldThrowExceptionForEmptyInput(String phrase) {
+            TimeParseException exception = assertThrows(TimeParseException.class, () -> parser.parse(phrase));
+            assertEquals(Reason.EMPTY_INPUT, exception.reason());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "quarter past", "quarter past noon PM", "noo", "noonx", "thirty five past one AM",
+                "midnight AM", "twelve o'clock PM", "10:30", "quarter-past noon"
+        })
+        @DisplayName("Should throw exception for phrase the converter does not produce")
+        void shouldThrowExceptionForPhraseTheConverterDoesNotProduce(String phrase) {
+            TimeParseException exception = assertThrows(TimeParseException.class, () -> parser.parse(phrase));
+            assertEquals(Reason.INVALID_FORMAT, exception.reason());
+            assertEquals("Unrecognized spoken time", exception.getMessage());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("Should throw exception when converter is null")
+        void shouldThrowExceptionWhenConverterIsNull() {
+            assertThrows(IllegalArgumentException.class, () -> new SpokenTimeParser(null));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when converter produces the same phrase twice")
+        void shouldThrowExceptionWhenConverterProducesTheSamePhraseTwice() {
+            SpokenTimeConverter converter = (time, target) -> target.append(time.hour() == 23 ? "late" : "x" + time);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new SpokenTimeParser(converter));
+            assertTrue(exception.getMessage().contains("is produced for both time"));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when converter produces an empty phrase")
+        void shouldThrowExceptionWhenConverterProducesAnEmptyPhrase() {
+            SpokenTimeConverter converter = (time, target) -> target.append(time.minute() == 59 ? " " : "x" + time);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new SpokenTimeParser(converter));
+            assertTrue(exception.getMessage().contains("cannot be empty"));
+        }
+
+        @Test
+        @DisplayName("Should index British phrases in a compact trie")
+        void shouldIndexBritishPhrasesInCompactTrie() {
+            assertTrue(parser.nodeCount() < 8000);
+        }
+
+    }
+
+}
@@ -1,13 +1,20 @@
 package pl.umanski.parser;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.model.PreciseTime;
 import pl.umanski.model.Time;
+import pl.umanski.parser.TimeParseException.Reason;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Time Parser Test")
 class TimeParserTest {
@@ -80,4 +87,258 @@ class TimeParserTest {
         assertThrows(IllegalArgumentException.class, () -> TimeParser.parse(input));
     }
 
+    @Test
+    @DisplayName("Should return canonical time instance")
+    void shouldReturnCanonicalTimeInstance() {
+        assertSame(Time.of(10, 30), TimeParser.parse("10:30"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "25:70|Hour must be between 0 and 23, got: 25",
+            "10:60|Minute must be between 0 and 59, got: 60",
+            "10|Invalid time format",
+            "1:3|Invalid time format",
+            "123:45|Invalid time format",
+            "10-30|Invalid time format",
+            "'   '|Time string cannot be empty"
+    })
+    @DisplayName("Should keep error messages for invalid input")
+    void shouldKeepErrorMessagesForInvalidInput(String input, String expectedMessage) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> TimeParser.parse(input));
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "25:70|HOUR_OUT_OF_RANGE",
+            "10:60|MINUTE_OUT_OF_RANGE",
+            "10-30|INVALID_FORMAT",
+            "'   '|EMPTY_INPUT"
+    })
+    @DisplayName("Should report reason of rejected input")
+    void shouldReportReasonOfRejectedInput(String input, TimeParseException.Reason expectedReason) {
+        TimeParseException exception = assertThrows(TimeParseException.class, () -> TimeParser.parse(input));
+        assertEquals(expectedReason, exception.reason());
+    }
+
+    @Test
+    @DisplayName("Should report null input reason")
+    void shouldReportNullInputReason() {
+        assertEquals(TimeParseException.Reason.NULL_INPUT,
+                assertThrows(TimeParseException.class, () -> TimeParser.parse(null)).reason());
+        assertEquals(TimeParseException.Reason.NULL_INPUT,
+                assertThrows(TimeParseException.class, () -> TimeParser.parseMinuteOfDay((byte[]) null, 0, 0)).reason());
+    }
+
+    @Nested
+    @DisplayName("Minute of day parsing")
+    class MinuteOfDayParsing {
+
+        private static final Pattern TIME_PATTERN = Pattern.compile("^(\\d{1,2}):(\\d{2})$");
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "10:30|0|5|630",
+                "at 7:05 sharp|3|4|425",
+                "x 23:59 |1|6|1439",
+                "00:00|0|5|0"
+        })
+        @DisplayName("Should parse region of character sequence")
+        void shouldParseRegionOfCharacterSequence(String text, int offset, int length, int expected) {
+            assertEquals(expected, TimeParser.parseMinuteOfDay(new StringBuilder(text), offset, length));
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "10:30|0|5|630",
+                "at 7:05 sharp|3|4|425",
+                "12:00 x|0|6|720"
+        })
+        @DisplayName("Should parse region of bytes")
+        void shouldParseRegionOfBytes(String text, int offset, int length, int expected) {
+            byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, TimeParser.parseMinuteOfDay(bytes, offset, length));
+        }
+
+        @Test
+        @DisplayName("Should ignore carriage return at the end of a line of bytes")
+        void shouldIgnoreCarriageReturnAtTheEndOfLineOfBytes() {
+            byte[] bytes = "8:45\r\n".getBytes(StandardCharsets.US_ASCII);
+            assertEquals(525, TimeParser.parseMinuteOfDay(bytes, 0, bytes.length));
+        }
+
+        @Test
+        @DisplayName("Should parse whole character sequence")
+        void shouldParseWholeCharacterSequence() {
+            assertEquals(1170, TimeParser.parseMinuteOfDay(" 19:30 "));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null input")
+        void shouldThrowExceptionForNullInput() {
+            assertThrows(IllegalArgumentException.class, () -> TimeParser.parseMinuteOfDay(null));
+            assertThrows(IllegalArgumentException.class, () -> TimeParser.parseMinuteOfDay((CharSequence) null, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> TimeParser.parseMinuteOfDay((byte[]) null, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for region outside of input")
+        void shouldThrowExceptionForRegionOutsideOfInput() {
+            assertThrows(IndexOutOfBoundsException.class, () -> TimeParser.parseMinuteOfDay("10:30", 2, 5));
+            assertThrows(IndexOutOfBoundsException.class, () -> TimeParser.parseMinuteOfDay(new byte[4], -1, 2));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0:00", "9:59", "09:59", "23:59", "24:00", "7:60", "99:99", "1:5", "1:555", "111:55",
+                "1;55", ":155", "a1:55", "1a:55", "11:5a", "\u0661:30", " 1:30", "1:30\n", "1 :30", ""})
+        @DisplayName("Should accept exactly the inputs accepted by the regular expression")
+        void shouldAcceptExactlyTheInputsAcceptedByTheRegularExpression(String input) {
+            Matcher matcher = TIME_PATTERN.matcher(input.trim());
+            boolean expectedValid = matcher.matches()
+                    && Integer.parseInt(matcher.group(1)) <= 23
+                    && Integer.parseInt(matcher.group(2)) <= 59;
+
+            boolean valid;
+            try {
+                int minuteOfDay = TimeParser.parseMinuteOfDay(input, 0, input.length());
+                assertEquals(Integer.parseInt(matcher.group(1)) * 60 + Integer.parseInt(matcher.group(2)), minuteOfDay);
+                valid = true;
+            } catch (IllegalArgumentException e) {
+                valid = false;
+            }
+            assertEquals(expectedValid, valid);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Non-throwing parsing")
+    class NonThrowingParsing {
+
+        @ParameterizedTest
+        @CsvSource({
+                "0:00, 0",
+                "7:15, 435",
+                "' 23:59 ', 1439"
+        })
+        @DisplayName("Should return minute of day of valid time")
+        void shouldReturnMinuteOfDayOfValidTime(String input, int expected) {
+            int result = TimeParser.tryParseMinuteOfDay(input);
+
+            assertFalse(TimeParser.isError(result));
+            assertEquals(expected, result);
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, TimeParser.tryParseMinuteOfDay(bytes, 0, bytes.length));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "abc, INVALID_FORMAT, Invalid time format",
+                "'', EMPTY_INPUT, Time string cannot be empty",
+                "25:00, HOUR_OUT_OF_RANGE, 'Hour must be between 0 and 23, got: 25'",
+                "7:99, MINUTE_OUT_OF_RANGE, 'Minute must be between 0 and 59, got: 99'"
+        })
+        @DisplayName("Should return error code with the reason and message of the exception")
+        void shouldReturnErrorCodeWithTheReasonAndMessageOfTheException(String input, Reason reason, String message) {
+            int result = TimeParser.tryParseMinuteOfDay(input);
+
+            assertTrue(TimeParser.isError(result));
+            assertTrue(result < 0);
+            assertEquals(reason, TimeParser.errorReason(result));
+            assertEquals(message, TimeParser.errorMessage(result));
+
+            TimeParseException exception = assertThrows(TimeParseException.class,
+                    () -> TimeParser.parseMinuteOfDay(input));
+            assertEquals(reason, exception.reason());
+            assertEquals(message, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should return error code for null input")
+        void shouldReturnErrorCodeForNullInput() {
+            assertEquals(Reason.NULL_INPUT, TimeParser.errorReason(TimeParser.tryParseMinuteOfDay(null)));
+            assertEquals(Reason.NULL_INPUT, TimeParser.errorReason(TimeParser.tryParseMinuteOfDay((byte[]) null, 0, 0)));
+            assertEquals("Time string cannot be null", TimeParser.errorMessage(TimeParser.tryParseMinuteOfDay(null)));
+        }
+
+        @Test
+        @DisplayName("Should still throw exception for region outside of input")
+        void shouldStillThrowExceptionForRegionOutsideOfInput() {
+            assertThrows(IndexOutOfBoundsException.class, () -> TimeParser.tryParseMinuteOfDay("10:30", 2, 5));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1439, 5000})
+        @DisplayName("Should reject minute of day passed as error code")
+        void shouldRejectMinuteOfDayPassedAsErrorCode(int result) {
+            assertThrows(IllegalArgumentException.class, () -> TimeParser.errorMessage(result));
+            assertThrows(IllegalArgumentException.class, () -> TimeParser.errorReason(result));
+        }
+
+    }
+
+
+    @Nested
+    @DisplayName("Parsing with seconds")
+    class ParsingWithSeconds {
+
+        @ParameterizedTest
+        @CsvSource({
+                "0:00:00, 0",
+                "16:07:20, 58040",
+                "7:07:20, 25640",
+                "' 23:59:59 ', 86399",
+                "16:07, 58020",
+                "7:07, 25620"
+        })
+        @DisplayName("Should return second of day of valid time")
+        void shouldReturnSecondOfDayOfValidTime(String input, int expected) {
+            assertEquals(expected, TimeParser.tryParseSecondOfDay(input));
+            assertEquals(expected, TimeParser.parseSecondOfDay(input));
+            assertEquals(PreciseTime.ofSecondOfDay(expected), TimeParser.parsePreciseTime(input));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "7:30:5, INVALID_FORMAT, Invalid time format",
+                "7:30:5x, INVALID_FORMAT, Invalid time format",
+                "7:30 :15, INVALID_FORMAT, Invalid time format",
+                "7:30-15, INVALID_FORMAT, Invalid time format",
+                "7:30:15:00, INVALID_FORMAT, Invalid time format",
+                "'  ', EMPTY_INPUT, Time string cannot be empty",
+                "25:00:99, HOUR_OUT_OF_RANGE, 'Hour must be between 0 and 23, got: 25'",
+                "7:99:99, MINUTE_OUT_OF_RANGE, 'Minute must be between 0 and 59, got: 99'",
+                "7:30:60, SECOND_OUT_OF_RANGE, 'Second must be between 0 and 59, got: 60'"
+        })
+        @DisplayName("Should reject invalid time with the reason and message of the exception")
+        void shouldRejectInvalidTimeWithTheReasonAndMessageOfTheException(String input, Reason reason,
+                                                                          String message) {
+            int result = TimeParser.tryParseSecondOfDay(input);
+
+            assertTrue(TimeParser.isError(result));
+            assertEquals(reason, TimeParser.errorReason(result));
+            assertEquals(message, TimeParser.errorMessage(result));
+
+            TimeParseException exception = assertThrows(TimeParseException.class,
+                    () -> TimeParser.parsePreciseTime(input));
+            assertEquals(reason, exception.reason());
+            assertEquals(message, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject null input")
+        void shouldRejectNullInput() {
+            assertEquals(Reason.NULL_INPUT, TimeParser.errorReason(TimeParser.tryParseSecondOfDay(null)));
+            assertThrows(TimeParseException.class, () -> TimeParser.parsePreciseTime(null));
+        }
+
+        @Test
+        @DisplayName("Should still reject seconds when parsing minute of day")
+        void shouldStillRejectSecondsWhenParsingMinuteOfDay() {
+            assertTrue(TimeParser.isError(TimeParser.tryParseMinuteOfDay("7:30:15")));
+        }
+
+    }
+
 }
@@ -0,0 +1,52 @@
+package pl.umanski.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Server Config Test")
+class ServerConfigTest {
+
+    @Test
+    @DisplayName("Should provide local sidecar defaults")
+    void shouldProvideLocalSidecarDefaults() {
+        ServerConfig config = ServerConfig.defaults();
+
+        assertEquals("127.0.0.1", config.host());
+        assertEquals(8080, config.port());
+        assertEquals(1 << 20, config.maxRequestBytes());
+        assertEquals(30, config.keepAliveSeconds());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when host is null")
+    void shouldThrowExceptionWhenHostIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfig(null, 0, 1024, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 65536})
+    @DisplayName("Should throw exception when port is out of range")
+    void shouldThrowExceptionWhenPortIsOutOfRange(int port) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ServerConfig("localhost", port, 1024, 0));
+        assertEquals("Port must be between 0 and 65535, got: " + port, exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, ServerConfig.MAX_REQUEST_BYTES_LIMIT + 1})
+    @DisplayName("Should throw exception when max request bytes is out of range")
+    void shouldThrowExceptionWhenMaxRequestBytesIsOutOfRange(int maxRequestBytes) {
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfig("localhost", 0, maxRequestBytes, 0));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when keep-alive is negative")
+    void shouldThrowExceptionWhenKeepAliveIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfig("localhost", 0, 1024, -1));
+    }
+
+}
@@ -0,0 +1,228 @@
+package pl.umanski.server;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.converter.PrecomputedSpokenTimeConverter;
+import pl.umanski.metrics.ConversionMetrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Spoken Time Server Test")
+class SpokenTimeServerTest {
+
+    private static final int MAX_REQUEST_BYTES = 64;
+
+    private static SpokenTimeServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = SpokenTimeServer.start(new PrecomputedSpokenTimeConverter(),
+                new ServerConfig("127.0.0.1", 0, MAX_REQUEST_BYTES, 5));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when converter or config is null")
+    void shouldThrowExceptionWhenConverterOrConfigIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> SpokenTimeServer.start(null, ServerConfig.defaults()));
+        assertThrows(IllegalArgumentException.class,
+                () -> SpokenTimeServer.start(new BritishSpokenTimeConverter(), null));
+    }
+
+    @Nested
+    @DisplayName("Single time endpoint")
+    class SingleTimeEndpoint {
+
+        @ParameterizedTest
+        @CsvSource({
+                "7:30, half past seven AM",
+                "07%3A30, half past seven AM",
+                "12:00, noon",
+                "%2023:45%20, quarter to midnight",
+        })
+        @DisplayName("Should respond with spoken time")
+        void shouldRespondWithSpokenTime(String time, String expected) throws Exception {
+            HttpResponse<String> response = get("/convert?time=" + time);
+
+            assertEquals(200, response.statusCode());
+            assertEquals(expected, response.body());
+            assertEquals("text/plain; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "/convert?time=25:00, 'Hour must be between 0 and 23, got: 25'",
+                "/convert?time=abc, Invalid time format",
+                "/convert?time=, Time string cannot be empty",
+                "/convert?other=7:30, 'Missing query parameter: time'",
+                "/convert, 'Missing query parameter: time'",
+        })
+        @DisplayName("Should respond with bad request for invalid time")
+        void shouldRespondWithBadRequestForInvalidTime(String path, String expected) throws Exception {
+            HttpResponse<String> response = get(path);
+
+            assertEquals(400, response.statusCode());
+            assertEquals(expected, response.body());
+        }
+
+        @Test
+        @DisplayName("Should respond with method not allowed for POST")
+        void shouldRespondWithMethodNotAllowedForPost() throws Exception {
+            HttpResponse<String> response = post("/convert?time=7:30", "");
+
+            assertEquals(405, response.statusCode());
+            assertEquals("GET", response.headers().firstValue("Allow").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should respond with not found for unknown path")
+        void shouldRespondWithNotFoundForUnknownPath() throws Exception {
+            assertEquals(404, get("/convert/unknown").statusCode());
+            assertEquals(404, get("/other").statusCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Batch endpoint")
+    class BatchEndpoint {
+
+        @Test
+        @DisplayName("Should respond with one line per request line")
+        void shouldRespondWithOneLinePerRequestLine() throws Exception {
+            HttpResponse<String> response = post("/convert/batch", "7:15\nabc\n\n12:00");
+
+            assertEquals(200, response.statusCode());
+            assertEquals("""
+                    quarter past seven AM
+                    Error: line 2: Invalid time format
+                    Error: line 3: Time string cannot be empty
+                    noon
+                    """, response.body());
+            assertEquals("2", response.headers().firstValue(SpokenTimeServer.ERRORS_HEADER).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should accept CRLF line endings")
+        void shouldAcceptCrlfLineEndings() throws Exception {
+            HttpResponse<String> response = post("/convert/batch", "0:00\r\n23:59\r\n");
+
+            assertEquals("midnight\none to midnight\n", response.body());
+            assertEquals("0", response.headers().firstValue(SpokenTimeServer.ERRORS_HEADER).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should respond with empty body for empty request")
+        void shouldRespondWithEmptyBodyForEmptyRequest() throws Exception {
+            HttpResponse<String> response = post("/convert/batch", "");
+
+            assertEquals(200, response.statusCode());
+            assertEquals("", response.body());
+        }
+
+        @Test
+        @DisplayName("Should accept request of exactly the maximum size")
+        void shouldAcceptRequestOfExactlyTheMaximumSize() throws Exception {
+            HttpResponse<String> response = post("/convert/batch", "1:00\n".repeat(MAX_REQUEST_BYTES / 5)
+                    + "x".repeat(MAX_REQUEST_BYTES % 5));
+
+            assertEquals(200, response.statusCode());
+        }
+
+        @Test
+        @DisplayName("Should reject request larger than the maximum size")
+        void shouldRejectRequestLargerThanTheMaximumSize() throws Exception {
+            HttpResponse<String> response = post("/convert/batch", "1:00\n".repeat(MAX_REQUEST_BYTES / 5 + 1));
+
+            assertEquals(413, response.statusCode());
+            assertEquals("Request body exceeds 64 bytes", response.body());
+        }
+
+        @Test
+        @DisplayName("Should respond with method not allowed for GET")
+        void shouldRespondWithMethodNotAllowedForGet() throws Exception {
+            HttpResponse<String> response = get("/convert/batch");
+
+            assertEquals(405, response.statusCode());
+            assertEquals("POST", response.headers().firstValue("Allow").orElseThrow());
+        }
+
+    }
+
+    @Test
+    @DisplayName("Should close connection after response when keep-alive is disabled")
+    void shouldCloseConnectionAfterResponseWhenKeepAliveIsDisabled() throws Exception {
+        try (SpokenTimeServer noKeepAlive = SpokenTimeServer.start(new BritishSpokenTimeConverter(),
+                new ServerConfig("127.0.0.1", 0, 1024, 0))) {
+            URI uri = URI.create("http://127.0.0.1:" + noKeepAlive.address().getPort() + "/convert?time=9:00");
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals("nine o'clock AM", response.body());
+            assertEquals("close", response.headers().firstValue("Connection").orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("Should record requests in metrics and serve them")
+    void shouldRecordRequestsInMetricsAndServeThem() throws Exception {
+        ConversionMetrics metrics = new ConversionMetrics();
+        try (SpokenTimeServer measured = SpokenTimeServer.start(new PrecomputedSpokenTimeConverter(),
+                new ServerConfig("127.0.0.1", 0, 1024, 5), metrics)) {
+            String base = "http://127.0.0.1:" + measured.address().getPort();
+            client.send(HttpRequest.newBuilder(URI.create(base + "/convert?time=7:30")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            client.send(HttpRequest.newBuilder(URI.create(base + "/convert/batch"))
+                            .POST(HttpRequest.BodyPublishers.ofString("0:00\n24:00\n")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertEquals(ConversionMetrics.PROMETHEUS_CONTENT_TYPE,
+                    response.headers().firstValue("Content-Type").orElseThrow());
+            assertTrue(response.body().contains("spoken_time_parses_total 2\n"));
+            assertTrue(response.body().contains("spoken_time_parse_failures_total{reason=\"hour_out_of_range\"} 1\n"));
+            assertTrue(response.body().contains("spoken_time_conversions_total{strategy=\"ExactHourStrategy\"} 1\n"));
+            assertTrue(response.body().contains("spoken_time_conversions_total{strategy=\"PastTimeStrategy\"} 1\n"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not serve metrics when started without them")
+    void shouldNotServeMetricsWhenStartedWithoutThem() throws Exception {
+        assertEquals(404, get("/metrics").statusCode());
+        assertThrows(IllegalArgumentException.class,
+                () -> SpokenTimeServer.start(new BritishSpokenTimeConverter(), ServerConfig.defaults(), null));
+    }
+
+    private static HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.address().getPort() + path);
+    }
+
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @DisplayName("Digital Time Strategy Test")
 class DigitalTimeStrategyTest {
@@ -60,4 +62,31 @@ class DigitalTimeStrategyTest {
         assertEquals(expected, strategy.format(time));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "12, 31, noon thirty one",
+            "0, 39, midnight thirty nine",
+            "16, 36, four thirty six PM",
+    })
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent(int hour, int minute, String expected) {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(hour, minute), target));
+        assertEquals("Spoken time: " + expected, target.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "7, 32, seven thirty two",
+            "16, 36, four thirty six",
+            "12, 31, noon thirty one",
+    })
+    @DisplayName("Should omit the period when created without it")
+    void shouldOmitThePeriodWhenCreatedWithoutIt(int hour, int minute, String expected) {
+        TimeFormatStrategy withoutPeriod = new DigitalTimeStrategy(TimeVocabularies.defaultVocabulary(), false);
+
+        assertEquals(expected, withoutPeriod.format(new Time(hour, minute)));
+    }
+
 }
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @DisplayName("Exact Hour Strategy Test")
 class ExactHourStrategyTest {
@@ -59,4 +61,31 @@ class ExactHourStrategyTest {
         assertEquals(expected, strategy.format(time));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "12, 0, noon",
+            "0, 0, midnight",
+            "17, 0, five o'clock PM",
+    })
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent(int hour, int minute, String expected) {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(hour, minute), target));
+        assertEquals("Spoken time: " + expected, target.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "5, 0, five o'clock",
+            "17, 0, five o'clock",
+            "12, 0, noon",
+    })
+    @DisplayName("Should omit the period when created without it")
+    void shouldOmitThePeriodWhenCreatedWithoutIt(int hour, int minute, String expected) {
+        TimeFormatStrategy withoutPeriod = new ExactHourStrategy(TimeVocabularies.defaultVocabulary(), false);
+
+        assertEquals(expected, withoutPeriod.format(new Time(hour, minute)));
+    }
+
 }
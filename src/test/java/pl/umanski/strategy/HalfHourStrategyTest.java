@@ -0,0 +1,88 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Half Hour Strategy Test")
+class HalfHourStrategyTest {
+
+    private TimeFormatStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new HalfHourStrategy();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "7, 30, true",
+            "0, 30, true",
+            "7, 29, false",
+            "7, 31, false",
+            "7, 0, false",
+    })
+    @DisplayName("Should handle only half hours")
+    void shouldHandleOnlyHalfHours(int hour, int minute, boolean expected) {
+        assertEquals(expected, strategy.canHandle(new Time(hour, minute)));
+        assertEquals(expected, strategy.handlesMinute(minute));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "7, 30, half seven",
+            "19, 30, half seven",
+            "0, 30, half twelve",
+            "12, 30, half twelve",
+    })
+    @DisplayName("Should format half hours with the current hour")
+    void shouldFormatHalfHoursWithTheCurrentHour(int hour, int minute, String expected) {
+        assertEquals(expected, strategy.format(new Time(hour, minute)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "7, 30, half seven AM",
+            "19, 30, half seven PM",
+    })
+    @DisplayName("Should add the period when created with it")
+    void shouldAddThePeriodWhenCreatedWithIt(int hour, int minute, String expected) {
+        TimeFormatStrategy withPeriod = new HalfHourStrategy(TimeVocabularies.defaultVocabulary(), true);
+
+        assertEquals(expected, withPeriod.format(new Time(hour, minute)));
+    }
+
+    @Test
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent() {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(7, 30), target));
+        assertEquals("Spoken time: half seven", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should take words from the given vocabulary")
+    void shouldTakeWordsFromTheGivenVocabulary() {
+        TimeFormatStrategy american = new HalfHourStrategy(TimeVocabularies.forLocale(Locale.US), true);
+
+        assertEquals("half four PM", american.format(new Time(16, 30)));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vocabulary is null")
+    void shouldThrowExceptionWhenVocabularyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new HalfHourStrategy(null, false));
+    }
+
+}
@@ -6,8 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("Past Time Strategy Test")
 class PastTimeStrategyTest {
@@ -73,4 +78,46 @@ class PastTimeStrategyTest {
         assertEquals(expected, strategy.format(time));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "4, 15, quarter past four AM",
+            "12, 11, eleven past noon",
+            "0, 1, one past midnight",
+    })
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent(int hour, int minute, String expected) {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(hour, minute), target));
+        assertEquals("Spoken time: " + expected, target.toString());
+    }
+
+    @Test
+    @DisplayName("Should take words from the given vocabulary")
+    void shouldTakeWordsFromTheGivenVocabulary() {
+        TimeFormatStrategy american = new PastTimeStrategy(TimeVocabularies.forLocale(Locale.US));
+
+        assertEquals("quarter after four AM", american.format(new Time(4, 15)));
+        assertEquals("half after noon", american.format(new Time(12, 30)));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vocabulary is null")
+    void shouldThrowExceptionWhenVocabularyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new PastTimeStrategy(null));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "4, 15, quarter past four",
+            "16, 30, half past four",
+            "0, 1, one past midnight",
+    })
+    @DisplayName("Should omit the period when created without it")
+    void shouldOmitThePeriodWhenCreatedWithoutIt(int hour, int minute, String expected) {
+        TimeFormatStrategy withoutPeriod = new PastTimeStrategy(TimeVocabularies.defaultVocabulary(), false);
+
+        assertEquals(expected, withoutPeriod.format(new Time(hour, minute)));
+    }
+
 }
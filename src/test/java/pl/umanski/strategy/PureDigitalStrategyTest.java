@@ -0,0 +1,79 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Pure Digital Strategy Test")
+class PureDigitalStrategyTest {
+
+    private TimeFormatStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new PureDigitalStrategy();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "4, 1, true",
+            "4, 30, true",
+            "4, 59, true",
+            "4, 0, false",
+    })
+    @DisplayName("Should handle every minute except exact hours")
+    void shouldHandleEveryMinuteExceptExactHours(int hour, int minute, boolean expected) {
+        assertEquals(expected, strategy.canHandle(new Time(hour, minute)));
+        assertEquals(expected, strategy.handlesMinute(minute));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 45, four forty five PM",
+            "4, 15, four fifteen AM",
+            "7, 30, seven thirty AM",
+            "12, 5, twelve oh five PM",
+            "0, 9, twelve oh nine AM",
+            "23, 59, eleven fifty nine PM",
+    })
+    @DisplayName("Should format hours and minutes as numbers")
+    void shouldFormatHoursAndMinutesAsNumbers(int hour, int minute, String expected) {
+        assertEquals(expected, strategy.format(new Time(hour, minute)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 45, four forty five",
+            "12, 5, twelve oh five",
+    })
+    @DisplayName("Should omit the period when created without it")
+    void shouldOmitThePeriodWhenCreatedWithoutIt(int hour, int minute, String expected) {
+        TimeFormatStrategy withoutPeriod = new PureDigitalStrategy(TimeVocabularies.defaultVocabulary(), false);
+
+        assertEquals(expected, withoutPeriod.format(new Time(hour, minute)));
+    }
+
+    @Test
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent() {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(16, 45), target));
+        assertEquals("Spoken time: four forty five PM", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vocabulary is null")
+    void shouldThrowExceptionWhenVocabularyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new PureDigitalStrategy(null, true));
+    }
+
+}
@@ -0,0 +1,78 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.model.PreciseTime;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Seconds Past Strategy Test")
+class SecondsPastStrategyTest {
+
+    private PreciseTimeFormatStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new SecondsPastStrategy();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 7, 20, true",
+            "16, 0, 1, true",
+            "16, 29, 59, true",
+            "16, 7, 0, false",
+            "16, 30, 1, false",
+    })
+    @DisplayName("Should correctly identify times with seconds in the first half of the hour")
+    void shouldCorrectlyIdentifyTimesWithSecondsInTheFirstHalfOfTheHour(int hour, int minute, int second,
+                                                                         boolean expected) {
+        assertEquals(expected, strategy.canHandle(new PreciseTime(hour, minute, second)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 7, 20, seven minutes and twenty seconds past four PM",
+            "4, 1, 1, one minute and one second past four AM",
+            "4, 15, 30, fifteen minutes and thirty seconds past four AM",
+            "9, 0, 20, twenty seconds past nine AM",
+            "0, 0, 1, one second past midnight",
+            "12, 29, 59, twenty nine minutes and fifty nine seconds past noon",
+    })
+    @DisplayName("Should format minutes and seconds past the hour")
+    void shouldFormatMinutesAndSecondsPastTheHour(int hour, int minute, int second, String expected) {
+        assertEquals(expected, strategy.format(new PreciseTime(hour, minute, second)));
+    }
+
+    @Test
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent() {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new PreciseTime(16, 7, 20), target));
+        assertEquals("Spoken time: seven minutes and twenty seconds past four PM", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should take words from the given vocabulary")
+    void shouldTakeWordsFromTheGivenVocabulary() {
+        PreciseTimeFormatStrategy american = new SecondsPastStrategy(TimeVocabularies.forLocale(Locale.US));
+
+        assertEquals("seven minutes and twenty seconds after four PM", american.format(new PreciseTime(16, 7, 20)));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vocabulary is null")
+    void shouldThrowExceptionWhenVocabularyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new SecondsPastStrategy(null));
+    }
+
+}
@@ -0,0 +1,66 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.model.PreciseTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Seconds To Strategy Test")
+class SecondsToStrategyTest {
+
+    private PreciseTimeFormatStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new SecondsToStrategy();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 30, 1, true",
+            "16, 59, 59, true",
+            "16, 45, 0, false",
+            "16, 29, 59, false",
+    })
+    @DisplayName("Should correctly identify times with seconds in the second half of the hour")
+    void shouldCorrectlyIdentifyTimesWithSecondsInTheSecondHalfOfTheHour(int hour, int minute, int second,
+                                                                          boolean expected) {
+        assertEquals(expected, strategy.canHandle(new PreciseTime(hour, minute, second)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 45, 50, fourteen minutes and ten seconds to five PM",
+            "16, 30, 1, twenty nine minutes and fifty nine seconds to five PM",
+            "16, 58, 59, one minute and one second to five PM",
+            "16, 59, 40, twenty seconds to five PM",
+            "11, 59, 59, one second to noon",
+            "23, 50, 30, nine minutes and thirty seconds to midnight",
+    })
+    @DisplayName("Should format minutes and seconds to the next hour")
+    void shouldFormatMinutesAndSecondsToTheNextHour(int hour, int minute, int second, String expected) {
+        assertEquals(expected, strategy.format(new PreciseTime(hour, minute, second)));
+    }
+
+    @Test
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent() {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new PreciseTime(23, 59, 59), target));
+        assertEquals("Spoken time: one second to midnight", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vocabulary is null")
+    void shouldThrowExceptionWhenVocabularyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new SecondsToStrategy(null));
+    }
+
+}
@@ -0,0 +1,177 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.converter.BritishSpokenTimeConverter;
+import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Strategy Registry Test")
+class StrategyRegistryTest {
+
+    /**
+     * Colloquial British "half seven" for half past an hour, without period suffix.
+     */
+    private static final TimeFormatStrategy HALF_HOUR = new TimeFormatStrategy() {
+
+        @Override
+        public boolean canHandle(Time time) {
+            return time.minute() == 30;
+        }
+
+        @Override
+        public StringBuilder formatTo(Time time, StringBuilder target) {
+            return target.append("half ").append(time.hour() % 12 == 0 ? "twelve" : "h" + time.hour() % 12);
+        }
+
+    };
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, ExactHourStrategy",
+            "1, PastTimeStrategy",
+            "30, PastTimeStrategy",
+            "31, DigitalTimeStrategy",
+            "35, ToTimeStrategy",
+            "39, DigitalTimeStrategy",
+            "59, ToTimeStrategy"
+    })
+    @DisplayName("Should dispatch default strategies by minute")
+    void shouldDispatchDefaultStrategiesByMinute(int minute, String expectedStrategy) {
+        StrategyRegistry registry = StrategyRegistry.defaultRegistry();
+
+        assertEquals(expectedStrategy, registry.strategyFor(minute).getClass().getSimpleName());
+        assertSame(registry.strategyFor(minute), registry.strategyFor(Time.of(13, minute)));
+    }
+
+    @Test
+    @DisplayName("Should dispatch to the first strategy handling a time as probing in order did")
+    void shouldDispatchToTheFirstStrategyHandlingTimeAsProbingInOrderDid() {
+        StrategyRegistry registry = StrategyRegistry.defaultRegistry();
+        List<TimeFormatStrategy> strategies = BritishSpokenTimeConverter.defaultStrategies();
+
+        for (int minute = 0; minute < 60; minute++) {
+            Time time = Time.of(5, minute);
+            TimeFormatStrategy probed = strategies.stream().filter(s -> s.canHandle(time)).findFirst().orElseThrow();
+            assertEquals(probed.getClass(), registry.strategyFor(minute).getClass());
+        }
+    }
+
+    @Test
+    @DisplayName("Should list distinct strategies in order of their first minute")
+    void shouldListDistinctStrategiesInOrderOfTheirFirstMinute() {
+        List<String> names = StrategyRegistry.defaultRegistry().strategies().stream()
+                .map(strategy -> strategy.getClass().getSimpleName())
+                .toList();
+
+        assertEquals(List.of("ExactHourStrategy", "PastTimeStrategy", "DigitalTimeStrategy", "ToTimeStrategy"), names);
+    }
+
+    @Test
+    @DisplayName("Should build default strategies with the words of a vocabulary")
+    void shouldBuildDefaultStrategiesWithTheWordsOfVocabulary() {
+        StrategyRegistry registry = StrategyRegistry.defaultRegistry(TimeVocabularies.forLocale(Locale.US));
+        BritishSpokenTimeConverter converter = new BritishSpokenTimeConverter(registry);
+
+        assertEquals("quarter after seven PM", converter.convert(new Time(19, 15)));
+        assertEquals("twenty five to five PM", converter.convert(new Time(16, 35)));
+        assertEquals("noon", converter.convert(new Time(12, 0)));
+        assertThrows(IllegalArgumentException.class, () -> StrategyRegistry.defaultRegistry(null));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for minute out of range")
+    void shouldThrowExceptionForMinuteOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> StrategyRegistry.defaultRegistry().strategyFor(60));
+        assertThrows(IllegalArgumentException.class, () -> StrategyRegistry.defaultRegistry().strategyFor(-1));
+    }
+
+    @Nested
+    @DisplayName("Building a registry")
+    class BuildingRegistry {
+
+        @Test
+        @DisplayName("Should accept custom strategy for explicitly claimed minutes")
+        void shouldAcceptCustomStrategyForExplicitlyClaimedMinutes() {
+            StrategyRegistry registry = StrategyRegistry.builder()
+                    .register(new ExactHourStrategy())
+                    .register(new PastTimeStrategy(), IntStream.rangeClosed(1, 29).toArray())
+                    .register(HALF_HOUR)
+                    .register(new DigitalTimeStrategy())
+                    .register(new ToTimeStrategy())
+                    .build();
+            BritishSpokenTimeConverter converter = new BritishSpokenTimeConverter(registry);
+
+            assertEquals("half h7", converter.convert(Time.of(7, 30)));
+            assertEquals("twenty nine past seven AM", converter.convert(Time.of(7, 29)));
+            assertEquals("twenty five to eight AM", converter.convert(Time.of(7, 35)));
+        }
+
+        @Test
+        @DisplayName("Should reject overlapping strategies")
+        void shouldRejectOverlappingStrategies() {
+            StrategyRegistry.Builder builder = StrategyRegistry.builder()
+                    .register(new ExactHourStrategy())
+                    .register(new PastTimeStrategy())
+                    .register(HALF_HOUR)
+                    .register(new DigitalTimeStrategy())
+                    .register(new ToTimeStrategy());
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+            assertTrue(exception.getMessage().contains("Minute 30 is handled by more than one strategy"));
+        }
+
+        @Test
+        @DisplayName("Should reject gaps")
+        void shouldRejectGaps() {
+            StrategyRegistry.Builder builder = StrategyRegistry.builder()
+                    .register(new ExactHourStrategy())
+                    .register(new PastTimeStrategy())
+                    .register(new ToTimeStrategy());
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+            assertEquals("No strategy handles minute: 31", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject strategy handling a minute only for some hours")
+        void shouldRejectStrategyHandlingMinuteOnlyForSomeHours() {
+            TimeFormatStrategy morningOnly = new TimeFormatStrategy() {
+
+                @Override
+                public boolean canHandle(Time time) {
+                    return time.hour() < 12;
+                }
+
+                @Override
+                public StringBuilder formatTo(Time time, StringBuilder target) {
+                    return target.append("morning");
+                }
+
+            };
+
+            assertThrows(IllegalStateException.class, () -> StrategyRegistry.builder().register(morningOnly));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid registrations")
+        void shouldRejectInvalidRegistrations() {
+            StrategyRegistry.Builder builder = StrategyRegistry.builder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.register(null));
+            assertThrows(IllegalArgumentException.class, () -> builder.register(HALF_HOUR, (int[]) null));
+            assertThrows(IllegalArgumentException.class, () -> builder.register(HALF_HOUR, 60));
+        }
+
+    }
+
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import pl.umanski.model.Time;
+import pl.umanski.vocabulary.TimeVocabularies;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @DisplayName("To Time Strategy")
 class ToTimeStrategyTest {
@@ -87,4 +89,31 @@ class ToTimeStrategyTest {
         assertEquals(expected, strategy.format(time));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "11, 59, one to noon",
+            "23, 45, quarter to midnight",
+            "21, 51, nine to ten PM",
+    })
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent(int hour, int minute, String expected) {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(hour, minute), target));
+        assertEquals("Spoken time: " + expected, target.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "4, 45, quarter to five",
+            "16, 40, twenty to five",
+            "23, 45, quarter to midnight",
+    })
+    @DisplayName("Should omit the period when created without it")
+    void shouldOmitThePeriodWhenCreatedWithoutIt(int hour, int minute, String expected) {
+        TimeFormatStrategy withoutPeriod = new ToTimeStrategy(TimeVocabularies.defaultVocabulary(), false);
+
+        assertEquals(expected, withoutPeriod.format(new Time(hour, minute)));
+    }
+
 }
@@ -0,0 +1,66 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import pl.umanski.model.Time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Twenty Four Hour Strategy Test")
+class TwentyFourHourStrategyTest {
+
+    private TimeFormatStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new TwentyFourHourStrategy();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 30, 45, 59})
+    @DisplayName("Should handle every minute")
+    void shouldHandleEveryMinute(int minute) {
+        assertTrue(strategy.canHandle(new Time(13, minute)));
+        assertTrue(strategy.handlesMinute(minute));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 45, sixteen forty five",
+            "7, 30, oh seven thirty",
+            "16, 5, sixteen oh five",
+            "16, 0, sixteen hundred",
+            "0, 0, zero hundred",
+            "0, 7, zero oh seven",
+            "9, 0, oh nine hundred",
+            "12, 0, twelve hundred",
+            "23, 59, twenty three fifty nine",
+    })
+    @DisplayName("Should format hours and minutes as 24-hour numbers")
+    void shouldFormatHoursAndMinutesAs24HourNumbers(int hour, int minute, String expected) {
+        assertEquals(expected, strategy.format(new Time(hour, minute)));
+    }
+
+    @Test
+    @DisplayName("Should append formatted time after existing content")
+    void shouldAppendFormattedTimeAfterExistingContent() {
+        StringBuilder target = new StringBuilder("Spoken time: ");
+
+        assertSame(target, strategy.formatTo(new Time(16, 45), target));
+        assertEquals("Spoken time: sixteen forty five", target.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vocabulary is null")
+    void shouldThrowExceptionWhenVocabularyIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new TwentyFourHourStrategy(null));
+    }
+
+}
@@ -0,0 +1,45 @@
+package pl.umanski.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.umanski.model.PreciseTime;
+import pl.umanski.model.Time;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Whole Minute Strategy Test")
+class WholeMinuteStrategyTest {
+
+    private final PreciseTimeFormatStrategy strategy = new WholeMinuteStrategy();
+
+    @ParameterizedTest
+    @CsvSource({
+            "16, 7, 0, true",
+            "0, 0, 0, true",
+            "16, 7, 1, false",
+    })
+    @DisplayName("Should correctly identify times without seconds")
+    void shouldCorrectlyIdentifyTimesWithoutSeconds(int hour, int minute, int second, boolean expected) {
+        assertEquals(expected, strategy.canHandle(new PreciseTime(hour, minute, second)));
+    }
+
+    @Test
+    @DisplayName("Should format every minute as the minute strategies do")
+    void shouldFormatEveryMinuteAsTheMinuteStrategiesDo() {
+        StrategyRegistry registry = StrategyRegistry.defaultRegistry();
+
+        for (int minuteOfDay = 0; minuteOfDay < Time.MINUTES_PER_DAY; minuteOfDay++) {
+            Time time = Time.ofMinuteOfDay(minuteOfDay);
+            assertEquals(registry.strategyFor(time).format(time), strategy.format(PreciseTime.of(time)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw exception when registry is null")
+    void shouldThrowExceptionWhenRegistryIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new WholeMinuteStrategy(null));
+    }
+
+}
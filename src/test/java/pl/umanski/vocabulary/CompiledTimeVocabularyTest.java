@@ -0,0 +1,156 @@
+package pl.umanski.vocabulary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Compiled Time Vocabulary Test")
+class CompiledTimeVocabularyTest {
+
+    private static CompiledTimeVocabulary.Builder minimalBuilder() {
+        return CompiledTimeVocabulary.builder(Locale.UK)
+                .noon("noon")
+                .midnight("midnight")
+                .exactHourSuffix("o'clock")
+                .pastPreposition("past")
+                .toPreposition("to")
+                .periods("AM", "PM");
+    }
+
+    @Test
+    @DisplayName("Should look up configured words")
+    void shouldLookUpConfiguredWords() {
+        TimeVocabulary vocabulary = minimalBuilder()
+                .hourWord(7, "seven")
+                .minuteWord(45, "forty five")
+                .build();
+
+        assertEquals("seven", vocabulary.hourWord(7));
+        assertEquals("seven", vocabulary.hourWord(19));
+        assertEquals("forty five", vocabulary.minuteWord(45));
+        assertEquals("AM", vocabulary.period(11));
+        assertEquals("PM", vocabulary.period(12));
+        assertEquals(Locale.UK, vocabulary.locale());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 8, 12, 24})
+    @DisplayName("Should throw exception for hour without word")
+    void shouldThrowExceptionForHourWithoutWord(int hour) {
+        TimeVocabulary vocabulary = minimalBuilder().hourWord(7, "seven").build();
+
+        assertThrows(IllegalArgumentException.class, () -> vocabulary.hourWord(hour));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 35, 60, 100})
+    @DisplayName("Should throw exception for minute without word")
+    void shouldThrowExceptionForMinuteWithoutWord(int minute) {
+        TimeVocabulary vocabulary = minimalBuilder().minuteWord(34, "thirty four").build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> vocabulary.minuteWord(minute));
+        assertEquals("Minute: " + minute + " not supported in vocabulary", exception.getMessage());
+    }
+
+    @Nested
+    @DisplayName("Building vocabulary")
+    class BuildingVocabulary {
+
+        @Test
+        @DisplayName("Should reject invalid words")
+        void shouldRejectInvalidWords() {
+            assertThrows(IllegalArgumentException.class, () -> CompiledTimeVocabulary.builder(null));
+            assertThrows(IllegalArgumentException.class, () -> minimalBuilder().hourWord(0, "twelve"));
+            assertThrows(IllegalArgumentException.class, () -> minimalBuilder().hourWord(12, "twelve"));
+            assertThrows(IllegalArgumentException.class, () -> minimalBuilder().minuteWord(60, "sixty"));
+            assertThrows(IllegalArgumentException.class, () -> minimalBuilder().minuteWord(5, null));
+            assertThrows(IllegalArgumentException.class, () -> minimalBuilder().periods("AM", null));
+        }
+
+        @Test
+        @DisplayName("Should require fixed words")
+        void shouldRequireFixedWords() {
+            CompiledTimeVocabulary.Builder builder = CompiledTimeVocabulary.builder(Locale.US).noon("noon");
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+            assertTrue(exception.getMessage().contains("en-US"));
+        }
+
+        @Test
+        @DisplayName("Should not change built vocabulary when builder is reused")
+        void shouldNotChangeBuiltVocabularyWhenBuilderIsReused() {
+            CompiledTimeVocabulary.Builder builder = minimalBuilder().minuteWord(5, "five");
+            TimeVocabulary vocabulary = builder.build();
+
+            builder.minuteWord(5, "FIVE");
+
+            assertEquals("five", vocabulary.minuteWord(5));
+        }
+
+    }
+
+
+    @Nested
+    @DisplayName("Counting words")
+    class CountingWords {
+
+        private final TimeVocabulary vocabulary = minimalBuilder().build();
+
+        @ParameterizedTest
+        @CsvSource({"1, one", "15, fifteen", "20, twenty", "30, thirty", "35, thirty five", "59, fifty nine"})
+        @DisplayName("Should return cardinal number words")
+        void shouldReturnCardinalNumberWords(int number, String word) {
+            assertEquals(word, vocabulary.numberWord(number));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 60})
+        @DisplayName("Should throw exception for number out of range")
+        void shouldThrowExceptionForNumberOutOfRange(int number) {
+            assertThrows(IllegalArgumentException.class, () -> vocabulary.numberWord(number));
+        }
+
+        @Test
+        @DisplayName("Should return singular and plural units")
+        void shouldReturnSingularAndPluralUnits() {
+            assertEquals("minute", vocabulary.minuteUnit(1));
+            assertEquals("minutes", vocabulary.minuteUnit(7));
+            assertEquals("second", vocabulary.secondUnit(1));
+            assertEquals("seconds", vocabulary.secondUnit(20));
+            assertEquals("and", vocabulary.unitConjunction());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Clock words")
+    class ClockWords {
+
+        private final TimeVocabulary vocabulary = minimalBuilder().hourWord(7, "seven").build();
+
+        @ParameterizedTest
+        @CsvSource({"0, twelve", "12, twelve", "7, seven", "19, seven"})
+        @DisplayName("Should return clock-face hour words with twelve for noon and midnight")
+        void shouldReturnClockFaceHourWordsWithTwelveForNoonAndMidnight(int hour, String word) {
+            assertEquals(word, vocabulary.clockHourWord(hour));
+        }
+
+        @Test
+        @DisplayName("Should return words of spoken digits")
+        void shouldReturnWordsOfSpokenDigits() {
+            assertEquals("oh", vocabulary.leadingZero());
+            assertEquals("zero", vocabulary.zeroHour());
+            assertEquals("hundred", vocabulary.hundred());
+        }
+
+    }
+
+}
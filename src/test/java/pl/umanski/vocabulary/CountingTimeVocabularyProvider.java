@@ -0,0 +1,27 @@
+package pl.umanski.vocabulary;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test provider of a private-use locale, counting how many times its vocabulary is compiled.
+ */
+public class CountingTimeVocabularyProvider implements TimeVocabularyProvider {
+
+    static final Locale LOCALE = Locale.forLanguageTag("en-x-test");
+    static final AtomicInteger LOADS = new AtomicInteger();
+
+    @Override
+    public Locale locale() {
+        return LOCALE;
+    }
+
+    @Override
+    public TimeVocabulary load() {
+        LOADS.incrementAndGet();
+        return BritishTimeVocabulary.builder(LOCALE)
+                .noon("twelve noon")
+                .build();
+    }
+
+}
@@ -0,0 +1,64 @@
+package pl.umanski.vocabulary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Time Vocabularies Test")
+class TimeVocabulariesTest {
+
+    @Test
+    @DisplayName("Should use British vocabulary by default and for the UK")
+    void shouldUseBritishVocabularyByDefaultAndForTheUK() {
+        assertSame(BritishTimeVocabulary.vocabulary(), TimeVocabularies.defaultVocabulary());
+        assertSame(BritishTimeVocabulary.vocabulary(), TimeVocabularies.forLocale(Locale.UK));
+        assertEquals(Locale.UK, TimeVocabularies.defaultVocabulary().locale());
+    }
+
+    @Test
+    @DisplayName("Should provide American vocabulary")
+    void shouldProvideAmericanVocabulary() {
+        TimeVocabulary vocabulary = TimeVocabularies.forLocale(Locale.US);
+
+        assertEquals(Locale.US, vocabulary.locale());
+        assertEquals("after", vocabulary.pastPreposition());
+        assertEquals("to", vocabulary.toPreposition());
+        assertEquals("quarter", vocabulary.minuteWord(15));
+    }
+
+    @Test
+    @DisplayName("Should discover providers on the class path without loading their vocabularies")
+    void shouldDiscoverProvidersOnTheClassPathWithoutLoadingTheirVocabularies() {
+        assertTrue(TimeVocabularies.availableLocales().containsAll(
+                List.of(Locale.UK, Locale.US, CountingTimeVocabularyProvider.LOCALE)));
+    }
+
+    @Test
+    @DisplayName("Should compile a vocabulary once on first use")
+    void shouldCompileVocabularyOnceOnFirstUse() {
+        assertFalse(TimeVocabularies.isLoaded(CountingTimeVocabularyProvider.LOCALE));
+        assertEquals(0, CountingTimeVocabularyProvider.LOADS.get());
+
+        TimeVocabulary first = TimeVocabularies.forLocale(CountingTimeVocabularyProvider.LOCALE);
+        TimeVocabulary second = TimeVocabularies.forLocale(CountingTimeVocabularyProvider.LOCALE);
+
+        assertSame(first, second);
+        assertTrue(TimeVocabularies.isLoaded(CountingTimeVocabularyProvider.LOCALE));
+        assertEquals(1, CountingTimeVocabularyProvider.LOADS.get());
+        assertEquals("twelve noon", first.noon());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for locale without provider")
+    void shouldThrowExceptionForLocaleWithoutProvider() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TimeVocabularies.forLocale(Locale.JAPAN));
+        assertEquals("No time vocabulary for locale: ja-JP", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TimeVocabularies.forLocale(null));
+    }
+
+}